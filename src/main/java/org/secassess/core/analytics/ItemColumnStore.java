@@ -0,0 +1,132 @@
+package org.secassess.core.analytics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.cache.CacheInvalidationBus;
+import org.secassess.core.cache.CacheInvalidationMessage;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.secassess.core.repository.ItemColumnRepository;
+import org.secassess.core.repository.ItemColumnRepository.ItemRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the node's {@link ItemColumns} snapshot of all assessment items for dashboard aggregations.
+ * The snapshot is loaded in full once the application is ready and then kept current from write events:
+ * committed changes mark their assessments pending, and a scheduled pass reloads just those assessments' items
+ * and swaps in a new snapshot. Changes committed on other nodes arrive over the {@link CacheInvalidationBus}.
+ * Readers always see a complete snapshot, at most one pass behind the database.
+ */
+@Slf4j
+@Component
+public class ItemColumnStore {
+
+    public static final String CACHE_NAME = "itemColumns";
+
+    private static final int RELOAD_CHUNK = 1000;
+
+    private final ItemColumnRepository itemColumnRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private volatile ItemColumns snapshot = ItemColumns.empty();
+    private volatile boolean loaded;
+
+    public ItemColumnStore(ItemColumnRepository itemColumnRepository, TransactionTemplate transactionTemplate,
+                           CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.itemColumnRepository = itemColumnRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.invalidationBus = invalidationBus;
+
+        Gauge.builder("secassess.item.columns.rows", this, store -> store.snapshot.rows())
+                .description("Assessment items held by the columnar item store")
+                .register(meterRegistry);
+        Gauge.builder("secassess.item.columns.memory", this, store -> store.snapshot.footprintBytes())
+                .description("Estimated heap held by the columnar item store")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    public ItemColumns snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return false until the initial load has completed; the snapshot is empty until then
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long started = System.nanoTime();
+        ItemColumns.Builder builder = new ItemColumns.Builder();
+        // The cursor only streams inside a transaction
+        transactionTemplate.executeWithoutResult(status -> itemColumnRepository.streamAll(builder::add));
+        snapshot = builder.build();
+        loaded = true;
+
+        log.info("Loaded {} assessment items into the columnar store ({} bytes) in {} ms",
+                snapshot.rows(), snapshot.footprintBytes(), (System.nanoTime() - started) / 1_000_000);
+        // Changes committed while loading may or may not be in the snapshot; reloading them is harmless
+        applyPending();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssessmentsChanged(AssessmentsChangedEvent event) {
+        pending.addAll(event.assessmentIds());
+        Set<String> tags = event.assessmentIds().stream().map(UUID::toString).collect(Collectors.toSet());
+        invalidationBus.publish(CacheInvalidationMessage.tagsEvicted(nodeId, CACHE_NAME, tags));
+    }
+
+    /**
+     * Reloads the items of assessments changed since the last pass and swaps in the updated snapshot.
+     */
+    @Scheduled(fixedDelayString = "${app.item-columns.refresh-interval-ms:1000}")
+    public synchronized void applyPending() {
+        if (!loaded || pending.isEmpty()) return;
+
+        Set<UUID> changed = new HashSet<>(pending);
+        pending.removeAll(changed);
+
+        List<UUID> ids = new ArrayList<>(changed);
+        List<ItemRow> reloaded = new ArrayList<>();
+        try {
+            for (int from = 0; from < ids.size(); from += RELOAD_CHUNK) {
+                itemColumnRepository.streamByAssessmentIds(
+                        ids.subList(from, Math.min(ids.size(), from + RELOAD_CHUNK)), reloaded::add);
+            }
+        } catch (RuntimeException ex) {
+            // Retried on the next pass
+            pending.addAll(changed);
+            throw ex;
+        }
+        snapshot = snapshot.replaceAssessments(changed, reloaded);
+
+        log.debug("Reloaded {} items of {} changed assessments into the columnar store", reloaded.size(), changed.size());
+    }
+
+    private void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin()) || !CACHE_NAME.equals(message.cacheName())) return;
+        message.tags().forEach(tag -> pending.add(UUID.fromString(tag)));
+    }
+}
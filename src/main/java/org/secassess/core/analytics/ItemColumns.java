@@ -0,0 +1,277 @@
+package org.secassess.core.analytics;
+
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.ItemColumnRepository.ItemRow;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable column-oriented snapshot of every assessment item, one primitive array per attribute.
+ * Row i of every column describes the same item. Sections and assessments are dictionary-coded;
+ * each assessment code indexes the per-assessment columns holding its ID, project and organization.
+ * Codes are only meaningful within one snapshot, since compaction renumbers them.
+ * <p>
+ * A row costs 12 bytes: score (byte, {@link #NO_SCORE} when unscored), weight in hundredths (short), severity ordinal (byte),
+ * section code (int) and assessment code (int).
+ */
+public final class ItemColumns {
+
+    public static final byte NO_SCORE = -1;
+    public static final int SEVERITIES = Severity.values().length;
+
+    private static final int UUID_BYTES = 32;
+    // Share of a dictionary that may be unreferenced by any row before an incremental update compacts it
+    private static final int MAX_DEAD_CODES_PERCENT = 25;
+
+    final int rows;
+    final byte[] scores;
+    final short[] weights;
+    final byte[] severities;
+    final int[] sections;
+    final int[] assessments;
+
+    final String[] sectionNames;
+    final UUID[] assessmentIds;
+    final long[] assessmentProjects;
+    final int[] assessmentOrganizations;
+    final UUID[] organizationIds;
+
+    private final Instant builtAt;
+
+    private ItemColumns(Builder builder) {
+        this.rows = builder.rows;
+        this.scores = Arrays.copyOf(builder.scores, rows);
+        this.weights = Arrays.copyOf(builder.weights, rows);
+        this.severities = Arrays.copyOf(builder.severities, rows);
+        this.sections = Arrays.copyOf(builder.sections, rows);
+        this.assessments = Arrays.copyOf(builder.assessments, rows);
+        this.sectionNames = builder.sectionNames.toArray(String[]::new);
+        this.assessmentIds = builder.assessmentIds.toArray(UUID[]::new);
+        this.assessmentProjects = Arrays.copyOf(builder.assessmentProjects, assessmentIds.length);
+        this.assessmentOrganizations = Arrays.copyOf(builder.assessmentOrganizations, assessmentIds.length);
+        this.organizationIds = builder.organizationIds.toArray(UUID[]::new);
+        this.builtAt = Instant.now();
+    }
+
+    public static ItemColumns empty() {
+        return new Builder().build();
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int sectionCount() {
+        return sectionNames.length;
+    }
+
+    public String sectionName(int code) {
+        return sectionNames[code];
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * Estimated heap held by the columns and dictionaries, excluding object headers of the arrays.
+     */
+    public long footprintBytes() {
+        long columns = (long) rows * (Byte.BYTES + Short.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES);
+        long assessmentDictionary = (long) assessmentIds.length * (UUID_BYTES + Long.BYTES + Integer.BYTES);
+        long organizationDictionary = (long) organizationIds.length * UUID_BYTES;
+        long sectionDictionary = Arrays.stream(sectionNames).mapToLong(name -> 40L + 2L * name.length()).sum();
+        return columns + assessmentDictionary + organizationDictionary + sectionDictionary;
+    }
+
+    /**
+     * Returns a snapshot without the rows of the changed assessments, plus their reloaded rows.
+     * Dictionary codes are kept, so rows left untouched are copied column by column. Codes of deleted assessments and
+     * emptied sections stay behind, so once they pass a quarter of a dictionary the snapshot is
+     * re-coded without them.
+     */
+    public ItemColumns replaceAssessments(Set<UUID> changed, List<ItemRow> reloaded) {
+        Builder builder = new Builder(this);
+        boolean[] dropped = new boolean[assessmentIds.length];
+        for (UUID assessmentId : changed) {
+            Integer code = builder.assessmentCodes.get(assessmentId);
+            if (code != null) dropped[code] = true;
+        }
+
+        builder.ensureCapacity(rows + reloaded.size());
+        int kept = 0;
+        for (int row = 0; row < rows; row++) {
+            if (dropped[assessments[row]]) continue;
+            builder.scores[kept] = scores[row];
+            builder.weights[kept] = weights[row];
+            builder.severities[kept] = severities[row];
+            builder.sections[kept] = sections[row];
+            builder.assessments[kept] = assessments[row];
+            kept++;
+        }
+        builder.rows = kept;
+
+        reloaded.forEach(builder::add);
+        return builder.compactIfSparse().build();
+    }
+
+    /**
+     * Growable columns and dictionaries from which snapshots are built.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int rows;
+        private byte[] scores = new byte[INITIAL_CAPACITY];
+        private short[] weights = new short[INITIAL_CAPACITY];
+        private byte[] severities = new byte[INITIAL_CAPACITY];
+        private int[] sections = new int[INITIAL_CAPACITY];
+        private int[] assessments = new int[INITIAL_CAPACITY];
+
+        private final List<String> sectionNames = new ArrayList<>();
+        private final Map<String, Integer> sectionCodes = new HashMap<>();
+        private final List<UUID> assessmentIds = new ArrayList<>();
+        private final Map<UUID, Integer> assessmentCodes = new HashMap<>();
+        private long[] assessmentProjects = new long[INITIAL_CAPACITY];
+        private int[] assessmentOrganizations = new int[INITIAL_CAPACITY];
+        private final List<UUID> organizationIds = new ArrayList<>();
+        private final Map<UUID, Integer> organizationCodes = new HashMap<>();
+
+        public Builder() {
+        }
+
+        private Builder(ItemColumns base) {
+            for (String section : base.sectionNames) {
+                sectionCode(section);
+            }
+            for (UUID organizationId : base.organizationIds) {
+                organizationCode(organizationId);
+            }
+            for (int code = 0; code < base.assessmentIds.length; code++) {
+                assessmentCode(base.assessmentIds[code], base.assessmentProjects[code],
+                        base.organizationIds[base.assessmentOrganizations[code]]);
+            }
+        }
+
+        public Builder add(ItemRow row) {
+            ensureCapacity(rows + 1);
+            scores[rows] = row.score() != null ? row.score().byteValue() : NO_SCORE;
+            weights[rows] = (short) row.weightHundredths();
+            severities[rows] = (byte) row.severity().ordinal();
+            sections[rows] = sectionCode(row.section());
+            assessments[rows] = assessmentCode(row.assessmentId(), row.projectId(), row.organizationId());
+            rows++;
+            return this;
+        }
+
+        public ItemColumns build() {
+            return new ItemColumns(this);
+        }
+
+        /**
+         * Returns this builder, or a copy without unreferenced section and assessment codes if either dictionary holds
+         * too many. Organizations only lose their last row with their last assessment, so they are compacted along.
+         */
+        private Builder compactIfSparse() {
+            boolean[] liveSections = new boolean[sectionNames.size()];
+            boolean[] liveAssessments = new boolean[assessmentIds.size()];
+            int deadSections = liveSections.length;
+            int deadAssessments = liveAssessments.length;
+            for (int row = 0; row < rows; row++) {
+                if (!liveSections[sections[row]]) {
+                    liveSections[sections[row]] = true;
+                    deadSections--;
+                }
+                if (!liveAssessments[assessments[row]]) {
+                    liveAssessments[assessments[row]] = true;
+                    deadAssessments--;
+                }
+            }
+            if (deadSections * 100L <= (long) liveSections.length * MAX_DEAD_CODES_PERCENT
+                    && deadAssessments * 100L <= (long) liveAssessments.length * MAX_DEAD_CODES_PERCENT) {
+                return this;
+            }
+            return compacted();
+        }
+
+        /**
+         * Copies the rows into a fresh builder, re-coding sections and assessments in order of first use.
+         */
+        private Builder compacted() {
+            Builder compacted = new Builder();
+            compacted.ensureCapacity(rows);
+            int[] sectionRemap = new int[sectionNames.size()];
+            int[] assessmentRemap = new int[assessmentIds.size()];
+            Arrays.fill(sectionRemap, -1);
+            Arrays.fill(assessmentRemap, -1);
+
+            for (int row = 0; row < rows; row++) {
+                int section = sections[row];
+                if (sectionRemap[section] < 0) {
+                    sectionRemap[section] = compacted.sectionCode(sectionNames.get(section));
+                }
+                int assessment = assessments[row];
+                if (assessmentRemap[assessment] < 0) {
+                    assessmentRemap[assessment] = compacted.assessmentCode(assessmentIds.get(assessment),
+                            assessmentProjects[assessment], organizationIds.get(assessmentOrganizations[assessment]));
+                }
+                compacted.scores[row] = scores[row];
+                compacted.weights[row] = weights[row];
+                compacted.severities[row] = severities[row];
+                compacted.sections[row] = sectionRemap[section];
+                compacted.assessments[row] = assessmentRemap[assessment];
+            }
+            compacted.rows = rows;
+            return compacted;
+        }
+
+        private int sectionCode(String section) {
+            return sectionCodes.computeIfAbsent(section, s -> {
+                sectionNames.add(s);
+                return sectionNames.size() - 1;
+            });
+        }
+
+        private int organizationCode(UUID organizationId) {
+            return organizationCodes.computeIfAbsent(organizationId, id -> {
+                organizationIds.add(id);
+                return organizationIds.size() - 1;
+            });
+        }
+
+        private int assessmentCode(UUID assessmentId, long projectId, UUID organizationId) {
+            Integer existing = assessmentCodes.get(assessmentId);
+            if (existing != null) return existing;
+
+            int code = assessmentIds.size();
+            if (code == assessmentProjects.length) {
+                assessmentProjects = Arrays.copyOf(assessmentProjects, code * 2);
+                assessmentOrganizations = Arrays.copyOf(assessmentOrganizations, code * 2);
+            }
+            assessmentIds.add(assessmentId);
+            assessmentCodes.put(assessmentId, code);
+            assessmentProjects[code] = projectId;
+            assessmentOrganizations[code] = organizationCode(organizationId);
+            return code;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= scores.length) return;
+
+            int grown = Math.max(capacity, scores.length + (scores.length >> 1));
+            scores = Arrays.copyOf(scores, grown);
+            weights = Arrays.copyOf(weights, grown);
+            severities = Arrays.copyOf(severities, grown);
+            sections = Arrays.copyOf(sections, grown);
+            assessments = Arrays.copyOf(assessments, grown);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.secassess.core.analytics;
+
+/**
+ * Mergeable per-(section, severity) item counts and score distribution over an {@link ItemColumns} snapshot.
+ * Group g = section code * {@link ItemColumns#SEVERITIES} + severity ordinal indexes every counter array, and
+ * the score bands of group g start at g * {@link PortfolioRollup#SCORE_BANDS}. Weights are summed in hundredths.
+ */
+public final class ItemHistogram {
+
+    final long[] items;
+    final long[] scored;
+    final long[] scoredWeightSum;
+    final long[] weightedScoreSum;
+    final long[] bands;
+
+    ItemHistogram(int sectionCount) {
+        int groups = sectionCount * ItemColumns.SEVERITIES;
+        this.items = new long[groups];
+        this.scored = new long[groups];
+        this.scoredWeightSum = new long[groups];
+        this.weightedScoreSum = new long[groups];
+        this.bands = new long[groups * PortfolioRollup.SCORE_BANDS];
+    }
+
+    public int groups() {
+        return items.length;
+    }
+
+    public long items(int group) {
+        return items[group];
+    }
+
+    public long scored(int group) {
+        return scored[group];
+    }
+
+    public long scoredWeightSum(int group) {
+        return scoredWeightSum[group];
+    }
+
+    public long weightedScoreSum(int group) {
+        return weightedScoreSum[group];
+    }
+
+    public long band(int group, int band) {
+        return bands[group * PortfolioRollup.SCORE_BANDS + band];
+    }
+
+    ItemHistogram merge(ItemHistogram other) {
+        add(items, other.items);
+        add(scored, other.scored);
+        add(scoredWeightSum, other.scoredWeightSum);
+        add(weightedScoreSum, other.weightedScoreSum);
+        add(bands, other.bands);
+        return this;
+    }
+
+    private static void add(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
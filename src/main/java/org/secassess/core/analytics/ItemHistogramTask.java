@@ -0,0 +1,84 @@
+package org.secassess.core.analytics;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join aggregation of an {@link ItemColumns} snapshot into an {@link ItemHistogram}. The row range is split in
+ * halves down to segments of the configured size; each segment is scanned on one thread into its own histogram,
+ * and sibling histograms are merged.
+ */
+public class ItemHistogramTask extends RecursiveTask<ItemHistogram> {
+
+    private final ItemColumns columns;
+    private final ItemSelection selection;
+    private final int from;
+    private final int to;
+    private final int segmentSize;
+
+    public ItemHistogramTask(ItemColumns columns, ItemSelection selection, int segmentSize) {
+        this(columns, selection, 0, columns.rows, Math.max(1, segmentSize));
+    }
+
+    private ItemHistogramTask(ItemColumns columns, ItemSelection selection, int from, int to, int segmentSize) {
+        this.columns = columns;
+        this.selection = selection;
+        this.from = from;
+        this.to = to;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    protected ItemHistogram compute() {
+        if (to - from <= segmentSize) {
+            return scan();
+        }
+
+        int middle = (from + to) >>> 1;
+        ItemHistogramTask left = new ItemHistogramTask(columns, selection, from, middle, segmentSize);
+        ItemHistogramTask right = new ItemHistogramTask(columns, selection, middle, to, segmentSize);
+        left.fork();
+        return right.compute().merge(left.join());
+    }
+
+    /**
+     * Scans one segment. Only the filter tests branch; the scored/unscored split is folded into arithmetic
+     * so the counter updates stay a straight-line sequence over the primitive columns.
+     */
+    private ItemHistogram scan() {
+        ItemHistogram histogram = new ItemHistogram(columns.sectionCount());
+        boolean[] assessmentMask = selection.assessments();
+        boolean[] sectionMask = selection.sections();
+        int severityMask = selection.severityMask();
+
+        byte[] scores = columns.scores;
+        short[] weights = columns.weights;
+        byte[] severities = columns.severities;
+        int[] sections = columns.sections;
+        int[] assessments = columns.assessments;
+
+        for (int row = from; row < to; row++) {
+            int severity = severities[row];
+            int section = sections[row];
+            if ((severityMask >>> severity & 1) == 0
+                    || (sectionMask != null && !sectionMask[section])
+                    || (assessmentMask != null && !assessmentMask[assessments[row]])) {
+                continue;
+            }
+
+            int group = section * ItemColumns.SEVERITIES + severity;
+            int score = scores[row];
+            // 1 for a scored item, 0 for NO_SCORE
+            int isScored = ~score >>> 31;
+            int effectiveScore = score * isScored;
+            long weight = weights[row] * isScored;
+
+            histogram.items[group]++;
+            histogram.scored[group] += isScored;
+            histogram.scoredWeightSum[group] += weight;
+            histogram.weightedScoreSum[group] += weight * effectiveScore;
+            histogram.bands[group * PortfolioRollup.SCORE_BANDS
+                    + Math.min(PortfolioRollup.SCORE_BANDS - 1, effectiveScore / 10)] += isScored;
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,49 @@
+package org.secassess.core.analytics;
+
+import org.secassess.core.enums.Severity;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Filter over an {@link ItemColumns} snapshot, resolved once against its dictionaries so the row loop only does
+ * array lookups and bit tests. A null mask selects everything on that dimension.
+ *
+ * @param assessments  per assessment code, whether its organization and project match
+ * @param sections     per section code, whether the section was asked for
+ * @param severityMask bit per severity ordinal
+ */
+public record ItemSelection(boolean[] assessments, boolean[] sections, int severityMask) {
+
+    private static final int ALL_SEVERITIES = (1 << ItemColumns.SEVERITIES) - 1;
+
+    public static ItemSelection resolve(ItemColumns columns, UUID organizationId, Long projectId,
+                                        Collection<String> sections, Collection<Severity> severities) {
+        boolean[] assessmentMask = null;
+        if (organizationId != null || projectId != null) {
+            assessmentMask = new boolean[columns.assessmentIds.length];
+            for (int code = 0; code < assessmentMask.length; code++) {
+                assessmentMask[code] = (projectId == null || columns.assessmentProjects[code] == projectId)
+                        && (organizationId == null
+                        || organizationId.equals(columns.organizationIds[columns.assessmentOrganizations[code]]));
+            }
+        }
+
+        boolean[] sectionMask = null;
+        if (sections != null && !sections.isEmpty()) {
+            sectionMask = new boolean[columns.sectionNames.length];
+            for (int code = 0; code < sectionMask.length; code++) {
+                sectionMask[code] = sections.contains(columns.sectionNames[code]);
+            }
+        }
+
+        int severityMask = ALL_SEVERITIES;
+        if (severities != null && !severities.isEmpty()) {
+            severityMask = 0;
+            for (Severity severity : severities) {
+                severityMask |= 1 << severity.ordinal();
+            }
+        }
+        return new ItemSelection(assessmentMask, sectionMask, severityMask);
+    }
+}
@@ -0,0 +1,102 @@
+package org.secassess.core.analytics;
+
+import lombok.Getter;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.secassess.core.scoring.ScoreCalculator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mergeable risk-posture totals over a set of assessments. Score sums are weighted like {@link ScoreCalculator} does,
+ * by item weight times severity multiplier, and each scored assessment is counted in one 10-point score band.
+ * Not thread-safe; partial rollups are built on one thread each and then merged.
+ */
+@Getter
+public class PortfolioRollup {
+
+    public static final int SCORE_BANDS = 10;
+
+    private int assessments;
+    private int scoredAssessments;
+    private int totalItems;
+    private int scoredItems;
+    private int unscoredHighItems;
+    private BigDecimal weightedScoreSum = BigDecimal.ZERO;
+    private BigDecimal weightSum = BigDecimal.ZERO;
+    private final int[] scoreHistogram = new int[SCORE_BANDS];
+    private final Map<String, SectionTotals> sections = new HashMap<>();
+
+    public void addAssessment(List<ScoreBucket> buckets, ScoreCalculator scoreCalculator) {
+        BigDecimal assessmentScoreSum = BigDecimal.ZERO;
+        BigDecimal assessmentWeightSum = BigDecimal.ZERO;
+        int assessmentScoredItems = 0;
+
+        for (ScoreBucket bucket : buckets) {
+            BigDecimal multiplier = scoreCalculator.multiplier(bucket.severity());
+            BigDecimal scoreSum = bucket.weightedScoreSum().multiply(multiplier);
+            BigDecimal weight = bucket.scoredWeightSum().multiply(multiplier);
+
+            assessmentScoreSum = assessmentScoreSum.add(scoreSum);
+            assessmentWeightSum = assessmentWeightSum.add(weight);
+            assessmentScoredItems += bucket.scoredItems();
+            totalItems += bucket.totalItems();
+            if (bucket.severity() == Severity.HIGH) {
+                unscoredHighItems += bucket.totalItems() - bucket.scoredItems();
+            }
+            sections.computeIfAbsent(bucket.section(), s -> new SectionTotals())
+                    .add(bucket.totalItems(), bucket.scoredItems(), scoreSum, weight);
+        }
+
+        assessments++;
+        scoredItems += assessmentScoredItems;
+        weightedScoreSum = weightedScoreSum.add(assessmentScoreSum);
+        weightSum = weightSum.add(assessmentWeightSum);
+        if (assessmentScoredItems > 0 && assessmentWeightSum.signum() > 0) {
+            scoredAssessments++;
+            scoreHistogram[band(assessmentScoreSum.divide(assessmentWeightSum, 2, RoundingMode.HALF_UP))]++;
+        }
+    }
+
+    public PortfolioRollup merge(PortfolioRollup other) {
+        assessments += other.assessments;
+        scoredAssessments += other.scoredAssessments;
+        totalItems += other.totalItems;
+        scoredItems += other.scoredItems;
+        unscoredHighItems += other.unscoredHighItems;
+        weightedScoreSum = weightedScoreSum.add(other.weightedScoreSum);
+        weightSum = weightSum.add(other.weightSum);
+        for (int i = 0; i < SCORE_BANDS; i++) {
+            scoreHistogram[i] += other.scoreHistogram[i];
+        }
+        other.sections.forEach((section, totals) -> sections.computeIfAbsent(section, s -> new SectionTotals())
+                .add(totals.totalItems, totals.scoredItems, totals.weightedScoreSum, totals.weightSum));
+        return this;
+    }
+
+    /**
+     * Band of a 0-100 score; a perfect score falls into the last band.
+     */
+    public static int band(BigDecimal score) {
+        return Math.min(SCORE_BANDS - 1, Math.max(0, score.intValue() / (100 / SCORE_BANDS)));
+    }
+
+    @Getter
+    public static class SectionTotals {
+        private int totalItems;
+        private int scoredItems;
+        private BigDecimal weightedScoreSum = BigDecimal.ZERO;
+        private BigDecimal weightSum = BigDecimal.ZERO;
+
+        void add(int totalItems, int scoredItems, BigDecimal weightedScoreSum, BigDecimal weightSum) {
+            this.totalItems += totalItems;
+            this.scoredItems += scoredItems;
+            this.weightedScoreSum = this.weightedScoreSum.add(weightedScoreSum);
+            this.weightSum = this.weightSum.add(weightSum);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.secassess.core.analytics;
+
+import org.secassess.core.repository.PortfolioRollupRepository.AssessmentBuckets;
+import org.secassess.core.scoring.ScoreCalculator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join rollup of assessments into one {@link PortfolioRollup} per project. The assessment list is split in halves
+ * until a partition is small enough to aggregate on one thread; sibling results are then merged pairwise.
+ */
+public class PortfolioRollupTask extends RecursiveTask<Map<Long, PortfolioRollup>> {
+
+    private final List<AssessmentBuckets> assessments;
+    private final ScoreCalculator scoreCalculator;
+    private final int partitionSize;
+
+    public PortfolioRollupTask(List<AssessmentBuckets> assessments, ScoreCalculator scoreCalculator, int partitionSize) {
+        this.assessments = assessments;
+        this.scoreCalculator = scoreCalculator;
+        this.partitionSize = Math.max(1, partitionSize);
+    }
+
+    @Override
+    protected Map<Long, PortfolioRollup> compute() {
+        if (assessments.size() <= partitionSize) {
+            Map<Long, PortfolioRollup> rollups = new HashMap<>();
+            for (AssessmentBuckets assessment : assessments) {
+                rollups.computeIfAbsent(assessment.projectId(), p -> new PortfolioRollup())
+                        .addAssessment(assessment.buckets(), scoreCalculator);
+            }
+            return rollups;
+        }
+
+        int middle = assessments.size() / 2;
+        PortfolioRollupTask left = new PortfolioRollupTask(assessments.subList(0, middle), scoreCalculator, partitionSize);
+        PortfolioRollupTask right = new PortfolioRollupTask(
+                assessments.subList(middle, assessments.size()), scoreCalculator, partitionSize);
+        left.fork();
+        Map<Long, PortfolioRollup> merged = right.compute();
+        left.join().forEach((projectId, rollup) -> merged.merge(projectId, rollup, PortfolioRollup::merge));
+        return merged;
+    }
+}
@@ -0,0 +1,387 @@
+package org.secassess.core.autosave;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.ItemScoreUpdateDto;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.secassess.core.repository.AssessmentItemBulkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Write-behind buffer for item autosaves. Edits are coalesced per item, so a burst of saves to the same item becomes
+ * one write carrying the latest score and notes, and are flushed in batches once they have waited for the window.
+ * <p>
+ * The buffer is split into lock-striped segments chosen by assessment, so concurrent editors of different assessments
+ * rarely contend and all pending edits of one assessment can be flushed without scanning the others. Flushes of one
+ * stripe are serialized, so edits of an item reach the database in the order they were made, and a reader that flushes
+ * an assessment waits for a flush of it already under way.
+ * Per-assessment reads flush the assessment's pending edits first, which gives a client read-your-writes on the node
+ * holding them. Everything still pending is flushed on shutdown. Edits are held in memory only, so a crash loses at
+ * most one window.
+ */
+@Slf4j
+@Component
+public class ItemAutosaveBuffer {
+
+    private final AssessmentItemBulkRepository itemBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate flushTransaction;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxPending;
+    private final Stripe[] stripes;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter queued;
+    private final Counter coalesced;
+    private final Counter rejected;
+    private final Counter flushed;
+    private final Counter flushFailures;
+
+    public ItemAutosaveBuffer(AssessmentItemBulkRepository itemBulkRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.item-autosave.write-behind.enabled:false}") boolean enabled,
+                              @Value("${app.item-autosave.window:PT2S}") Duration window,
+                              @Value("${app.item-autosave.max-pending:10000}") int maxPending,
+                              @Value("${app.item-autosave.stripes:16}") int stripes) {
+        this.itemBulkRepository = itemBulkRepository;
+        this.eventPublisher = eventPublisher;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxPending = maxPending;
+
+        // A power of two, so a stripe is picked with a mask
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+
+        this.queued = editCounter(meterRegistry, "queued");
+        this.coalesced = editCounter(meterRegistry, "coalesced");
+        this.rejected = editCounter(meterRegistry, "rejected");
+        this.flushed = Counter.builder("secassess.item.autosave.flushed")
+                .description("Coalesced item edits written by the write-behind buffer")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("secassess.item.autosave.flush.failures")
+                .description("Write-behind batches that failed and were requeued")
+                .register(meterRegistry);
+        Gauge.builder("secassess.item.autosave.backlog", pending, AtomicInteger::get)
+                .description("Items with edits waiting in the write-behind buffer")
+                .register(meterRegistry);
+        Gauge.builder("secassess.item.autosave.oldest.age", this, ItemAutosaveBuffer::oldestAgeSeconds)
+                .description("Age of the oldest edit waiting in the write-behind buffer")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the edit, merging it into any edit of the same item that is still pending.
+     *
+     * @return false if the buffer is disabled or full, in which case the caller must write the edit itself
+     */
+    public boolean offer(UUID assessmentId, ItemScoreUpdateDto update) {
+        if (!enabled) return false;
+
+        Stripe stripe = stripe(assessmentId);
+        stripe.lock.lock();
+        try {
+            PendingEdit existing = stripe.edits.get(update.getItemId());
+            if (existing != null) {
+                existing.merge(update);
+                coalesced.increment();
+                return true;
+            }
+            // Items already pending always coalesce, so a full buffer only turns away new items
+            if (pending.get() >= maxPending) {
+                rejected.increment();
+                return false;
+            }
+            stripe.edits.put(update.getItemId(), new PendingEdit(assessmentId, update, System.nanoTime()));
+            pending.incrementAndGet();
+            queued.increment();
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes an edit the buffer turned away, in the caller's transaction. Runs under the stripe's flush lock, so a flush
+     * of an older edit of the item that is under way commits first instead of landing on top of this one. An edit of
+     * the item still pending, e.g. requeued by a failed flush, is folded in beneath this one and requeued if the
+     * caller's transaction rolls back.
+     *
+     * @return the ID of the item, or an empty list if it is no longer in the assessment
+     */
+    public List<UUID> writeThrough(UUID assessmentId, ItemScoreUpdateDto update) {
+        if (!enabled) return itemBulkRepository.updateScores(assessmentId, List.of(update));
+
+        Stripe stripe = stripe(assessmentId);
+        stripe.flushLock.lock();
+        try {
+            PendingEdit older;
+            stripe.lock.lock();
+            try {
+                older = stripe.edits.remove(update.getItemId());
+                if (older != null) pending.decrementAndGet();
+            } finally {
+                stripe.lock.unlock();
+            }
+
+            PendingEdit edit = new PendingEdit(assessmentId, update, System.nanoTime());
+            if (older != null) {
+                edit.underlay(older);
+                requeueOnRollback(stripe, older);
+            }
+            return itemBulkRepository.updateScores(assessmentId, List.of(edit.toUpdate()));
+        } finally {
+            stripe.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the pending edits of the assessment now; called before the assessment is read.
+     * Must be called outside a transaction: the flush commits on its own, and holding a second pooled connection
+     * per read would exhaust the pool under load.
+     */
+    public void flushAssessment(UUID assessmentId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Autosaved edits must be flushed before a transaction is started");
+        }
+        if (!enabled) return;
+
+        flush(stripe(assessmentId), edit -> edit.assessmentId.equals(assessmentId));
+    }
+
+    /**
+     * Writes edits that have waited at least the window, in one batch per assessment.
+     */
+    @Scheduled(fixedDelayString = "${app.item-autosave.flush-interval-ms:500}")
+    public void flushDue() {
+        if (!enabled || pending.get() == 0) return;
+
+        long dueBefore = System.nanoTime() - windowNanos;
+        for (Stripe stripe : stripes) {
+            flush(stripe, edit -> edit.queuedAt - dueBefore <= 0);
+        }
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        if (!enabled) return;
+
+        if (pending.get() > 0) {
+            log.info("Flushing {} pending item edits on shutdown", pending.get());
+        }
+        for (Stripe stripe : stripes) {
+            flush(stripe, edit -> true);
+        }
+    }
+
+    public int backlog() {
+        return pending.get();
+    }
+
+    /**
+     * Drains the matching edits of the stripe and writes them. The stripe's flush lock is held until failed edits are
+     * requeued, so no other flush can write a newer edit of the same item in between and be overwritten by a retry.
+     */
+    private void flush(Stripe stripe, Predicate<PendingEdit> filter) {
+        stripe.flushLock.lock();
+        try {
+            List<PendingEdit> edits;
+            stripe.lock.lock();
+            try {
+                edits = stripe.drain(filter);
+            } finally {
+                stripe.lock.unlock();
+            }
+            write(stripe, edits);
+        } finally {
+            stripe.flushLock.unlock();
+        }
+    }
+
+    private void write(Stripe stripe, List<PendingEdit> edits) {
+        if (edits.isEmpty()) return;
+
+        Map<UUID, List<PendingEdit>> byAssessment = new LinkedHashMap<>();
+        for (PendingEdit edit : edits) {
+            byAssessment.computeIfAbsent(edit.assessmentId, id -> new ArrayList<>()).add(edit);
+        }
+
+        byAssessment.forEach((assessmentId, batch) -> {
+            try {
+                int written = flushTransaction.execute(status -> {
+                    List<UUID> updated = itemBulkRepository.updateScores(assessmentId,
+                            batch.stream().map(PendingEdit::toUpdate).toList());
+                    if (!updated.isEmpty()) {
+                        eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
+                    }
+                    return updated.size();
+                });
+                flushed.increment(written);
+                if (written < batch.size()) {
+                    log.warn("Dropped {} autosaved edits for items no longer in Assessment: {}", batch.size() - written, assessmentId);
+                }
+            } catch (RuntimeException ex) {
+                flushFailures.increment();
+                log.error("Failed to flush {} autosaved edits of Assessment: {}. Requeueing", batch.size(), assessmentId, ex);
+                requeue(stripe, batch);
+            }
+        });
+    }
+
+    /**
+     * Puts failed edits back, underneath any newer edit of the same item queued since. Called under the flush lock.
+     */
+    private void requeue(Stripe stripe, List<PendingEdit> failed) {
+        stripe.lock.lock();
+        try {
+            for (PendingEdit edit : failed) {
+                PendingEdit newer = stripe.edits.get(edit.itemId);
+                if (newer == null) {
+                    stripe.edits.put(edit.itemId, edit);
+                    pending.incrementAndGet();
+                } else {
+                    newer.underlay(edit);
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void requeueOnRollback(Stripe stripe, PendingEdit edit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) return;
+                stripe.flushLock.lock();
+                try {
+                    requeue(stripe, List.of(edit));
+                } finally {
+                    stripe.flushLock.unlock();
+                }
+            }
+        });
+    }
+
+    private double oldestAgeSeconds() {
+        long now = System.nanoTime();
+        long oldest = now;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                // Insertion order, so the first edit is the oldest of the stripe
+                Iterator<PendingEdit> edits = stripe.edits.values().iterator();
+                if (edits.hasNext()) {
+                    long queuedAt = edits.next().queuedAt;
+                    if (queuedAt - oldest < 0) oldest = queuedAt;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return (now - oldest) / 1_000_000_000.0;
+    }
+
+    private Stripe stripe(UUID assessmentId) {
+        int hash = assessmentId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static Counter editCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("secassess.item.autosave.edits")
+                .description("Item edits offered to the write-behind buffer")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private final class Stripe {
+        // Serializes flushes of the stripe; taken before lock, never while holding it
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final ReentrantLock lock = new ReentrantLock();
+        // Guarded by lock; insertion-ordered, so the oldest edits come first
+        private final Map<UUID, PendingEdit> edits = new LinkedHashMap<>();
+
+        List<PendingEdit> drain(Predicate<PendingEdit> filter) {
+            List<PendingEdit> drained = new ArrayList<>();
+            Iterator<PendingEdit> iterator = edits.values().iterator();
+            while (iterator.hasNext()) {
+                PendingEdit edit = iterator.next();
+                if (filter.test(edit)) {
+                    drained.add(edit);
+                    iterator.remove();
+                }
+            }
+            pending.addAndGet(-drained.size());
+            return drained;
+        }
+    }
+
+    /**
+     * Latest score and notes of one item; a null field keeps the stored value. Guarded by its stripe's lock.
+     */
+    private static final class PendingEdit {
+        private final UUID itemId;
+        private final UUID assessmentId;
+        private final long queuedAt;
+        private Integer score;
+        private String notes;
+
+        PendingEdit(UUID assessmentId, ItemScoreUpdateDto update, long queuedAt) {
+            this.itemId = update.getItemId();
+            this.assessmentId = assessmentId;
+            this.queuedAt = queuedAt;
+            this.score = update.getScore();
+            this.notes = update.getNotes();
+        }
+
+        void merge(ItemScoreUpdateDto update) {
+            if (update.getScore() != null) score = update.getScore();
+            if (update.getNotes() != null) notes = update.getNotes();
+        }
+
+        void underlay(PendingEdit older) {
+            if (score == null) score = older.score;
+            if (notes == null) notes = older.notes;
+        }
+
+        ItemScoreUpdateDto toUpdate() {
+            return ItemScoreUpdateDto.builder().itemId(itemId).score(score).notes(notes).build();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package org.secassess.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Cache of assessment list pages keyed by the full pageable and filters.
+ * Every entry is tagged with the IDs of the assessments it contains and the fields it filters or sorts on,
+ * so a committed write evicts only the pages it can affect. A global invalidation sequence keeps a read
+ * that raced a write from caching what it loaded before the write committed.
+ * <p>
+ * The tag index is local to each node. Evicted tags are broadcast on the {@link CacheInvalidationBus}, so every node evicts
+ * the pages it indexed, and a page another node put into the shared cache is adopted into the local index on first hit.
+ */
+@Slf4j
+@Component
+public class AssessmentListCache {
+
+    public static final String CACHE_NAME = "assessmentList";
+
+    private static final String ID_TAG = "id:";
+    private static final String FIELD_TAG = "field:";
+
+    private final Cache cache;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int maxEntries;
+    private final List<EvictionListener> evictionListeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by this; the cache itself may be shared, the tag index is local to this node
+    private final Map<String, Set<String>> keysByTag = new HashMap<>();
+    private final Map<String, Set<String>> tagsByKey = new HashMap<>();
+    private long invalidationSequence;
+
+    public AssessmentListCache(CacheManager cacheManager, CacheInvalidationBus invalidationBus,
+                               @Value("${app.assessment-list-cache.max-entries:10000}") int maxEntries) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.invalidationBus = invalidationBus;
+        this.maxEntries = maxEntries;
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    /**
+     * Returns the cached page for the query, loading and caching it on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public Page<AssessmentDto> get(AssessmentFilterDto filter, Pageable pageable, Supplier<Page<AssessmentDto>> loader) {
+        String key = cacheKey(filter, pageable);
+        long observedSequence = currentSequence();
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && cached.get() != null) {
+            Page<AssessmentDto> page = (Page<AssessmentDto>) cached.get();
+            // A page written by another node is only served once it is in the local index, so local tag evictions reach it
+            if (track(key, tags(filter, pageable, page), observedSequence)) {
+                log.debug("Assessment list cache hit: {}", key);
+                return page;
+            }
+        }
+
+        observedSequence = currentSequence();
+        Page<AssessmentDto> page = loader.get();
+        put(key, page, tags(filter, pageable, page), observedSequence);
+        return page;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAssessmentsChanged(AssessmentsChangedEvent event) {
+        Set<String> tags = new HashSet<>();
+        event.assessmentIds().forEach(id -> tags.add(ID_TAG + id));
+        event.changedFields().forEach(field -> tags.add(FIELD_TAG + field));
+        evictTagged(tags);
+        invalidationBus.publish(CacheInvalidationMessage.tagsEvicted(nodeId, CACHE_NAME, tags));
+    }
+
+    public synchronized void evictTagged(Set<String> tags) {
+        invalidationSequence++;
+
+        Set<String> keys = new HashSet<>();
+        for (String tag : tags) {
+            Set<String> tagged = keysByTag.get(tag);
+            if (tagged != null) keys.addAll(tagged);
+        }
+        keys.forEach(this::evictKey);
+
+        if (!keys.isEmpty()) {
+            log.debug("Evicted {} assessment list pages for tags {}", keys.size(), tags);
+        }
+    }
+
+    public synchronized void clear() {
+        invalidationSequence++;
+        clearEntries();
+    }
+
+    /**
+     * Registers a listener for pages dropped from this node's index, for caches holding data derived from those pages.
+     */
+    public void addEvictionListener(EvictionListener listener) {
+        evictionListeners.add(listener);
+    }
+
+    private void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin()) || !CACHE_NAME.equals(message.cacheName()) || message.tags().isEmpty()) return;
+        evictTagged(message.tags());
+    }
+
+    /**
+     * Adds a page found in the cache to the local tag index.
+     *
+     * @return false if the page is not indexed yet and an invalidation happened since the lookup started,
+     * in which case it may already have been evicted elsewhere
+     */
+    private synchronized boolean track(String key, Set<String> tags, long observedSequence) {
+        if (tagsByKey.containsKey(key)) return true;
+        if (invalidationSequence != observedSequence) return false;
+
+        index(key, tags);
+        return true;
+    }
+
+    private synchronized long currentSequence() {
+        return invalidationSequence;
+    }
+
+    private synchronized void put(String key, Page<AssessmentDto> page, Set<String> tags, long observedSequence) {
+        if (invalidationSequence != observedSequence) {
+            log.debug("Skipping cache of assessment list page {}: invalidated while loading", key);
+            return;
+        }
+        index(key, tags);
+        cache.put(key, page);
+    }
+
+    private void index(String key, Set<String> tags) {
+        if (tagsByKey.size() >= maxEntries && !tagsByKey.containsKey(key)) {
+            // Tag index is full; starting over is cheaper than tracking which entries the cache has expired
+            log.info("Assessment list cache reached {} entries, clearing", maxEntries);
+            clearEntries();
+        }
+        tagsByKey.put(key, tags);
+        tags.forEach(tag -> keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key));
+    }
+
+    private void clearEntries() {
+        cache.clear();
+        keysByTag.clear();
+        tagsByKey.clear();
+        evictionListeners.forEach(EvictionListener::cleared);
+    }
+
+    private void evictKey(String key) {
+        cache.evict(key);
+        evictionListeners.forEach(listener -> listener.evicted(key));
+        Set<String> tags = tagsByKey.remove(key);
+        if (tags == null) return;
+
+        for (String tag : tags) {
+            Set<String> tagged = keysByTag.get(tag);
+            if (tagged != null && tagged.remove(key) && tagged.isEmpty()) {
+                keysByTag.remove(tag);
+            }
+        }
+    }
+
+    private static Set<String> tags(AssessmentFilterDto filter, Pageable pageable, Page<AssessmentDto> page) {
+        Set<String> tags = new LinkedHashSet<>();
+        page.getContent().forEach(assessment -> tags.add(ID_TAG + assessment.getId()));
+
+        // A change to a filtered or sorted field can move assessments onto or off this page
+        if (filter != null && filter.getProjectId() != null) tags.add(FIELD_TAG + "projectId");
+        if (filter != null && filter.getStatus() != null) tags.add(FIELD_TAG + "status");
+        for (Sort.Order order : pageable.getSort()) {
+            tags.add(FIELD_TAG + order.getProperty());
+        }
+        return tags;
+    }
+
+    static String cacheKey(AssessmentFilterDto filter, Pageable pageable) {
+        String page = pageable.isPaged()
+                ? "page=" + pageable.getPageNumber() + ",size=" + pageable.getPageSize()
+                : "unpaged";
+        return page
+                + ",sort=" + pageable.getSort()
+                + ",projectId=" + (filter != null ? filter.getProjectId() : null)
+                + ",status=" + (filter != null ? filter.getStatus() : null);
+    }
+
+    /**
+     * Notified under the cache's lock; implementations must not call back into the list cache.
+     */
+    public interface EvictionListener {
+
+        void evicted(String key);
+
+        void cleared();
+    }
+}
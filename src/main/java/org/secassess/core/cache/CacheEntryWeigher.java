@@ -0,0 +1,51 @@
+package org.secassess.core.cache;
+
+import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentItemDto;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Rough retained-heap estimate of cached values, used to bound the in-process tier by bytes rather than entry count.
+ * Exact sizes would need serialization on every put; the estimate only has to rank a 500-item page above a 5-item one.
+ */
+final class CacheEntryWeigher {
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE = 8;
+    private static final int UNKNOWN_OBJECT = 256;
+
+    private CacheEntryWeigher() {
+    }
+
+    static int weigh(String key, Object value) {
+        long bytes = estimate(key) + estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    static long estimate(Object value) {
+        if (value == null) return 0;
+        if (value instanceof String text) return 40L + text.length();
+        if (value instanceof Number || value instanceof Enum<?> || value instanceof Boolean) return OBJECT_OVERHEAD;
+        if (value instanceof Page<?> page) return 64L + estimate(page.getContent());
+        if (value instanceof Collection<?> collection) {
+            long bytes = 32L + (long) REFERENCE * collection.size();
+            for (Object element : collection) bytes += estimate(element);
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 48L + 32L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) bytes += estimate(entry.getKey()) + estimate(entry.getValue());
+            return bytes;
+        }
+        if (value instanceof AssessmentDto assessment) {
+            return 160L + estimate(assessment.getTitle()) + estimate(assessment.getItems());
+        }
+        if (value instanceof AssessmentItemDto item) {
+            return 200L + estimate(item.getSection()) + estimate(item.getText()) + estimate(item.getNotes());
+        }
+        return UNKNOWN_OBJECT;
+    }
+}
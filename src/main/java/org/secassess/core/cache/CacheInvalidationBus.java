@@ -0,0 +1,14 @@
+package org.secassess.core.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Fan-out channel for cache invalidations. Every subscriber receives every message, including its own node's,
+ * and filters on {@link CacheInvalidationMessage#origin()}.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,34 @@
+package org.secassess.core.cache;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Invalidation broadcast between nodes sharing the Redis cache.
+ * Carries either evicted keys, a whole-cache clear, or the tags evicted from a tag-indexed cache.
+ *
+ * @param origin    ID of the publishing node, so it can skip its own messages
+ * @param cacheName name of the affected cache
+ * @param keys      evicted keys, in their string form
+ * @param clear     true if the whole cache was cleared
+ * @param tags      evicted tags, for caches that keep a node-local tag index
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, List<String> keys, boolean clear, Set<String> tags) {
+
+    public CacheInvalidationMessage {
+        keys = keys != null ? List.copyOf(keys) : List.of();
+        tags = tags != null ? Set.copyOf(tags) : Set.of();
+    }
+
+    public static CacheInvalidationMessage keysEvicted(String origin, String cacheName, List<String> keys) {
+        return new CacheInvalidationMessage(origin, cacheName, keys, false, null);
+    }
+
+    public static CacheInvalidationMessage cleared(String origin, String cacheName) {
+        return new CacheInvalidationMessage(origin, cacheName, null, true, null);
+    }
+
+    public static CacheInvalidationMessage tagsEvicted(String origin, String cacheName, Set<String> tags) {
+        return new CacheInvalidationMessage(origin, cacheName, null, false, tags);
+    }
+}
@@ -0,0 +1,70 @@
+package org.secassess.core.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus over Redis pub/sub, so every replica drops its in-process copies of entries changed elsewhere.
+ * Delivery is at most once; the L1 time-to-live bounds staleness if a message is lost.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    public static final String CHANNEL = "secassess:cache:invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                     RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener((message, pattern) -> dispatch(message), new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize cache invalidation", ex);
+        } catch (RuntimeException ex) {
+            // The local tiers are already invalidated; remote L1 copies expire with their time-to-live
+            log.warn("Could not broadcast invalidation for cache {}", message.cacheName(), ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    private void dispatch(Message raw) {
+        CacheInvalidationMessage message;
+        try {
+            message = objectMapper.readValue(new String(raw.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed cache invalidation message", ex);
+            return;
+        }
+
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation listener failed for cache {}", message.cacheName(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package org.secassess.core.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of encoded response bodies for hot assessment reads, so a hit is written to the client without loading DTOs
+ * or running a message converter. Bodies are held off-heap in direct buffers, gzip-compressed when the client accepts it,
+ * within a fixed byte budget with least-recently-used eviction.
+ * <p>
+ * Entries are grouped by the resource they render and keyed within a group by the request's Accept and Accept-Encoding
+ * headers, so each negotiated representation is cached on its own. Assessment groups carry the assessment's version and
+ * never go stale. A list page group is evicted whenever the {@link AssessmentListCache} drops its page of the same key,
+ * which covers invalidations broadcast by other nodes. Entries are local to the node.
+ */
+@Slf4j
+@Component
+public class ResponseBytesCache {
+
+    public static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private static final String CAPTURE_ATTRIBUTE = ResponseBytesCache.class.getName() + ".CAPTURE";
+    private static final String LIST_GROUP = "list|";
+    private static final String ASSESSMENT_GROUP = "assessment|";
+    private static final String GZIP = "gzip";
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final long gzipMinBytes;
+    private final long timeToLiveNanos;
+
+    // Guarded by this; access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<String>> keysByGroup = new HashMap<>();
+    private long usedBytes;
+    // Guarded by this, like the fields below; the sequence of each group's last eviction, oldest first. A record is only
+    // needed while a capture that looked the group up earlier may still store, so records past the time-to-live are dropped
+    private final LinkedHashMap<String, Invalidation> groupInvalidations = new LinkedHashMap<>();
+    private long invalidationSequence;
+    private long clearedSequence;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter sizeEvictions;
+    private final Counter invalidations;
+
+    public ResponseBytesCache(AssessmentListCache listCache, MeterRegistry meterRegistry,
+                              @Value("${app.response-cache.max-size:128MB}") DataSize maxSize,
+                              @Value("${app.response-cache.max-entry-size:1MB}") DataSize maxEntrySize,
+                              @Value("${app.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize,
+                              @Value("${app.response-cache.time-to-live:5m}") Duration timeToLive) {
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = Math.min(maxEntrySize.toBytes(), maxBytes);
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        this.timeToLiveNanos = timeToLive.toNanos();
+
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.invalidations = evictionCounter(meterRegistry, "invalidation");
+        FunctionCounter.builder("secassess.response.cache.requests", hits, LongAdder::sum)
+                .description("Encoded response lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("secassess.response.cache.requests", misses, LongAdder::sum)
+                .description("Encoded response lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("secassess.response.cache.size", this, ResponseBytesCache::usedBytes)
+                .description("Off-heap memory held by cached response bodies")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        listCache.addEvictionListener(new AssessmentListCache.EvictionListener() {
+            @Override
+            public void evicted(String key) {
+                evictGroup(LIST_GROUP + key);
+            }
+
+            @Override
+            public void cleared() {
+                clear();
+            }
+        });
+    }
+
+    public static String listGroup(AssessmentFilterDto filter, Pageable pageable) {
+        return LIST_GROUP + AssessmentListCache.cacheKey(filter, pageable);
+    }
+
+    public static String assessmentGroup(UUID assessmentId, long version) {
+        return ASSESSMENT_GROUP + assessmentId + "|" + version;
+    }
+
+    /**
+     * Answers the request from the cache if the negotiated representation of the group is cached: with 304 if it matches
+     * the request's If-None-Match, otherwise with the stored bytes. On a miss the request is marked so that the body the
+     * handler returns is stored on its way out.
+     *
+     * @return true if the response has been written
+     */
+    public boolean writeCached(String group, ServletWebRequest request) throws IOException {
+        String variant = variant(request);
+        Entry entry;
+        long observedSequence;
+        synchronized (this) {
+            entry = lookup(key(group, variant));
+            observedSequence = invalidationSequence;
+        }
+
+        if (entry == null) {
+            misses.increment();
+            boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            request.setAttribute(CAPTURE_ATTRIBUTE, new Capture(group, variant, gzip, observedSequence, System.nanoTime()),
+                    RequestAttributes.SCOPE_REQUEST);
+            return false;
+        }
+
+        hits.increment();
+        if (entry.eTag() != null && request.checkNotModified(entry.eTag())) {
+            return true;
+        }
+        write(entry, request.getResponse());
+        return true;
+    }
+
+    /**
+     * Keeps the body of this request out of the cache, for handlers that find it no longer matches the group.
+     */
+    public void discardCapture(WebRequest request) {
+        request.removeAttribute(CAPTURE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public synchronized void evictGroup(String group) {
+        long now = System.nanoTime();
+        pruneInvalidations(now);
+        // Re-inserted, so the records stay ordered by eviction time
+        groupInvalidations.remove(group);
+        groupInvalidations.put(group, new Invalidation(++invalidationSequence, now));
+
+        Set<String> keys = keysByGroup.remove(group);
+        if (keys == null) return;
+
+        for (String key : keys) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                usedBytes -= entry.size();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        clearedSequence = ++invalidationSequence;
+        groupInvalidations.clear();
+        invalidations.increment(entries.size());
+        entries.clear();
+        keysByGroup.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    boolean isCapturing(ServerHttpRequest request) {
+        return request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(CAPTURE_ATTRIBUTE) != null;
+    }
+
+    /**
+     * Encodes a body returned for a request marked by {@link #writeCached}, stores it and writes it to the response.
+     *
+     * @return null if the body has been written, otherwise the body for the converter to write as usual
+     */
+    @SuppressWarnings("unchecked")
+    Object capture(Object body, MediaType contentType, HttpMessageConverter<?> converter,
+                   ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Capture capture = (Capture) servletRequest.getServletRequest().getAttribute(CAPTURE_ATTRIBUTE);
+        if (capture == null || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
+            return body;
+        }
+        servletRequest.getServletRequest().removeAttribute(CAPTURE_ATTRIBUTE);
+
+        try {
+            BufferedOutputMessage encoded = new BufferedOutputMessage();
+            ((HttpMessageConverter<Object>) converter).write(body, contentType, encoded);
+
+            byte[] bytes = encoded.body.toByteArray();
+            String contentEncoding = null;
+            if (capture.gzip() && bytes.length >= gzipMinBytes) {
+                bytes = gzip(bytes);
+                contentEncoding = GZIP;
+            }
+            MediaType encodedType = encoded.headers.getContentType() != null ? encoded.headers.getContentType() : contentType;
+
+            HttpHeaders headers = response.getHeaders();
+            String eTag = headers.getETag();
+            if (bytes.length <= maxEntryBytes) {
+                put(capture, new Entry(capture.group(), offHeap(bytes), encodedType.toString(), contentEncoding, eTag,
+                        System.nanoTime()));
+            }
+
+            headers.setContentType(encodedType);
+            if (contentEncoding != null) headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            headers.setContentLength(bytes.length);
+            headers.set(HttpHeaders.VARY, VARY);
+            response.getBody().write(bytes);
+            return null;
+        } catch (IOException ex) {
+            throw new HttpMessageNotWritableException("Could not write encoded response", ex);
+        }
+    }
+
+    private synchronized void put(Capture capture, Entry entry) {
+        // An eviction of the group since the lookup may concern the data this body was rendered from. A capture older
+        // than the time-to-live is skipped too, since the record of such an eviction may already have been pruned
+        Invalidation invalidation = groupInvalidations.get(capture.group());
+        if (System.nanoTime() - capture.startedAt() > timeToLiveNanos
+                || clearedSequence > capture.observedSequence()
+                || invalidation != null && invalidation.sequence() > capture.observedSequence()) {
+            log.debug("Skipping cache of response for {}: invalidated while loading", capture.group());
+            return;
+        }
+
+        String key = key(capture.group(), capture.variant());
+        remove(key);
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (usedBytes + entry.size() > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted.getKey(), evicted.getValue());
+            sizeEvictions.increment();
+        }
+
+        entries.put(key, entry);
+        keysByGroup.computeIfAbsent(entry.group(), g -> new HashSet<>()).add(key);
+        usedBytes += entry.size();
+    }
+
+    private void pruneInvalidations(long now) {
+        Iterator<Invalidation> eldest = groupInvalidations.values().iterator();
+        while (eldest.hasNext() && now - eldest.next().at() > timeToLiveNanos) {
+            eldest.remove();
+        }
+    }
+
+    private Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.storedAt() > timeToLiveNanos) {
+            // Bounds staleness should a list invalidation from another node be lost
+            remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) unindex(key, entry);
+    }
+
+    private void unindex(String key, Entry entry) {
+        usedBytes -= entry.size();
+        Set<String> keys = keysByGroup.get(entry.group());
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByGroup.remove(entry.group());
+        }
+    }
+
+    private static void write(Entry entry, HttpServletResponse response) throws IOException {
+        ByteBuffer body = entry.body().duplicate();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.contentType());
+        if (entry.contentEncoding() != null) response.setHeader(HttpHeaders.CONTENT_ENCODING, entry.contentEncoding());
+        if (entry.eTag() != null) response.setHeader(HttpHeaders.ETAG, entry.eTag());
+        response.setHeader(HttpHeaders.VARY, VARY);
+        response.setContentLength(body.remaining());
+
+        // Copied from the direct buffer to the socket in small chunks, the body is never materialized on the heap
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+
+    private static ByteBuffer offHeap(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String variant(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        return (accept != null ? accept : MediaType.ALL_VALUE) + "|" + (gzip ? GZIP : "identity");
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        // An explicit gzip coding takes precedence over the wildcard
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                gzipQuality = quality(parts);
+            } else if (name.equals("*")) {
+                wildcardQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String key(String group, String variant) {
+        return group + "\n" + variant;
+    }
+
+    private Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("secassess.response.cache.evictions")
+                .description("Encoded responses removed from the cache")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private record Capture(String group, String variant, boolean gzip, long observedSequence, long startedAt) {
+    }
+
+    private record Invalidation(long sequence, long at) {
+    }
+
+    private record Entry(String group, ByteBuffer body, String contentType, String contentEncoding, String eTag,
+                         long storedAt) {
+
+        long size() {
+            return body.capacity();
+        }
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
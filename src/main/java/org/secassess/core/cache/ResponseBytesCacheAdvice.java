@@ -0,0 +1,49 @@
+package org.secassess.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Hands bodies of requests that missed the {@link ResponseBytesCache} to it once content negotiation has picked
+ * the converter, so the cached bytes are exactly what that converter would have written.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ResponseBytesCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseBytesCache responseCache;
+
+    // Looked up lazily: the adapter instantiates this advice while it is being initialized
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !responseCache.isCapturing(request)) {
+            return body;
+        }
+
+        HttpMessageConverter<?> converter = handlerAdapter.getObject().getMessageConverters().stream()
+                .filter(candidate -> candidate.getClass() == selectedConverterType)
+                .filter(candidate -> candidate.canWrite(body.getClass(), selectedContentType))
+                .findFirst()
+                .orElse(null);
+        return converter != null
+                ? responseCache.capture(body, selectedContentType, converter, request, response)
+                : body;
+    }
+}
@@ -0,0 +1,197 @@
+package org.secassess.core.cache;
+
+import lombok.Getter;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.model.TemplateCriterion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable, compact copy of a template's criteria held in parallel primitive arrays.
+ * Sections are dictionary-encoded as small integer codes and weights are stored as fixed-point
+ * hundredths, matching the DECIMAL(3,2) column.
+ */
+public final class TemplateSnapshot {
+
+    private static final byte NO_SEVERITY = -1;
+    private static final short NO_WEIGHT = Short.MIN_VALUE;
+    private static final Severity[] SEVERITIES = Severity.values();
+
+    @Getter
+    private final UUID templateId;
+    @Getter
+    private final String version;
+
+    private final long[] idMostSigBits;
+    private final long[] idLeastSigBits;
+    private final String[] sectionDictionary;
+    private final int[] sectionCriterionCounts;
+    private final Map<String, Integer> sectionCodesByName;
+    private final int[] sectionCodes;
+    private final String[] texts;
+    private final byte[] severities;
+    private final short[] weights;
+    @Getter
+    private final long estimatedBytes;
+
+    private TemplateSnapshot(UUID templateId, String version, long[] idMostSigBits, long[] idLeastSigBits,
+                             List<String> sectionDictionary, Map<String, Integer> sectionCodesByName, int[] sectionCodes,
+                             String[] texts, byte[] severities, short[] weights, long stringBytes) {
+        this.templateId = templateId;
+        this.version = version;
+        this.idMostSigBits = idMostSigBits;
+        this.idLeastSigBits = idLeastSigBits;
+        this.sectionDictionary = sectionDictionary.toArray(new String[0]);
+        this.sectionCodesByName = Collections.unmodifiableMap(sectionCodesByName);
+        this.sectionCodes = sectionCodes;
+        this.texts = texts;
+        this.severities = severities;
+        this.weights = weights;
+
+        this.sectionCriterionCounts = new int[this.sectionDictionary.length];
+        for (int code : sectionCodes) {
+            sectionCriterionCounts[code]++;
+        }
+        this.estimatedBytes = estimateArrayBytes(texts.length, this.sectionDictionary.length) + stringBytes;
+    }
+
+    public static TemplateSnapshot of(UUID templateId, String version, List<TemplateCriterion> criteria) {
+        int size = criteria.size();
+        long[] idMostSigBits = new long[size];
+        long[] idLeastSigBits = new long[size];
+        int[] sectionCodes = new int[size];
+        String[] texts = new String[size];
+        byte[] severities = new byte[size];
+        short[] weights = new short[size];
+
+        // Each distinct section gets the next code in order of first appearance
+        List<String> sectionDictionary = new ArrayList<>();
+        Map<String, Integer> sectionCodesByName = new HashMap<>();
+        long stringBytes = 0;
+
+        for (int i = 0; i < size; i++) {
+            TemplateCriterion criterion = criteria.get(i);
+            idMostSigBits[i] = criterion.getId().getMostSignificantBits();
+            idLeastSigBits[i] = criterion.getId().getLeastSignificantBits();
+
+            String section = criterion.getSection();
+            Integer code = sectionCodesByName.get(section);
+            if (code == null) {
+                code = sectionDictionary.size();
+                sectionDictionary.add(section);
+                sectionCodesByName.put(section, code);
+                stringBytes += estimateStringBytes(section);
+            }
+            sectionCodes[i] = code;
+
+            texts[i] = criterion.getText();
+            stringBytes += estimateStringBytes(criterion.getText());
+            severities[i] = criterion.getSeverity() != null ? (byte) criterion.getSeverity().ordinal() : NO_SEVERITY;
+            weights[i] = toFixedPoint(criterion.getWeight());
+        }
+
+        return new TemplateSnapshot(templateId, version, idMostSigBits, idLeastSigBits,
+                sectionDictionary, sectionCodesByName, sectionCodes, texts, severities, weights, stringBytes);
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public UUID criterionId(int index) {
+        return new UUID(idMostSigBits[index], idLeastSigBits[index]);
+    }
+
+    public String section(int index) {
+        return sectionDictionary[sectionCodes[index]];
+    }
+
+    public int sectionCode(int index) {
+        return sectionCodes[index];
+    }
+
+    /**
+     * Number of distinct sections; codes range from 0 to sectionCount() - 1.
+     */
+    public int sectionCount() {
+        return sectionDictionary.length;
+    }
+
+    public String sectionName(int code) {
+        return sectionDictionary[code];
+    }
+
+    public int criterionCountInSection(int code) {
+        return sectionCriterionCounts[code];
+    }
+
+    /**
+     * Encodes the requested sections as a bitset over section codes. Sections absent from the template are ignored.
+     *
+     * @return null when no filter is requested, meaning every section is included
+     */
+    public BitSet sectionMask(Collection<String> includeSections) {
+        if (includeSections == null || includeSections.isEmpty()) return null;
+
+        BitSet mask = new BitSet(sectionDictionary.length);
+        for (String section : includeSections) {
+            Integer code = sectionCodesByName.get(section);
+            if (code != null) {
+                mask.set(code);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Number of criteria whose section is in the mask, computed from the per-section counts without scanning criteria.
+     */
+    public int criterionCountInMask(BitSet mask) {
+        if (mask == null) return size();
+
+        int count = 0;
+        for (int code = mask.nextSetBit(0); code >= 0; code = mask.nextSetBit(code + 1)) {
+            count += sectionCriterionCounts[code];
+        }
+        return count;
+    }
+
+    public String text(int index) {
+        return texts[index];
+    }
+
+    public Severity severity(int index) {
+        byte ordinal = severities[index];
+        return ordinal == NO_SEVERITY ? null : SEVERITIES[ordinal];
+    }
+
+    public BigDecimal weight(int index) {
+        short weight = weights[index];
+        return weight == NO_WEIGHT ? null : BigDecimal.valueOf(weight, 2);
+    }
+
+    private static short toFixedPoint(BigDecimal weight) {
+        if (weight == null) return NO_WEIGHT;
+        return weight.setScale(2, RoundingMode.HALF_UP).unscaledValue().shortValueExact();
+    }
+
+    private static long estimateArrayBytes(int n, int sections) {
+        // 16-byte array headers plus element payloads; reference arrays hold 4-byte compressed references.
+        // The section name-to-code map is approximated at 48 bytes per entry
+        return 7 * 16L + n * (8L + 8L + 4L + 4L + 1L + 2L) + sections * (4L + 4L + 48L);
+    }
+
+    private static long estimateStringBytes(String value) {
+        // String object plus backing byte[] (compact Latin-1 encoding assumed)
+        return value == null ? 0 : 40L + value.length();
+    }
+}
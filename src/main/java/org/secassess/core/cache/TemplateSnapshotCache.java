@@ -0,0 +1,192 @@
+package org.secassess.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.events.TemplateChangedEvent;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.repository.TemplateSyncRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of immutable criteria snapshots for PUBLISHED templates, keyed by template ID and version.
+ * Entries are dropped when a change to the template or its criteria is committed on any node, when the criterion
+ * change log shows a change made outside the application, and at the latest after the time-to-live.
+ */
+@Slf4j
+@Component
+public class TemplateSnapshotCache {
+
+    public static final String CACHE_NAME = "templateSnapshots";
+
+    private final TemplateSyncRepository templateSyncRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<SnapshotKey, TemplateSnapshot> snapshots;
+    // Bumped on every invalidation; a snapshot built across a bump is returned but never cached
+    private long generation;
+    // Change log entries above logHead are unseen; the ones above rescanFrom are read once more on the next poll,
+    // because sequence values are drawn before commit and a slower transaction can still add entries below the head
+    private long logHead = -1;
+    private long rescanFrom = -1;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public TemplateSnapshotCache(TemplateSyncRepository templateSyncRepository, CacheInvalidationBus invalidationBus,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.template-snapshot.max-entries:256}") int maxEntries,
+                                 @Value("${app.template-snapshot.time-to-live:30m}") Duration timeToLive) {
+        this.templateSyncRepository = templateSyncRepository;
+        this.invalidationBus = invalidationBus;
+
+        this.hits = Counter.builder("secassess.template.snapshot.requests")
+                .description("Template snapshot lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("secassess.template.snapshot.requests")
+                .description("Template snapshot lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidations = evictionCounter(meterRegistry, "invalidation");
+        Counter sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(timeToLive)
+                .evictionListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) sizeEvictions.increment();
+                })
+                .build();
+
+        Gauge.builder("secassess.template.snapshot.entries", snapshots, Cache::estimatedSize)
+                .description("Cached template snapshots")
+                .register(meterRegistry);
+        Gauge.builder("secassess.template.snapshot.memory", this, TemplateSnapshotCache::estimatedBytes)
+                .description("Estimated heap held by cached template snapshots")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    /**
+     * Returns the snapshot of the given template, building it from its criteria on a miss.
+     * Must run inside the transaction that loaded the template so the criteria can be read lazily.
+     */
+    public TemplateSnapshot get(AssessmentTemplate template) {
+        SnapshotKey key = new SnapshotKey(template.getId(), template.getVersion());
+        TemplateSnapshot snapshot = snapshots.getIfPresent(key);
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+
+        misses.increment();
+        long observed = currentGeneration();
+        snapshot = TemplateSnapshot.of(template.getId(), template.getVersion(), template.getCriteria());
+        log.debug("Built snapshot of Template {} v{} with {} criteria (~{} bytes)",
+                template.getId(), template.getVersion(), snapshot.size(), snapshot.getEstimatedBytes());
+
+        if (template.getStatus() == TemplateStatus.PUBLISHED) {
+            fill(key, snapshot, observed);
+        }
+        return snapshot;
+    }
+
+    public void evict(UUID templateId) {
+        evictLocal(Set.of(templateId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTemplateChanged(TemplateChangedEvent event) {
+        evict(event.templateId());
+        invalidationBus.publish(CacheInvalidationMessage.tagsEvicted(nodeId, CACHE_NAME,
+                Set.of(event.templateId().toString())));
+    }
+
+    /**
+     * Evicts templates whose criteria changed since the last poll. Every node polls the log itself, so changes made
+     * by SQL, migrations or other services reach every node without being broadcast.
+     */
+    @Scheduled(fixedDelayString = "${app.template-snapshot.poll-interval-ms:5000}")
+    public void pollChangeLog() {
+        try {
+            if (logHead < 0) {
+                // Snapshots cached before the first poll may predate the head, so they are dropped once
+                logHead = templateSyncRepository.findLogHead();
+                rescanFrom = logHead;
+                clearLocal();
+                return;
+            }
+            Map<UUID, Long> changed = templateSyncRepository.findTemplatesChangedAfter(rescanFrom);
+            if (!changed.isEmpty()) {
+                evictLocal(changed.keySet());
+                log.debug("Evicted snapshots of {} templates changed after log entry {}", changed.size(), rescanFrom);
+            }
+            rescanFrom = logHead;
+            logHead = Math.max(logHead, changed.values().stream().mapToLong(Long::longValue).max().orElse(logHead));
+        } catch (DataAccessException ex) {
+            log.warn("Could not read the template change log, retrying on the next poll: {}", ex.getMessage());
+        }
+    }
+
+    public long estimatedBytes() {
+        return snapshots.asMap().values().stream().mapToLong(TemplateSnapshot::getEstimatedBytes).sum();
+    }
+
+    private void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin()) || !CACHE_NAME.equals(message.cacheName())) return;
+        evictLocal(message.tags().stream().map(UUID::fromString).collect(Collectors.toSet()));
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void fill(SnapshotKey key, TemplateSnapshot snapshot, long observedGeneration) {
+        if (generation == observedGeneration) {
+            snapshots.asMap().putIfAbsent(key, snapshot);
+        }
+    }
+
+    private synchronized void evictLocal(Collection<UUID> templateIds) {
+        generation++;
+        if (snapshots.asMap().keySet().removeIf(key -> templateIds.contains(key.templateId()))) {
+            invalidations.increment();
+            log.debug("Evicted snapshots of Templates {}", templateIds);
+        }
+    }
+
+    private synchronized void clearLocal() {
+        generation++;
+        snapshots.invalidateAll();
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("secassess.template.snapshot.evictions")
+                .description("Template snapshots dropped from the cache")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private record SnapshotKey(UUID templateId, String version) {
+    }
+}
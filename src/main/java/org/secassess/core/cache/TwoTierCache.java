@@ -0,0 +1,234 @@
+package org.secassess.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache with a bounded in-process L1 in front of a shared L2 (Redis in production).
+ * Reads are served from L1 when possible and fill it from L2; every write is applied to L2, then to the local L1,
+ * and then broadcast so the other nodes drop their L1 copy of the key.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache l2;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final CacheInvalidationBus bus;
+    private final String nodeId;
+
+    // Guarded by this; bumped on every L1 invalidation so a fill that raced one is not cached
+    private long generation;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final Counter l1SizeEvictions;
+    private final Counter l1Invalidations;
+    private final Counter l2Evictions;
+
+    public TwoTierCache(String name, Cache l2, long l1MaxBytes, Duration l1TimeToLive,
+                        CacheInvalidationBus bus, String nodeId, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.l2 = l2;
+        this.bus = bus;
+        this.nodeId = nodeId;
+
+        this.l1SizeEvictions = evictionCounter(meterRegistry, "l1", "size");
+        this.l1Invalidations = evictionCounter(meterRegistry, "l1", "invalidation");
+        this.l2Evictions = evictionCounter(meterRegistry, "l2", "invalidation");
+        this.l1 = Caffeine.newBuilder()
+                .maximumWeight(l1MaxBytes)
+                .weigher(CacheEntryWeigher::weigh)
+                .expireAfterWrite(l1TimeToLive)
+                .evictionListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) l1SizeEvictions.increment();
+                })
+                .build();
+
+        registerTierMetrics(meterRegistry, "l1", l1Hits, l1Misses);
+        registerTierMetrics(meterRegistry, "l2", l2Hits, l2Misses);
+        Gauge.builder("secassess.cache.l1.size", l1, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Estimated heap held by the in-process cache tier")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String l1Key = String.valueOf(key);
+        Object value = l1.getIfPresent(l1Key);
+        if (value != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        l1Misses.increment();
+
+        long observedGeneration = currentGeneration();
+        ValueWrapper wrapper = l2.get(key);
+        if (wrapper == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        if (wrapper.get() != null) {
+            fillL1(l1Key, wrapper.get(), observedGeneration);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        try {
+            T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String l1Key = String.valueOf(key);
+        l2.put(key, value);
+        synchronized (this) {
+            generation++;
+            if (value != null) {
+                l1.put(l1Key, value);
+            } else {
+                l1.invalidate(l1Key);
+            }
+        }
+        bus.publish(CacheInvalidationMessage.keysEvicted(nodeId, name, List.of(l1Key)));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        if (existing == null) {
+            evictLocal(String.valueOf(key));
+            bus.publish(CacheInvalidationMessage.keysEvicted(nodeId, name, List.of(String.valueOf(key))));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String l1Key = String.valueOf(key);
+        l2.evict(key);
+        l2Evictions.increment();
+        evictLocal(l1Key);
+        bus.publish(CacheInvalidationMessage.keysEvicted(nodeId, name, List.of(l1Key)));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        clearLocal();
+        bus.publish(CacheInvalidationMessage.cleared(nodeId, name));
+    }
+
+    /**
+     * Applies an invalidation published by another node. Only L1 is touched, L2 was already updated by the sender.
+     */
+    void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (message.clear()) {
+            clearLocal();
+        } else {
+            message.keys().forEach(this::evictLocal);
+        }
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void fillL1(String key, Object value, long observedGeneration) {
+        if (generation == observedGeneration) {
+            l1.put(key, value);
+        }
+    }
+
+    private synchronized void evictLocal(String key) {
+        generation++;
+        if (l1.asMap().remove(key) != null) {
+            l1Invalidations.increment();
+        }
+    }
+
+    private synchronized void clearLocal() {
+        generation++;
+        long size = l1.estimatedSize();
+        l1.invalidateAll();
+        l1Invalidations.increment(size);
+    }
+
+    private Counter evictionCounter(MeterRegistry meterRegistry, String tier, String cause) {
+        return Counter.builder("secassess.cache.evictions")
+                .description("Entries removed from a cache tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private void registerTierMetrics(MeterRegistry meterRegistry, String tier, LongAdder hits, LongAdder misses) {
+        FunctionCounter.builder("secassess.cache.requests", hits, LongAdder::sum)
+                .description("Cache lookups per tier")
+                .tag("cache", name).tag("tier", tier).tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("secassess.cache.requests", misses, LongAdder::sum)
+                .description("Cache lookups per tier")
+                .tag("cache", name).tag("tier", tier).tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("secassess.cache.hit.ratio", () -> hitRatio(hits, misses))
+                .description("Share of lookups answered by this tier since startup")
+                .tag("cache", name).tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    private static double hitRatio(LongAdder hits, LongAdder misses) {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,70 @@
+package org.secassess.core.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager that puts a {@link TwoTierCache} in front of every cache of the shared L2 manager
+ * and applies the invalidations other nodes broadcast on the bus to the local L1 tiers.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager l2CacheManager;
+    private final CacheInvalidationBus bus;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaxBytes;
+    private final Duration l1TimeToLive;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param l1MaxBytes estimated heap budget of each cache's L1 tier
+     */
+    public TwoTierCacheManager(CacheManager l2CacheManager, CacheInvalidationBus bus, MeterRegistry meterRegistry,
+                               long l1MaxBytes, Duration l1TimeToLive) {
+        this.l2CacheManager = l2CacheManager;
+        this.bus = bus;
+        this.meterRegistry = meterRegistry;
+        this.l1MaxBytes = l1MaxBytes;
+        this.l1TimeToLive = l1TimeToLive;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache l2 = l2CacheManager.getCache(name);
+        if (l2 == null) {
+            throw new IllegalStateException("No L2 cache configured with name: " + name);
+        }
+        log.info("Creating two-tier cache {} with an L1 budget of {} bytes", name, l1MaxBytes);
+        return new TwoTierCache(name, l2, l1MaxBytes, l1TimeToLive, bus, nodeId, meterRegistry);
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) return;
+
+        TwoTierCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            cache.onRemoteInvalidation(message);
+        }
+    }
+}
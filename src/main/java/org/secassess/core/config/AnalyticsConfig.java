@@ -0,0 +1,20 @@
+package org.secassess.core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Dedicated fork/join pool for portfolio rollups, kept apart from the common pool used by parallel streams.
+ */
+@Configuration
+public class AnalyticsConfig {
+
+    @Bean(name = "analyticsPool", destroyMethod = "shutdown")
+    public ForkJoinPool analyticsPool(@Value("${app.analytics.parallelism:0}") int parallelism) {
+        // 0 sizes the pool to the available processors
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
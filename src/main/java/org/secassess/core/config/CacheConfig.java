@@ -0,0 +1,70 @@
+package org.secassess.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.secassess.core.cache.CacheInvalidationBus;
+import org.secassess.core.cache.InMemoryCacheInvalidationBus;
+import org.secassess.core.cache.RedisCacheInvalidationBus;
+import org.secassess.core.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Cache wiring. With Redis caching (the default) every cache is two-tier: a size-bounded in-process L1 per node
+ * in front of the shared Redis L2, kept coherent over Redis pub/sub. Any other spring.cache.type leaves the cache manager
+ * to Spring Boot and delivers invalidations within the node only.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
+    static class TwoTierCacheConfig {
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public CacheInvalidationBus redisCacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                                              RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+            return new RedisCacheInvalidationBus(redisTemplate, objectMapper, cacheInvalidationListenerContainer);
+        }
+
+        @Bean
+        public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                         CacheInvalidationBus cacheInvalidationBus,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${spring.cache.redis.time-to-live:10m}") Duration l2TimeToLive,
+                                         @Value("${app.cache.l1.max-size:64MB}") DataSize l1MaxSize,
+                                         @Value("${app.cache.l1.time-to-live:5m}") Duration l1TimeToLive) {
+            RedisCacheManager l2CacheManager = RedisCacheManager.builder(connectionFactory)
+                    .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().entryTtl(l2TimeToLive))
+                    .build();
+            l2CacheManager.afterPropertiesSet();
+            return new TwoTierCacheManager(l2CacheManager, cacheInvalidationBus, meterRegistry,
+                    l1MaxSize.toBytes(), l1TimeToLive);
+        }
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${spring.cache.type:redis}'.toLowerCase() != 'redis'")
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+}
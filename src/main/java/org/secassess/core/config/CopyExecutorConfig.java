@@ -0,0 +1,50 @@
+package org.secassess.core.config;
+
+import org.secassess.core.utils.MdcTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded worker pools for criteria copies: fan-out copies into many assessments and asynchronous copy jobs.
+ */
+@Configuration
+public class CopyExecutorConfig {
+
+    @Bean(name = "copyExecutor")
+    public ThreadPoolTaskExecutor copyExecutor(
+            @Value("${app.copy.executor.pool-size:4}") int poolSize,
+            @Value("${app.copy.executor.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("copy-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        // Once the queue is full the submitting thread runs the copy itself, which throttles the fan-out
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Rejects work once saturated instead of blocking the caller; rejected jobs stay QUEUED and are resumed later.
+     */
+    @Bean(name = "copyJobExecutor")
+    public ThreadPoolTaskExecutor copyJobExecutor(
+            @Value("${app.copy.job.executor.pool-size:2}") int poolSize,
+            @Value("${app.copy.job.executor.queue-capacity:50}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("copy-job-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+}
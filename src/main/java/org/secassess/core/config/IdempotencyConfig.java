@@ -0,0 +1,32 @@
+package org.secassess.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.secassess.core.idempotency.FallbackIdempotencyStore;
+import org.secassess.core.idempotency.IdempotencyStore;
+import org.secassess.core.idempotency.InMemoryIdempotencyStore;
+import org.secassess.core.idempotency.RedisIdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Selects the idempotency store: Redis by default, or a node-local in-memory store with app.idempotency.store=memory.
+ * The Redis store falls back to node-local keys while Redis is unreachable.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotency.store", havingValue = "redis", matchIfMissing = true)
+    public IdempotencyStore redisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        return new FallbackIdempotencyStore(new RedisIdempotencyStore(redisTemplate, objectMapper),
+                new InMemoryIdempotencyStore());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory")
+    public IdempotencyStore inMemoryIdempotencyStore() {
+        return new InMemoryIdempotencyStore();
+    }
+}
@@ -59,6 +59,15 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/assessments/*/copy-from-template")
                         .hasAnyRole(UserRole.AUDITOR.name(), UserRole.ADMIN.name())
 
+                        .requestMatchers(HttpMethod.POST, "/api/v1/assessments/copy-from-template")
+                        .hasAnyRole(UserRole.AUDITOR.name(), UserRole.ADMIN.name())
+
+                        .requestMatchers(HttpMethod.GET, "/api/v1/assessments/export")
+                        .hasAnyRole(UserRole.AUDITOR.name(), UserRole.ADMIN.name())
+
+                        .requestMatchers(HttpMethod.POST, "/api/v1/templates/*/sync")
+                        .hasAnyRole(UserRole.AUDITOR.name(), UserRole.ADMIN.name())
+
                         // All other requests need authentication
                         .anyRequest().authenticated()
                 )
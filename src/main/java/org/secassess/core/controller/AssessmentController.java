@@ -3,18 +3,48 @@ package org.secassess.core.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.autosave.ItemAutosaveBuffer;
+import org.secassess.core.cache.ResponseBytesCache;
+import org.secassess.core.config.BinaryFormatConfig;
 import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.dto.AssessmentProgressDto;
+import org.secassess.core.dto.AssessmentScoreDto;
+import org.secassess.core.dto.AssessmentSummaryDto;
+import org.secassess.core.dto.BulkCopyCriteriaRequestDto;
+import org.secassess.core.dto.BulkCopyResponseDto;
+import org.secassess.core.dto.BulkItemScoreRequestDto;
+import org.secassess.core.dto.BulkItemScoreResponseDto;
+import org.secassess.core.dto.BulkStatusUpdateRequestDto;
+import org.secassess.core.dto.BulkStatusUpdateResponseDto;
 import org.secassess.core.dto.CopyCriteriaRequestDto;
+import org.secassess.core.dto.CopyJobDto;
 import org.secassess.core.dto.CopyStatsResponseDto;
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.ItemAutosaveDto;
+import org.secassess.core.dto.ItemScoreResultDto;
 import org.secassess.core.dto.UpdateStatusRequestDto;
+import org.secassess.core.enums.ExportFormat;
+import org.secassess.core.enums.ItemScoreOutcome;
+import org.secassess.core.interfaces.AssessmentExportService;
+import org.secassess.core.interfaces.AssessmentScoreService;
 import org.secassess.core.interfaces.AssessmentService;
+import org.secassess.core.interfaces.CopyJobService;
+import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -24,11 +54,16 @@ import java.util.UUID;
 public class AssessmentController {
 
     private final AssessmentService assessmentService;
+    private final CopyJobService copyJobService;
+    private final AssessmentExportService exportService;
+    private final AssessmentScoreService scoreService;
+    private final ResponseBytesCache responseCache;
+    private final ItemAutosaveBuffer autosaveBuffer;
 
     @PostMapping(
             value = "/{id}/copy-from-template",
             consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<CopyStatsResponseDto> copyCriteria(
             @PathVariable("id") UUID id,
@@ -45,6 +80,49 @@ public class AssessmentController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(
+            value = "/{id}/copy-from-template",
+            params = "async=true",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<CopyJobDto> submitCopyJob(
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody CopyCriteriaRequestDto request) {
+
+        log.info("REST request to copy criteria asynchronously from Template: {} to Assessment: {}",
+                request.getTemplateId(), id);
+
+        CopyJobDto job = copyJobService.submit(id, request);
+
+        log.info("Copy job {} accepted for Assessment: {}", job.getId(), id);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/copy-jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @PostMapping(
+            value = "/copy-from-template",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BulkCopyResponseDto> copyCriteriaToAssessments(
+            @Valid @RequestBody BulkCopyCriteriaRequestDto request) {
+
+        log.info("REST request to bulk copy criteria from Template: {} [Assessments: {}, Project: {}]",
+                request.getCopy().getTemplateId(),
+                request.getAssessmentIds() != null ? request.getAssessmentIds().size() : 0,
+                request.getProjectId());
+
+        BulkCopyResponseDto response = assessmentService.copyCriteriaToAssessments(request);
+
+        log.info("Bulk copy completed. Succeeded={}, Failed={}, Copied={}",
+                response.getSucceeded(), response.getFailed(), response.getAggregate().getCopied());
+
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<AssessmentDto> updateStatus(
             @PathVariable("id") UUID id,
@@ -59,17 +137,214 @@ public class AssessmentController {
         return ResponseEntity.ok(updated);
     }
 
+    @PatchMapping(
+            value = "/status",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BulkStatusUpdateResponseDto> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequestDto request) {
+
+        log.info("REST request to update status of {} assessments to {} [Mode: {}]",
+                request.getAssessmentIds().size(), request.getStatus(), request.getMode());
+
+        BulkStatusUpdateResponseDto response = assessmentService.bulkUpdateStatus(request);
+
+        log.info("Bulk status update finished. Applied={}, Updated={}, Rejected={}",
+                response.isApplied(), response.getUpdated(), response.getRejected());
+
+        // A rejected ALL_OR_NOTHING request still reports why each assessment failed
+        return response.isApplied()
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.badRequest().body(response);
+    }
+
+    @PatchMapping(
+            value = "/{id}/items",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BulkItemScoreResponseDto> bulkScoreItems(
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody BulkItemScoreRequestDto request) {
+
+        log.info("REST request to score {} items of Assessment: {} [Mode: {}]",
+                request.getUpdates().size(), id, request.getMode());
+
+        // Buffered autosaves are older than this request and must not overwrite it later; flushed before the
+        // scoring transaction starts so it does not hold a second connection
+        autosaveBuffer.flushAssessment(id);
+        BulkItemScoreResponseDto response = assessmentService.bulkScoreItems(id, request);
+
+        log.info("Bulk scoring finished. Applied={}, Updated={}, Rejected={}",
+                response.isApplied(), response.getUpdated(), response.getRejected());
+
+        // A rejected ALL_OR_NOTHING request still reports why each update failed
+        return response.isApplied()
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.badRequest().body(response);
+    }
+
+    @PatchMapping(
+            value = "/{id}/items/{itemId}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ItemScoreResultDto> autosaveItem(
+            @PathVariable("id") UUID id,
+            @PathVariable("itemId") UUID itemId,
+            @Valid @RequestBody ItemAutosaveDto request) {
+
+        log.info("REST request to autosave Item {} of Assessment: {}", itemId, id);
+
+        ItemScoreResultDto result = assessmentService.autosaveItem(id, itemId, request);
+
+        log.info("Autosave of Item {} finished. Outcome={}", itemId, result.getOutcome());
+
+        // A buffered edit is accepted but not yet written
+        return result.getOutcome() == ItemScoreOutcome.QUEUED
+                ? ResponseEntity.accepted().body(result)
+                : ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<AssessmentDto> getAssessment(@PathVariable("id") UUID id, ServletWebRequest request)
+            throws IOException {
+        log.info("REST request to fetch Assessment: {}", id);
+
+        // Read-your-writes for autosaves buffered on this node
+        autosaveBuffer.flushAssessment(id);
+        // Revalidation and cached bodies are answered from the version column alone, before the assessment is loaded
+        long version = assessmentService.getVersion(id);
+        if (request.checkNotModified(AssessmentETags.forAssessment(id, version))) {
+            log.info("Assessment {} not modified", id);
+            return null;
+        }
+        if (responseCache.writeCached(ResponseBytesCache.assessmentGroup(id, version), request)) {
+            log.info("Assessment {} served from the response cache", id);
+            return null;
+        }
+
+        AssessmentDto assessment = assessmentService.getAssessment(id);
+        if (assessment.getVersion() != version) {
+            // Changed since the version lookup; the body must not be cached under the older version
+            responseCache.discardCapture(request);
+        }
+
+        log.info("Assessment {} fetched with {} items", id, assessment.getItems().size());
+
+        return ResponseEntity.ok()
+                .eTag(AssessmentETags.forAssessment(id, assessment.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(assessment);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAssessments(
+            AssessmentFilterDto filter,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        log.info("REST request to export assessments as {} [Project: {}, Status: {}]",
+                exportFormat, filter.getProjectId(), filter.getStatus());
+
+        // The body is written on an async thread, which does not inherit the request's correlation ID
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        StreamingResponseBody body = out -> {
+            if (mdc != null) MDC.setContextMap(mdc);
+            try {
+                exportService.export(filter, exportFormat, out);
+            } finally {
+                MDC.clear();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("assessments." + exportFormat.getFileExtension()).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<CursorPageDto<AssessmentSummaryDto>> getAssessmentSummaries(
+            AssessmentFilterDto filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        log.info("REST request to fetch assessment summaries [Size: {}, Project: {}, Status: {}, First page: {}]",
+                size, filter.getProjectId(), filter.getStatus(), cursor == null);
+
+        CursorPageDto<AssessmentSummaryDto> response = assessmentService.findSummaries(filter, cursor, size);
+
+        log.info("Found {} assessment summaries, more available: {}", response.getSize(), response.isHasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<AssessmentProgressDto> getProgress(@PathVariable("id") UUID id) {
+        log.info("REST request to fetch progress of Assessment: {}", id);
+
+        autosaveBuffer.flushAssessment(id);
+        AssessmentProgressDto progress = assessmentService.getProgress(id);
+
+        log.info("Assessment {} has {}/{} items scored", id, progress.getScoredItems(), progress.getTotalItems());
+
+        return ResponseEntity.ok(progress);
+    }
+
+    @GetMapping("/{id}/score")
+    public ResponseEntity<AssessmentScoreDto> getScore(@PathVariable("id") UUID id) {
+        log.info("REST request to fetch score of Assessment: {}", id);
+
+        autosaveBuffer.flushAssessment(id);
+        AssessmentScoreDto score = scoreService.getScore(id);
+
+        log.info("Assessment {} scored {} over {}/{} scored items", id, score.getWeightedScore(),
+                score.getScoredItems(), score.getTotalItems());
+
+        return ResponseEntity.ok(score);
+    }
+
     @GetMapping
     public ResponseEntity<Page<AssessmentDto>> getAllAssessments(
-            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+            AssessmentFilterDto filter,
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable,
+            ServletWebRequest request) throws IOException {
+
+        log.info("REST request to fetch all assessments [Page: {}, Size: {}, Project: {}, Status: {}]",
+                pageable.getPageNumber(), pageable.getPageSize(), filter.getProjectId(), filter.getStatus());
 
-        log.info("REST request to fetch all assessments [Page: {}, Size: {}]",
-                pageable.getPageNumber(), pageable.getPageSize());
+        if (responseCache.writeCached(ResponseBytesCache.listGroup(filter, pageable), request)) {
+            log.info("Assessment page served from the response cache");
+            return null;
+        }
 
-        Page<AssessmentDto> response = assessmentService.findAll(pageable);
+        Page<AssessmentDto> response = assessmentService.findAll(filter, pageable);
 
         log.info("Found {} assessments for the requested page", response.getNumberOfElements());
 
+        // A matching If-None-Match turns this into a 304 before the page is serialized
+        return ResponseEntity.ok()
+                .eTag(AssessmentETags.forPage(response))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(response);
+    }
+
+    @GetMapping(params = "scroll=true")
+    public ResponseEntity<CursorPageDto<AssessmentDto>> scrollAssessments(
+            AssessmentFilterDto filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        log.info("REST request to scroll assessments [Size: {}, Project: {}, Status: {}, First page: {}]",
+                size, filter.getProjectId(), filter.getStatus(), cursor == null);
+
+        CursorPageDto<AssessmentDto> response = assessmentService.scroll(filter, cursor, size);
+
+        log.info("Found {} assessments, more available: {}", response.getSize(), response.isHasNext());
+
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package org.secassess.core.controller;
+
+import org.secassess.core.dto.AssessmentDto;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * ETags derived from the trigger-maintained assessment versions instead of from the serialized body.
+ * <p>
+ * The tags are weak: one version is served as JSON, CBOR or Smile, possibly compressed, and those bodies are only
+ * semantically equivalent. A strong tag would claim they are byte-identical, which breaks range requests and caches
+ * that compare strongly. Revalidation with If-None-Match uses weak comparison, so 304s work the same.
+ */
+final class AssessmentETags {
+
+    private AssessmentETags() {
+    }
+
+    static String forAssessment(UUID assessmentId, long version) {
+        return "W/\"" + assessmentId + "-" + version + "\"";
+    }
+
+    /**
+     * Digest of the page shape and the (id, version) of every assessment on it; any change to an assessment on the page,
+     * or to which assessments are on it, yields a different tag.
+     */
+    static String forPage(Page<AssessmentDto> page) {
+        MessageDigest digest = sha256();
+        update(digest, page.getNumber() + "/" + page.getSize() + "/" + page.getTotalElements() + "/" + page.getSort());
+        for (AssessmentDto assessment : page.getContent()) {
+            update(digest, ";" + assessment.getId() + "-" + assessment.getVersion());
+        }
+        // 128 bits is plenty to tell page states apart
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
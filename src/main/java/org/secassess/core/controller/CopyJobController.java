@@ -0,0 +1,31 @@
+package org.secassess.core.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.CopyJobDto;
+import org.secassess.core.interfaces.CopyJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/copy-jobs")
+@RequiredArgsConstructor
+public class CopyJobController {
+
+    private final CopyJobService copyJobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CopyJobDto> getCopyJob(@PathVariable("id") UUID id) {
+        log.info("REST request to fetch copy job: {}", id);
+
+        CopyJobDto job = copyJobService.getJob(id);
+
+        log.info("Copy job {} is {} ({}/{} criteria processed)",
+                id, job.getStatus(), job.getProcessed(), job.getStats().getTotalSource());
+
+        return ResponseEntity.ok(job);
+    }
+}
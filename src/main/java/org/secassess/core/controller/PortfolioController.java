@@ -0,0 +1,57 @@
+package org.secassess.core.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.ItemHistogramDto;
+import org.secassess.core.dto.ItemHistogramFilterDto;
+import org.secassess.core.dto.PortfolioDto;
+import org.secassess.core.interfaces.PortfolioAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/portfolio")
+@RequiredArgsConstructor
+public class PortfolioController {
+
+    private final PortfolioAnalyticsService portfolioService;
+
+    @GetMapping("/organizations/{id}")
+    public ResponseEntity<PortfolioDto> getOrganizationPortfolio(@PathVariable("id") UUID id) {
+        log.info("REST request to fetch portfolio of Organization: {}", id);
+
+        PortfolioDto portfolio = portfolioService.getOrganizationPortfolio(id);
+
+        log.info("Organization {} portfolio: {} projects, {} assessments, computed at {}",
+                id, portfolio.getProjects(), portfolio.getAssessments(), portfolio.getComputedAt());
+
+        return ResponseEntity.ok(portfolio);
+    }
+
+    @GetMapping("/projects/{id}")
+    public ResponseEntity<PortfolioDto> getProjectPortfolio(@PathVariable("id") Long id) {
+        log.info("REST request to fetch portfolio of Project: {}", id);
+
+        PortfolioDto portfolio = portfolioService.getProjectPortfolio(id);
+
+        log.info("Project {} portfolio: {} assessments, computed at {}",
+                id, portfolio.getAssessments(), portfolio.getComputedAt());
+
+        return ResponseEntity.ok(portfolio);
+    }
+
+    @GetMapping("/item-histogram")
+    public ResponseEntity<ItemHistogramDto> getItemHistogram(ItemHistogramFilterDto filter) {
+        log.info("REST request to fetch item histogram. Filter: {}", filter);
+
+        ItemHistogramDto histogram = portfolioService.getItemHistogram(filter);
+
+        log.info("Item histogram covers {} items in {} groups (store: {} rows, {} bytes)",
+                histogram.getTotalItems(), histogram.getGroups().size(), histogram.getStoreRows(), histogram.getStoreBytes());
+
+        return ResponseEntity.ok(histogram);
+    }
+}
@@ -0,0 +1,35 @@
+package org.secassess.core.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.SearchFilterDto;
+import org.secassess.core.dto.SearchHitDto;
+import org.secassess.core.interfaces.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<CursorPageDto<SearchHitDto>> search(
+            SearchFilterDto filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        log.info("REST request to search Organization {} [Type: {}, Size: {}, First page: {}]",
+                filter.getOrganizationId(), filter.getType(), size, cursor == null);
+
+        CursorPageDto<SearchHitDto> response = searchService.search(filter, cursor, size);
+
+        log.info("Found {} search hits, more available: {}", response.getSize(), response.isHasNext());
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,43 @@
+package org.secassess.core.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.TemplateSectionDto;
+import org.secassess.core.dto.TemplateSyncDto;
+import org.secassess.core.interfaces.TemplateService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/templates")
+@RequiredArgsConstructor
+public class TemplateController {
+
+    private final TemplateService templateService;
+
+    @GetMapping("/{id}/sections")
+    public ResponseEntity<List<TemplateSectionDto>> getSections(@PathVariable("id") UUID id) {
+        log.info("REST request to list sections of template: {}", id);
+
+        List<TemplateSectionDto> sections = templateService.getSections(id);
+
+        log.info("Template {} has {} sections", id, sections.size());
+
+        return ResponseEntity.ok(sections);
+    }
+
+    @PostMapping("/{id}/sync")
+    public ResponseEntity<TemplateSyncDto> syncToLatest(@PathVariable("id") UUID id) {
+        log.info("REST request to sync assessments with latest revision of template: {}", id);
+
+        TemplateSyncDto sync = templateService.syncToLatest(id);
+
+        log.info("Sync of template {} up to change {}: {}", id, sync.getTargetChangeId(), sync.getStatus());
+
+        return ResponseEntity.accepted().body(sync);
+    }
+}
@@ -0,0 +1,22 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object describing the outcome of a criteria copy into a single assessment within a bulk operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentCopyResultDto {
+    private UUID assessmentId;
+    private boolean success;
+    private CopyStatsResponseDto stats;
+    private String error;
+}
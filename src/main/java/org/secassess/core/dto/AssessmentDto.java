@@ -28,5 +28,7 @@ public class AssessmentDto implements Serializable {
     private AssessmentStatus status;
     private Instant createdAt;
     private Instant updatedAt;
+    // Changes whenever the assessment or any of its items changes
+    private Long version;
     private List<AssessmentItemDto> items;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.AssessmentStatus;
+
+/**
+ * Data transfer object carrying the optional filters of the assessment list endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentFilterDto {
+    private Long projectId;
+    private AssessmentStatus status;
+}
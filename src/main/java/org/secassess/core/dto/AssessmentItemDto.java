@@ -3,6 +3,8 @@ package org.secassess.core.dto;
 import lombok.Builder;
 import lombok.Data;
 import org.secassess.core.enums.Severity;
+
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.UUID;
 
@@ -11,7 +13,10 @@ import java.util.UUID;
  */
 @Data
 @Builder
-public class AssessmentItemDto {
+public class AssessmentItemDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private UUID id;
     private UUID criterionRef;
     private String section;
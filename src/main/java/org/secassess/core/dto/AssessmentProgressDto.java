@@ -0,0 +1,25 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Data transfer object reporting how far the scoring of an assessment has progressed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentProgressDto {
+    private UUID assessmentId;
+    private int totalItems;
+    private int scoredItems;
+    private int unscoredItems;
+    // Weight-averaged score of the scored items, null until an item is scored
+    private BigDecimal weightedScore;
+}
@@ -0,0 +1,32 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.Severity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Data transfer object reporting the weighted score of an assessment overall, per section and per severity.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentScoreDto {
+    private UUID assessmentId;
+    private int totalItems;
+    private int scoredItems;
+    private int unscoredItems;
+    // Severity- and weight-averaged score of the scored items, null until an item is scored
+    private BigDecimal weightedScore;
+    // Multipliers the scores were computed with
+    private Map<Severity, BigDecimal> severityMultipliers;
+    private List<ScoreBreakdownDto> sections;
+    private List<ScoreBreakdownDto> severities;
+}
@@ -0,0 +1,32 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.AssessmentStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Data transfer object listing an assessment with its scoring progress but without its items.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentSummaryDto {
+    private UUID id;
+    private Long projectId;
+    private String title;
+    private AssessmentStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private int totalItems;
+    private int scoredItems;
+    private int unscoredItems;
+    // Weight-averaged score of the scored items, null until an item is scored
+    private BigDecimal weightedScore;
+}
@@ -0,0 +1,36 @@
+package org.secassess.core.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data transfer object for applying one template copy to many assessments, addressed either by explicit IDs or by project.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCopyCriteriaRequestDto {
+
+    /**
+     * Cap on the assessments one request may copy into, whether listed explicitly or resolved from the project.
+     */
+    public static final int MAX_TARGETS = 1000;
+
+    @Valid
+    @NotNull(message = "Copy parameters are required")
+    private CopyCriteriaRequestDto copy;
+
+    @Size(max = MAX_TARGETS, message = "At most 1000 assessments can be targeted per request")
+    private List<UUID> assessmentIds;
+
+    private Long projectId;
+}
@@ -0,0 +1,22 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object summarizing a bulk criteria copy with per-assessment results and aggregate statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCopyResponseDto {
+    private int succeeded;
+    private int failed;
+    private CopyStatsResponseDto aggregate;
+    private List<AssessmentCopyResultDto> results;
+}
@@ -0,0 +1,29 @@
+package org.secassess.core.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.BulkUpdateMode;
+
+import java.util.List;
+
+/**
+ * Data transfer object for scoring many items of one assessment in one request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemScoreRequestDto {
+
+    @NotEmpty(message = "At least one item update is required")
+    @Size(max = 5000, message = "At most 5000 items can be updated per request")
+    private List<@Valid ItemScoreUpdateDto> updates;
+
+    @Builder.Default
+    private BulkUpdateMode mode = BulkUpdateMode.ALL_OR_NOTHING;
+}
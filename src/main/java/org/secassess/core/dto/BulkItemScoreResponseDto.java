@@ -0,0 +1,28 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.BulkUpdateMode;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data transfer object summarizing a bulk item scoring request with per-item outcomes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemScoreResponseDto {
+    private UUID assessmentId;
+    private BulkUpdateMode mode;
+    // False when ALL_OR_NOTHING rejected the request and nothing was written
+    private boolean applied;
+    private int updated;
+    private int rejected;
+    // In request order
+    private List<ItemScoreResultDto> results;
+}
@@ -0,0 +1,34 @@
+package org.secassess.core.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.BulkUpdateMode;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data transfer object for moving many assessments to the same status in one request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequestDto {
+
+    @NotEmpty(message = "At least one assessment ID is required")
+    @Size(max = 1000, message = "At most 1000 assessments can be updated per request")
+    private List<UUID> assessmentIds;
+
+    @NotNull(message = "Assessment status is required")
+    private AssessmentStatus status;
+
+    @Builder.Default
+    private BulkUpdateMode mode = BulkUpdateMode.ALL_OR_NOTHING;
+}
@@ -0,0 +1,27 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.BulkUpdateMode;
+
+import java.util.List;
+
+/**
+ * Data transfer object summarizing a bulk status transition with per-assessment outcomes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponseDto {
+    private AssessmentStatus status;
+    private BulkUpdateMode mode;
+    // False when ALL_OR_NOTHING rejected the request and nothing was written
+    private boolean applied;
+    private int updated;
+    private int rejected;
+    private List<StatusUpdateResultDto> results;
+}
@@ -3,6 +3,7 @@ package org.secassess.core.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.secassess.core.enums.CopyMode;
 import org.secassess.core.validators.SemVer;
 
 import java.util.List;
@@ -29,4 +30,7 @@ public class CopyCriteriaRequestDto {
     private List<String> includeSections;
 
     private boolean overwriteExisting;
+
+    @Builder.Default
+    private CopyMode mode = CopyMode.BATCHED;
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.CopyJobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Data transfer object reporting the progress and outcome of an asynchronous criteria copy job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CopyJobDto {
+    private UUID id;
+    private UUID assessmentId;
+    private UUID templateId;
+    private CopyJobStatus status;
+    private int processed;
+    private CopyStatsResponseDto stats;
+    private String error;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
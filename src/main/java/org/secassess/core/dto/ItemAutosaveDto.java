@@ -0,0 +1,24 @@
+package org.secassess.core.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object carrying an autosaved score and notes of a single assessment item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemAutosaveDto {
+
+    // Null leaves the current score
+    private Integer score;
+
+    // Null leaves the current notes
+    @Size(max = 4000, message = "Notes must not exceed 4000 characters")
+    private String notes;
+}
@@ -0,0 +1,28 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data transfer object reporting item score histograms by section and severity, with the size of the store they came from.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemHistogramDto {
+    private long totalItems;
+    private long scoredItems;
+    // Sections in name order, severities in ascending order; combinations without items are left out
+    private List<ItemHistogramGroupDto> groups;
+    private int storeRows;
+    // Estimated heap held by the columnar item store
+    private long storeBytes;
+    // Null while the store is still loading at startup
+    private Instant snapshotAt;
+}
@@ -0,0 +1,25 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.Severity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data transfer object carrying the optional filters of the item histogram endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemHistogramFilterDto {
+    private UUID organizationId;
+    private Long projectId;
+    // Empty selects every section or severity
+    private List<String> sections;
+    private List<Severity> severities;
+}
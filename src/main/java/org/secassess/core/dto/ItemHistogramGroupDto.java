@@ -0,0 +1,28 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.Severity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data transfer object carrying the item counts and score distribution of one section and severity.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemHistogramGroupDto {
+    private String section;
+    private Severity severity;
+    private long totalItems;
+    private long scoredItems;
+    // Weight-averaged score of the scored items, null until an item is scored
+    private BigDecimal weightedScore;
+    // Scored items per 10-point score band, lowest first; a perfect score counts in the last band
+    private List<Long> scoreBands;
+}
@@ -0,0 +1,21 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.ItemScoreOutcome;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object describing the outcome of one item update within a bulk scoring request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemScoreResultDto {
+    private UUID itemId;
+    private ItemScoreOutcome outcome;
+}
@@ -0,0 +1,30 @@
+package org.secassess.core.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object carrying the new score and notes of one assessment item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemScoreUpdateDto {
+
+    @NotNull(message = "Item ID is required")
+    private UUID itemId;
+
+    // Null leaves the current score; range checked per item so one bad score does not fail the whole request
+    private Integer score;
+
+    // Null leaves the current notes
+    @Size(max = 4000, message = "Notes must not exceed 4000 characters")
+    private String notes;
+}
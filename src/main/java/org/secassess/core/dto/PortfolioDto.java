@@ -0,0 +1,39 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data transfer object summarizing the risk posture of a project or of a whole organization.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioDto {
+    private UUID organizationId;
+    // Null for an organization portfolio
+    private Long projectId;
+    private int projects;
+    private int assessments;
+    // Assessments with at least one scored item
+    private int scoredAssessments;
+    private int totalItems;
+    private int scoredItems;
+    private int unscoredHighItems;
+    // Severity- and weight-averaged score over all scored items, null until an item is scored
+    private BigDecimal weightedScore;
+    private List<ScoreBandDto> scoreDistribution;
+    // Lowest-scoring sections first
+    private List<ScoreBreakdownDto> weakestSections;
+    // Null for a project portfolio
+    private List<PortfolioDto> projectPortfolios;
+    private Instant computedAt;
+}
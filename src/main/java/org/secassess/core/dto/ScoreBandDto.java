@@ -0,0 +1,20 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object counting the assessments whose weighted score falls into one score band.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreBandDto {
+    private int minScore;
+    // Exclusive, except for the last band which includes a perfect score
+    private int maxScore;
+    private int assessments;
+}
@@ -0,0 +1,24 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data transfer object carrying the weighted score of one section or one severity of an assessment.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreBreakdownDto {
+    // Section name or severity
+    private String key;
+    private int totalItems;
+    private int scoredItems;
+    // Severity- and weight-averaged score of the scored items, null until an item is scored
+    private BigDecimal weightedScore;
+}
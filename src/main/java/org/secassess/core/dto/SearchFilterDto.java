@@ -0,0 +1,24 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.SearchHitType;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object holding the query and scope of a full-text search.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFilterDto {
+    private UUID organizationId;
+    // Web search syntax: words are ANDed, "quoted phrases" must be adjacent, OR and -negation are supported
+    private String q;
+    // Null searches criteria and items alike
+    private SearchHitType type;
+}
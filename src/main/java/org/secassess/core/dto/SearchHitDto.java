@@ -0,0 +1,33 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.SearchHitType;
+import org.secassess.core.enums.Severity;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object for one ranked full-text search hit: a template criterion or an assessment item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+    private SearchHitType type;
+    private UUID id;
+    // Template of a criterion, assessment of an item
+    private UUID parentId;
+    private String parentTitle;
+    private String section;
+    private Severity severity;
+    private String text;
+    // Items only
+    private String notes;
+    // Items only, null until scored
+    private Integer score;
+    private float rank;
+}
@@ -0,0 +1,22 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.StatusUpdateOutcome;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object describing the outcome of a status transition for a single assessment within a bulk operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusUpdateResultDto {
+    private UUID assessmentId;
+    private StatusUpdateOutcome outcome;
+    private Integer unscoredItems;
+}
@@ -0,0 +1,23 @@
+package org.secassess.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.secassess.core.enums.TemplateSyncStatus;
+
+import java.util.UUID;
+
+/**
+ * Data transfer object acknowledging a sync of assessments with the latest revision of a template.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateSyncDto {
+    private UUID templateId;
+    private String version;
+    private Long targetChangeId;
+    private TemplateSyncStatus status;
+}
@@ -0,0 +1,8 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum defining how a bulk update handles targets that fail validation: reject the whole request, or apply the rest.
+ */
+public enum BulkUpdateMode {
+    ALL_OR_NOTHING, PARTIAL
+}
@@ -0,0 +1,8 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum defining the lifecycle states of an asynchronous criteria copy job.
+ */
+public enum CopyJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,10 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum selecting how template criteria are transferred into an assessment during a copy operation.
+ * BATCHED maps criteria in the application and writes them as multi-row upserts,
+ * IN_DATABASE runs the whole transformation as a single INSERT ... SELECT statement.
+ */
+public enum CopyMode {
+    BATCHED, IN_DATABASE
+}
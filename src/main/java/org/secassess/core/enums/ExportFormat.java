@@ -0,0 +1,35 @@
+package org.secassess.core.enums;
+
+import org.secassess.core.exception.BusinessValidationException;
+
+/**
+ * Enum defining the formats of the streaming assessment export.
+ * NDJSON writes one JSON object per line, CSV one comma-separated record per line after a header.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static ExportFormat fromParameter(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) return format;
+        }
+        throw new BusinessValidationException("Unsupported export format: " + value + ". Use ndjson or csv.");
+    }
+}
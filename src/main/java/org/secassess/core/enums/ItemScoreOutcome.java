@@ -0,0 +1,9 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum defining the per-item outcome of a bulk item scoring request or an item autosave.
+ * QUEUED means the autosave was accepted by the write-behind buffer and will be written shortly.
+ */
+public enum ItemScoreOutcome {
+    UPDATED, NOT_FOUND, INVALID_SCORE, DUPLICATE, EMPTY_UPDATE, SKIPPED, QUEUED
+}
@@ -0,0 +1,8 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum defining what a full-text search hit points at: a template criterion or an assessment item.
+ */
+public enum SearchHitType {
+    CRITERION, ITEM
+}
@@ -0,0 +1,8 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum defining the per-assessment outcome of a bulk status transition.
+ */
+public enum StatusUpdateOutcome {
+    UPDATED, UNCHANGED, NOT_FOUND, UNSCORED_ITEMS, SKIPPED
+}
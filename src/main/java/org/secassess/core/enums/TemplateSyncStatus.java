@@ -0,0 +1,8 @@
+package org.secassess.core.enums;
+
+/**
+ * Enum defining the outcome of a request to sync assessments with the latest revision of a template.
+ */
+public enum TemplateSyncStatus {
+    QUEUED, ALREADY_RUNNING, UP_TO_DATE
+}
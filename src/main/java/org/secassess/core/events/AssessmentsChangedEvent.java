@@ -0,0 +1,25 @@
+package org.secassess.core.events;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Application event published by every write that changes assessments or their items.
+ *
+ * @param changedFields Assessment properties whose values changed; a change to these can move assessments
+ *                      between filtered or sorted pages. Empty when only the items changed
+ */
+public record AssessmentsChangedEvent(Set<UUID> assessmentIds, Set<String> changedFields) {
+
+    public static final String STATUS = "status";
+    public static final String UPDATED_AT = "updatedAt";
+
+    public static AssessmentsChangedEvent itemsChanged(Collection<UUID> assessmentIds) {
+        return new AssessmentsChangedEvent(Set.copyOf(assessmentIds), Set.of());
+    }
+
+    public static AssessmentsChangedEvent fieldsChanged(Collection<UUID> assessmentIds, String... fields) {
+        return new AssessmentsChangedEvent(Set.copyOf(assessmentIds), Set.of(fields));
+    }
+}
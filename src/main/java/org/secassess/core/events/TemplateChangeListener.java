@@ -0,0 +1,32 @@
+package org.secassess.core.events;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.model.TemplateCriterion;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener translating template and criterion writes into TemplateChangedEvents.
+ * Hibernate obtains it from the Spring context, so collaborators can be injected.
+ */
+@Component
+@RequiredArgsConstructor
+public class TemplateChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof AssessmentTemplate template && template.getId() != null) {
+            eventPublisher.publishEvent(new TemplateChangedEvent(template.getId()));
+        } else if (entity instanceof TemplateCriterion criterion && criterion.getTemplate() != null) {
+            eventPublisher.publishEvent(new TemplateChangedEvent(criterion.getTemplate().getId()));
+        }
+    }
+}
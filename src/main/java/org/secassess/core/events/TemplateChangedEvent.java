@@ -0,0 +1,9 @@
+package org.secassess.core.events;
+
+import java.util.UUID;
+
+/**
+ * Application event published whenever a template or one of its criteria is created, updated or deleted.
+ */
+public record TemplateChangedEvent(UUID templateId) {
+}
@@ -0,0 +1,55 @@
+package org.secassess.core.export;
+
+import org.secassess.core.repository.AssessmentExportRepository.ExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes rows as RFC 4180 CSV with a header line.
+ */
+public class CsvExportRowWriter implements ExportRowWriter {
+
+    private static final String HEADER = "assessment_id,project_id,title,status,created_at,updated_at,"
+            + "item_id,criterion_ref,section,text,severity,weight,score,notes";
+
+    private final Writer writer;
+
+    public CsvExportRowWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ExportRow row) throws IOException {
+        Object[] values = {row.assessmentId(), row.projectId(), row.title(), row.status(), row.createdAt(),
+                row.updatedAt(), row.itemId(), row.criterionRef(), row.section(), row.text(), row.severity(),
+                row.weight(), row.score(), row.notes()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            if (values[i] != null) writer.write(escape(values[i].toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    static String escape(String value) {
+        // Free text starting with a formula character would be evaluated when the export is opened in a spreadsheet
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
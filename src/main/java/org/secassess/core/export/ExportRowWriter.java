@@ -0,0 +1,14 @@
+package org.secassess.core.export;
+
+import org.secassess.core.repository.AssessmentExportRepository.ExportRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Serializes export rows one at a time straight to the response stream.
+ */
+public interface ExportRowWriter extends Closeable {
+
+    void write(ExportRow row) throws IOException;
+}
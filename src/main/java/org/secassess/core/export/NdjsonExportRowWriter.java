@@ -0,0 +1,35 @@
+package org.secassess.core.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.secassess.core.repository.AssessmentExportRepository.ExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes each row as one JSON object followed by a newline.
+ */
+public class NdjsonExportRowWriter implements ExportRowWriter {
+
+    private final JsonGenerator generator;
+    private boolean empty = true;
+
+    public NdjsonExportRowWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.setRootValueSeparator(new SerializedString("\n"));
+    }
+
+    @Override
+    public void write(ExportRow row) throws IOException {
+        generator.writeObject(row);
+        empty = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!empty) generator.writeRaw('\n');
+        generator.close();
+    }
+}
@@ -0,0 +1,243 @@
+package org.secassess.core.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.idempotency.IdempotencyStore;
+import org.secassess.core.idempotency.IdempotentResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Filter that makes retried copy and status requests idempotent when they carry an Idempotency-Key header.
+ * The first execution's response is stored and replayed to retries; concurrent duplicates wait for it instead
+ * of executing again. Runs after Spring Security, so keys are scoped per user. A retry whose body differs from the
+ * first execution's is a client bug rather than a retry, and is rejected with 422 instead of being replayed.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final List<Endpoint> IDEMPOTENT_ENDPOINTS = List.of(
+            new Endpoint(HttpMethod.POST, "/api/v1/assessments/*/copy-from-template"),
+            new Endpoint(HttpMethod.POST, "/api/v1/assessments/copy-from-template"),
+            new Endpoint(HttpMethod.PATCH, "/api/v1/assessments/*/status"),
+            new Endpoint(HttpMethod.PATCH, "/api/v1/assessments/status"));
+
+    private final IdempotencyStore idempotencyStore;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final Duration waitTimeout;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+                             @Value("${app.idempotency.in-flight-ttl:PT5M}") Duration inFlightTtl,
+                             @Value("${app.idempotency.wait-timeout:PT30S}") Duration waitTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.ttl = ttl;
+        this.inFlightTtl = inFlightTtl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) return true;
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return IDEMPOTENT_ENDPOINTS.stream().noneMatch(endpoint -> endpoint.matches(request.getMethod(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Bad Request",
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // The body is read up front to hash it, and replayed to the chain from memory
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = sha256(cachedRequest.body);
+        String key = scopedKey(request, idempotencyKey);
+        try {
+            // A second claim attempt covers a first execution that failed and released the key while we waited
+            for (int attempt = 0; attempt < 2; attempt++) {
+                if (idempotencyStore.tryAcquire(key, inFlightTtl)) {
+                    execute(key, requestHash, cachedRequest, response, filterChain);
+                    return;
+                }
+
+                Optional<IdempotentResponse> stored = idempotencyStore.awaitResult(key, waitTimeout);
+                if (stored.isPresent()) {
+                    if (stored.get().requestHash() != null && !stored.get().requestHash().equals(requestHash)) {
+                        log.warn("Idempotency-Key {} was reused with a different request body", idempotencyKey);
+                        writeError(response, HttpStatus.UNPROCESSABLE_ENTITY.value(), "Unprocessable Entity",
+                                "This Idempotency-Key was already used with a different request body");
+                        return;
+                    }
+                    log.info("Replaying stored response for Idempotency-Key: {}", idempotencyKey);
+                    replay(stored.get(), response);
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.warn("Request with Idempotency-Key {} is still in progress", idempotencyKey);
+        writeError(response, HttpServletResponse.SC_CONFLICT, "Conflict",
+                "A request with this Idempotency-Key is still being processed");
+    }
+
+    private void execute(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            // Server errors are not final outcomes, so the key is released and a retry executes again
+            if (wrapper.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                idempotencyStore.complete(key, new IdempotentResponse(
+                        requestHash,
+                        wrapper.getStatus(),
+                        wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.LOCATION),
+                        wrapper.getContentAsByteArray()), ttl);
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.body() != null && stored.body().length > 0) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null ? authentication.getName() : "anonymous";
+        String query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
+        return principal + ":" + request.getMethod() + ":" + request.getRequestURI() + query + ":" + idempotencyKey;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String error, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\": \"" + error + "\", \"message\": \"" + message + "\"}");
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Cached request bodies are read synchronously");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private record Endpoint(HttpMethod method, String pattern) {
+        boolean matches(String requestMethod, String path) {
+            return method.matches(requestMethod) && PATH_MATCHER.match(pattern, path);
+        }
+    }
+}
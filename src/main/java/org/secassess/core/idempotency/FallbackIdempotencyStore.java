@@ -0,0 +1,71 @@
+package org.secassess.core.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Shared idempotency store that degrades to a node-local one while the shared store is unreachable. Retries are then
+ * only deduplicated on the node that ran the first execution, instead of every keyed request failing with a 500.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FallbackIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyStore primary;
+    private final InMemoryIdempotencyStore fallback;
+
+    @Override
+    public boolean tryAcquire(String key, Duration inFlightTtl) {
+        try {
+            return primary.tryAcquire(key, inFlightTtl);
+        } catch (DataAccessException ex) {
+            warn("claim", ex);
+            return fallback.tryAcquire(key, inFlightTtl);
+        }
+    }
+
+    @Override
+    public Optional<IdempotentResponse> awaitResult(String key, Duration timeout) throws InterruptedException {
+        try {
+            return primary.awaitResult(key, timeout);
+        } catch (DataAccessException ex) {
+            warn("read", ex);
+            return fallback.awaitResult(key, timeout);
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Duration ttl) {
+        try {
+            primary.complete(key, response, ttl);
+        } catch (DataAccessException ex) {
+            // A claim made in the shared store before the outage simply expires after the in-flight TTL
+            warn("store", ex);
+            fallback.complete(key, response, ttl);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            primary.release(key);
+        } catch (DataAccessException ex) {
+            warn("release", ex);
+        }
+        fallback.release(key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        fallback.purgeExpired();
+    }
+
+    private static void warn(String operation, DataAccessException ex) {
+        log.warn("Idempotency store unavailable, falling back to node-local keys for {}: {}", operation, ex.getMessage());
+    }
+}
@@ -0,0 +1,29 @@
+package org.secassess.core.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * TTL-bounded store of idempotency keys. A key is first claimed as in-flight by the request that executes it,
+ * then either completed with its response or released so that a retry can execute again.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims the key for execution.
+     *
+     * @return false if the key is already in flight or already holds a completed response
+     */
+    boolean tryAcquire(String key, Duration inFlightTtl);
+
+    /**
+     * Waits up to the timeout for the response of the key's execution.
+     *
+     * @return empty if the execution was released or is still in flight when the timeout expires
+     */
+    Optional<IdempotentResponse> awaitResult(String key, Duration timeout) throws InterruptedException;
+
+    void complete(String key, IdempotentResponse response, Duration ttl);
+
+    void release(String key);
+}
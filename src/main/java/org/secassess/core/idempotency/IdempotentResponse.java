@@ -0,0 +1,8 @@
+package org.secassess.core.idempotency;
+
+/**
+ * Recorded outcome of the first execution of an idempotent request, replayed to every retry carrying the same key.
+ * The request hash identifies the body it answered, so a key reused for a different body is not replayed.
+ */
+public record IdempotentResponse(String requestHash, int status, String contentType, String location, byte[] body) {
+}
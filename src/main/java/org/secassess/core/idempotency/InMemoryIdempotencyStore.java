@@ -0,0 +1,88 @@
+package org.secassess.core.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-node idempotency store used when Redis is not configured. Waiting duplicates block on the in-flight
+ * execution's future instead of polling.
+ */
+@Slf4j
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(String key, Duration inFlightTtl) {
+        Entry claim = new Entry(expiry(inFlightTtl));
+        Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired() ? claim : existing);
+        return current == claim;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> awaitResult(String key, Duration timeout) throws InterruptedException {
+        Entry entry = entries.get(key);
+        if (entry == null) return Optional.empty();
+
+        try {
+            return Optional.ofNullable(entry.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException | ExecutionException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Duration ttl) {
+        Entry entry = entries.get(key);
+        if (entry == null) return;
+
+        entry.expiresAt = expiry(ttl);
+        entry.result.complete(response);
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            // Wakes waiting duplicates with no result so they can claim the key themselves
+            entry.result.complete(null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int before = entries.size();
+        entries.values().removeIf(Entry::isExpired);
+        int purged = before - entries.size();
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private static long expiry(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.secassess.core.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency store shared by all nodes. The in-flight claim is a SET NX with a TTL, so a crashed node's claim
+ * expires on its own; completed responses are stored as JSON under the same key.
+ */
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "secassess:idempotency:";
+    private static final String IN_FLIGHT = "IN_FLIGHT";
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean tryAcquire(String key, Duration inFlightTtl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, IN_FLIGHT, inFlightTtl));
+    }
+
+    @Override
+    public Optional<IdempotentResponse> awaitResult(String key, Duration timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (true) {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value == null) return Optional.empty();
+            if (!IN_FLIGHT.equals(value)) return Optional.of(read(value));
+            if (System.currentTimeMillis() >= deadline) return Optional.empty();
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize idempotent response", ex);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    private IdempotentResponse read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotentResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not deserialize idempotent response", ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.secassess.core.interfaces;
+
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for streaming assessment exports.
+ */
+public interface AssessmentExportService {
+
+    /**
+     * Writes every assessment matching the filter, one line per item, to the stream.
+     *
+     * @return the number of rows written
+     */
+    long export(AssessmentFilterDto filter, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,13 @@
+package org.secassess.core.interfaces;
+
+import org.secassess.core.dto.AssessmentScoreDto;
+
+import java.util.UUID;
+
+/**
+ * Service interface for weighted assessment scores.
+ */
+public interface AssessmentScoreService {
+
+    AssessmentScoreDto getScore(UUID assessmentId);
+}
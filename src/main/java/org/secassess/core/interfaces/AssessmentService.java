@@ -1,8 +1,20 @@
 package org.secassess.core.interfaces;
 
 import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.dto.AssessmentProgressDto;
+import org.secassess.core.dto.AssessmentSummaryDto;
+import org.secassess.core.dto.BulkCopyCriteriaRequestDto;
+import org.secassess.core.dto.BulkCopyResponseDto;
+import org.secassess.core.dto.BulkItemScoreRequestDto;
+import org.secassess.core.dto.BulkItemScoreResponseDto;
+import org.secassess.core.dto.BulkStatusUpdateRequestDto;
+import org.secassess.core.dto.BulkStatusUpdateResponseDto;
 import org.secassess.core.dto.CopyCriteriaRequestDto;
 import org.secassess.core.dto.CopyStatsResponseDto;
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.ItemAutosaveDto;
+import org.secassess.core.dto.ItemScoreResultDto;
 import org.secassess.core.dto.UpdateStatusRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,7 +28,25 @@ public interface AssessmentService {
 
     CopyStatsResponseDto copyCriteriaFromTemplate(UUID assessmentId, CopyCriteriaRequestDto request);
 
+    BulkCopyResponseDto copyCriteriaToAssessments(BulkCopyCriteriaRequestDto request);
+
     AssessmentDto updateStatus(UUID assessmentId, UpdateStatusRequestDto request);
 
-    Page<AssessmentDto> findAll(Pageable pageable);
+    BulkStatusUpdateResponseDto bulkUpdateStatus(BulkStatusUpdateRequestDto request);
+
+    BulkItemScoreResponseDto bulkScoreItems(UUID assessmentId, BulkItemScoreRequestDto request);
+
+    ItemScoreResultDto autosaveItem(UUID assessmentId, UUID itemId, ItemAutosaveDto request);
+
+    AssessmentProgressDto getProgress(UUID assessmentId);
+
+    Page<AssessmentDto> findAll(AssessmentFilterDto filter, Pageable pageable);
+
+    CursorPageDto<AssessmentDto> scroll(AssessmentFilterDto filter, String cursor, int size);
+
+    CursorPageDto<AssessmentSummaryDto> findSummaries(AssessmentFilterDto filter, String cursor, int size);
+
+    AssessmentDto getAssessment(UUID assessmentId);
+
+    long getVersion(UUID assessmentId);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package org.secassess.core.interfaces;
+
+import org.secassess.core.dto.CopyCriteriaRequestDto;
+import org.secassess.core.dto.CopyJobDto;
+
+import java.util.UUID;
+
+/**
+ * Service interface for asynchronous, chunked criteria copy jobs.
+ */
+public interface CopyJobService {
+
+    CopyJobDto submit(UUID assessmentId, CopyCriteriaRequestDto request);
+
+    CopyJobDto getJob(UUID jobId);
+}
@@ -0,0 +1,21 @@
+package org.secassess.core.interfaces;
+
+import org.secassess.core.dto.ItemHistogramDto;
+import org.secassess.core.dto.ItemHistogramFilterDto;
+import org.secassess.core.dto.PortfolioDto;
+
+import java.util.UUID;
+
+/**
+ * Service interface for organization- and project-wide portfolio analytics.
+ */
+public interface PortfolioAnalyticsService {
+
+    PortfolioDto getOrganizationPortfolio(UUID organizationId);
+
+    PortfolioDto getProjectPortfolio(Long projectId);
+
+    ItemHistogramDto getItemHistogram(ItemHistogramFilterDto filter);
+
+    void refresh();
+}
@@ -0,0 +1,13 @@
+package org.secassess.core.interfaces;
+
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.SearchFilterDto;
+import org.secassess.core.dto.SearchHitDto;
+
+/**
+ * Service interface for full-text search over an organization's criteria and assessment items.
+ */
+public interface SearchService {
+
+    CursorPageDto<SearchHitDto> search(SearchFilterDto filter, String cursor, int size);
+}
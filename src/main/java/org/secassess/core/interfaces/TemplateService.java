@@ -0,0 +1,17 @@
+package org.secassess.core.interfaces;
+
+import org.secassess.core.dto.TemplateSectionDto;
+import org.secassess.core.dto.TemplateSyncDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for read access to assessment templates and for propagating their revisions to assessments.
+ */
+public interface TemplateService {
+
+    List<TemplateSectionDto> getSections(UUID templateId);
+
+    TemplateSyncDto syncToLatest(UUID templateId);
+}
@@ -1,15 +1,56 @@
 package org.secassess.core.mapper;
 
+import org.secassess.core.analytics.ItemColumns;
+import org.secassess.core.analytics.ItemHistogram;
+import org.secassess.core.analytics.PortfolioRollup;
+import org.secassess.core.cache.TemplateSnapshot;
+import org.secassess.core.dto.AssessmentCopyResultDto;
 import org.secassess.core.dto.AssessmentDto;
 import org.secassess.core.dto.AssessmentItemDto;
+import org.secassess.core.dto.AssessmentProgressDto;
+import org.secassess.core.dto.AssessmentSummaryDto;
+import org.secassess.core.dto.BulkCopyResponseDto;
+import org.secassess.core.dto.BulkItemScoreRequestDto;
+import org.secassess.core.dto.BulkItemScoreResponseDto;
+import org.secassess.core.dto.BulkStatusUpdateRequestDto;
+import org.secassess.core.dto.BulkStatusUpdateResponseDto;
+import org.secassess.core.dto.CopyJobDto;
 import org.secassess.core.dto.CopyStatsResponseDto;
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.ItemHistogramDto;
+import org.secassess.core.dto.ItemHistogramGroupDto;
+import org.secassess.core.dto.ItemScoreResultDto;
+import org.secassess.core.dto.PortfolioDto;
+import org.secassess.core.dto.ScoreBandDto;
+import org.secassess.core.dto.ScoreBreakdownDto;
+import org.secassess.core.dto.SearchHitDto;
+import org.secassess.core.dto.StatusUpdateResultDto;
+import org.secassess.core.dto.TemplateSectionDto;
+import org.secassess.core.dto.TemplateSyncDto;
+import org.secassess.core.enums.ItemScoreOutcome;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.enums.StatusUpdateOutcome;
+import org.secassess.core.enums.TemplateSyncStatus;
 import org.secassess.core.model.Assessment;
 import org.secassess.core.model.AssessmentItem;
+import org.secassess.core.model.AssessmentStats;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.model.CopyJob;
 import org.secassess.core.model.TemplateCriterion;
+import org.secassess.core.repository.AssessmentSummaryRepository.SummaryRow;
+import org.secassess.core.repository.PortfolioRollupRepository.RollupRow;
+import org.secassess.core.repository.PortfolioRollupRepository.SectionRow;
+import org.secassess.core.repository.SearchRepository.SearchHitRow;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +74,7 @@ public class AssessmentMapper {
                 .status(entity.getStatus())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getRowVersion())
                 .items(itemDtos)
                 .build();
     }
@@ -56,6 +98,15 @@ public class AssessmentMapper {
         return page.map(this::toDto);
     }
 
+    public <T> CursorPageDto<T> toCursorPageDto(List<T> content, String nextCursor) {
+        return CursorPageDto.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * Updates an existing AssessmentItem with data from a TemplateCriterion.
      * Useful for synchronization or copying logic.
@@ -71,6 +122,29 @@ public class AssessmentMapper {
         return target;
     }
 
+    /**
+     * Creates a transient AssessmentItem for the given criterion, ready to be written by the bulk copy path.
+     */
+    public AssessmentItem newItemFromCriterion(TemplateCriterion source) {
+        AssessmentItem item = new AssessmentItem();
+        item.setCriterionRef(source.getId());
+        return updateItemFromCriterion(item, source);
+    }
+
+    /**
+     * Creates a transient AssessmentItem from one criterion of a cached template snapshot.
+     * Maps the same fields as updateItemFromCriterion.
+     */
+    public AssessmentItem newItemFromSnapshot(TemplateSnapshot snapshot, int index) {
+        AssessmentItem item = new AssessmentItem();
+        item.setCriterionRef(snapshot.criterionId(index));
+        item.setSection(snapshot.section(index));
+        item.setText(snapshot.text(index));
+        item.setSeverity(snapshot.severity(index));
+        item.setWeight(snapshot.weight(index));
+        return item;
+    }
+
     public CopyStatsResponseDto toCopyStatsDto(int copied, int skipped, int filtered, int total) {
         return CopyStatsResponseDto.builder()
                 .copied(copied)
@@ -79,4 +153,261 @@ public class AssessmentMapper {
                 .totalSource(total)
                 .build();
     }
-}
\ No newline at end of file
+
+    public AssessmentCopyResultDto toCopyResultDto(UUID assessmentId, CopyStatsResponseDto stats) {
+        return AssessmentCopyResultDto.builder()
+                .assessmentId(assessmentId)
+                .success(true)
+                .stats(stats)
+                .build();
+    }
+
+    public AssessmentCopyResultDto toFailedCopyResultDto(UUID assessmentId, String error) {
+        return AssessmentCopyResultDto.builder()
+                .assessmentId(assessmentId)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Builds the bulk copy response, summing the stats of every successful copy into the aggregate.
+     */
+    public BulkCopyResponseDto toBulkCopyResponseDto(List<AssessmentCopyResultDto> results) {
+        int copied = 0, skipped = 0, filtered = 0, total = 0, succeeded = 0;
+
+        for (AssessmentCopyResultDto result : results) {
+            if (!result.isSuccess()) continue;
+            CopyStatsResponseDto stats = result.getStats();
+            copied += stats.getCopied();
+            skipped += stats.getSkippedDuplicates();
+            filtered += stats.getFilteredOut();
+            total += stats.getTotalSource();
+            succeeded++;
+        }
+
+        return BulkCopyResponseDto.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .aggregate(toCopyStatsDto(copied, skipped, filtered, total))
+                .results(results)
+                .build();
+    }
+
+    public CopyJobDto toCopyJobDto(CopyJob job) {
+        if (job == null) return null;
+
+        return CopyJobDto.builder()
+                .id(job.getId())
+                .assessmentId(job.getAssessmentId())
+                .templateId(job.getTemplateId())
+                .status(job.getStatus())
+                .processed(job.getProcessed())
+                .stats(toCopyStatsDto(job.getCopied(), job.getSkippedDuplicates(), job.getFilteredOut(), job.getTotalSource()))
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    public List<TemplateSectionDto> toTemplateSectionDtos(TemplateSnapshot snapshot) {
+        List<TemplateSectionDto> sections = new ArrayList<>(snapshot.sectionCount());
+        for (int code = 0; code < snapshot.sectionCount(); code++) {
+            sections.add(TemplateSectionDto.builder()
+                    .section(snapshot.sectionName(code))
+                    .criterionCount(snapshot.criterionCountInSection(code))
+                    .build());
+        }
+        return sections;
+    }
+
+    public TemplateSyncDto toTemplateSyncDto(AssessmentTemplate template, Long targetChangeId, TemplateSyncStatus status) {
+        return TemplateSyncDto.builder()
+                .templateId(template.getId())
+                .version(template.getVersion())
+                .targetChangeId(targetChangeId)
+                .status(status)
+                .build();
+    }
+
+    /**
+     * Maps the trigger-maintained counters; an assessment without a stats row has no items yet.
+     */
+    public AssessmentProgressDto toProgressDto(UUID assessmentId, AssessmentStats stats) {
+        if (stats == null) {
+            return AssessmentProgressDto.builder().assessmentId(assessmentId).build();
+        }
+
+        return AssessmentProgressDto.builder()
+                .assessmentId(assessmentId)
+                .totalItems(stats.getTotalItems())
+                .scoredItems(stats.getScoredItems())
+                .unscoredItems(stats.getUnscoredItems())
+                .weightedScore(weightedScore(stats.getScoredItems(), stats.getWeightedScoreSum(), stats.getScoredWeightSum()))
+                .build();
+    }
+
+    public AssessmentSummaryDto toSummaryDto(SummaryRow row) {
+        return AssessmentSummaryDto.builder()
+                .id(row.id())
+                .projectId(row.projectId())
+                .title(row.title())
+                .status(row.status())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .totalItems(row.totalItems())
+                .scoredItems(row.scoredItems())
+                .unscoredItems(row.totalItems() - row.scoredItems())
+                .weightedScore(weightedScore(row.scoredItems(), row.weightedScoreSum(), row.scoredWeightSum()))
+                .build();
+    }
+
+    public SearchHitDto toSearchHitDto(SearchHitRow row) {
+        return SearchHitDto.builder()
+                .type(row.type())
+                .id(row.id())
+                .parentId(row.parentId())
+                .parentTitle(row.parentTitle())
+                .section(row.section())
+                .severity(row.severity())
+                .text(row.text())
+                .notes(row.notes())
+                .score(row.score())
+                .rank(row.rank())
+                .build();
+    }
+
+    /**
+     * Maps a project or organization rollup; project portfolios are only set for an organization.
+     */
+    public PortfolioDto toPortfolioDto(RollupRow row, List<SectionRow> weakestSections, List<PortfolioDto> projectPortfolios) {
+        int bandWidth = 100 / PortfolioRollup.SCORE_BANDS;
+        List<ScoreBandDto> distribution = new ArrayList<>(PortfolioRollup.SCORE_BANDS);
+        for (int band = 0; band < row.scoreHistogram().length; band++) {
+            distribution.add(ScoreBandDto.builder()
+                    .minScore(band * bandWidth)
+                    .maxScore((band + 1) * bandWidth)
+                    .assessments(row.scoreHistogram()[band])
+                    .build());
+        }
+
+        return PortfolioDto.builder()
+                .organizationId(row.organizationId())
+                .projectId(row.projectId())
+                .projects(row.projects())
+                .assessments(row.assessments())
+                .scoredAssessments(row.scoredAssessments())
+                .totalItems(row.totalItems())
+                .scoredItems(row.scoredItems())
+                .unscoredHighItems(row.unscoredHighItems())
+                .weightedScore(weightedScore(row.scoredItems(), row.weightedScoreSum(), row.weightSum()))
+                .scoreDistribution(distribution)
+                .weakestSections(weakestSections.stream()
+                        .map(section -> ScoreBreakdownDto.builder()
+                                .key(section.section())
+                                .totalItems(section.totalItems())
+                                .scoredItems(section.scoredItems())
+                                .weightedScore(weightedScore(section.scoredItems(), section.weightedScoreSum(), section.weightSum()))
+                                .build())
+                        .toList())
+                .projectPortfolios(projectPortfolios)
+                .computedAt(row.computedAt())
+                .build();
+    }
+
+    /**
+     * Maps a histogram over the columnar item store. Weights are summed in hundredths, which cancel out in the average.
+     */
+    public ItemHistogramDto toItemHistogramDto(ItemColumns columns, ItemHistogram histogram, boolean loaded) {
+        List<ItemHistogramGroupDto> groups = new ArrayList<>();
+        long totalItems = 0, scoredItems = 0;
+        for (int group = 0; group < histogram.groups(); group++) {
+            if (histogram.items(group) == 0) continue;
+
+            List<Long> bands = new ArrayList<>(PortfolioRollup.SCORE_BANDS);
+            for (int band = 0; band < PortfolioRollup.SCORE_BANDS; band++) {
+                bands.add(histogram.band(group, band));
+            }
+            long weightSum = histogram.scoredWeightSum(group);
+            groups.add(ItemHistogramGroupDto.builder()
+                    .section(columns.sectionName(group / ItemColumns.SEVERITIES))
+                    .severity(Severity.values()[group % ItemColumns.SEVERITIES])
+                    .totalItems(histogram.items(group))
+                    .scoredItems(histogram.scored(group))
+                    .weightedScore(weightSum > 0
+                            ? BigDecimal.valueOf(histogram.weightedScoreSum(group)).divide(BigDecimal.valueOf(weightSum), 2, RoundingMode.HALF_UP)
+                            : null)
+                    .scoreBands(bands)
+                    .build());
+            totalItems += histogram.items(group);
+            scoredItems += histogram.scored(group);
+        }
+        groups.sort(Comparator.comparing(ItemHistogramGroupDto::getSection).thenComparing(ItemHistogramGroupDto::getSeverity));
+
+        return ItemHistogramDto.builder()
+                .totalItems(totalItems)
+                .scoredItems(scoredItems)
+                .groups(groups)
+                .storeRows(columns.rows())
+                .storeBytes(columns.footprintBytes())
+                .snapshotAt(loaded ? columns.builtAt() : null)
+                .build();
+    }
+
+    private static BigDecimal weightedScore(int scoredItems, BigDecimal weightedScoreSum, BigDecimal weightSum) {
+        if (scoredItems == 0 || weightSum == null || weightSum.signum() <= 0) return null;
+        return weightedScoreSum.divide(weightSum, 2, RoundingMode.HALF_UP);
+    }
+
+    public StatusUpdateResultDto toStatusUpdateResultDto(UUID assessmentId, StatusUpdateOutcome outcome, Integer unscoredItems) {
+        return StatusUpdateResultDto.builder()
+                .assessmentId(assessmentId)
+                .outcome(outcome)
+                .unscoredItems(unscoredItems)
+                .build();
+    }
+
+    /**
+     * Builds the bulk status response with results in the order the IDs were requested.
+     */
+    public BulkStatusUpdateResponseDto toBulkStatusUpdateResponseDto(BulkStatusUpdateRequestDto request, boolean applied,
+                                                                     List<UUID> ids, Map<UUID, StatusUpdateResultDto> results,
+                                                                     int rejected) {
+        List<StatusUpdateResultDto> ordered = ids.stream().map(results::get).toList();
+        int updated = (int) ordered.stream().filter(result -> result.getOutcome() == StatusUpdateOutcome.UPDATED).count();
+
+        return BulkStatusUpdateResponseDto.builder()
+                .status(request.getStatus())
+                .mode(request.getMode())
+                .applied(applied)
+                .updated(updated)
+                .rejected(rejected)
+                .results(ordered)
+                .build();
+    }
+
+    /**
+     * Builds the bulk scoring response; outcomes are indexed like the request's updates.
+     */
+    public BulkItemScoreResponseDto toBulkItemScoreResponseDto(UUID assessmentId, BulkItemScoreRequestDto request,
+                                                               boolean applied, ItemScoreOutcome[] outcomes, int rejected) {
+        List<ItemScoreResultDto> results = new ArrayList<>(outcomes.length);
+        int updated = 0;
+        for (int i = 0; i < outcomes.length; i++) {
+            results.add(ItemScoreResultDto.builder()
+                    .itemId(request.getUpdates().get(i).getItemId())
+                    .outcome(outcomes[i])
+                    .build());
+            if (outcomes[i] == ItemScoreOutcome.UPDATED) updated++;
+        }
+
+        return BulkItemScoreResponseDto.builder()
+                .assessmentId(assessmentId)
+                .mode(request.getMode())
+                .applied(applied)
+                .updated(updated)
+                .rejected(rejected)
+                .results(results)
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package org.secassess.core.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import org.secassess.core.enums.AssessmentStatus;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +35,11 @@ public class Assessment extends BaseAuditableEntity {
     @Enumerated(EnumType.STRING)
     private AssessmentStatus status;
 
+    // Maintained by database triggers on every change to the assessment or its items; backs the ETags
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private Long rowVersion;
+
     @OneToMany(mappedBy = "assessment", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<AssessmentItem> items = new ArrayList<>();
@@ -0,0 +1,49 @@
+package org.secassess.core.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only per-assessment item aggregates, maintained by database triggers on every assessment_item write.
+ */
+@Entity
+@Immutable
+@Table(name = "assessment_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssessmentStats {
+
+    @Id
+    @Column(name = "assessment_id")
+    private UUID assessmentId;
+
+    @Column(name = "total_items", nullable = false)
+    private int totalItems;
+
+    @Column(name = "scored_items", nullable = false)
+    private int scoredItems;
+
+    @Column(name = "weighted_score_sum", precision = 14, scale = 2, nullable = false)
+    private BigDecimal weightedScoreSum;
+
+    @Column(name = "weight_sum", precision = 14, scale = 2, nullable = false)
+    private BigDecimal weightSum;
+
+    @Column(name = "scored_weight_sum", precision = 14, scale = 2, nullable = false)
+    private BigDecimal scoredWeightSum;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public int getUnscoredItems() {
+        return totalItems - scoredItems;
+    }
+}
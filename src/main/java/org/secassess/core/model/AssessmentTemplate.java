@@ -3,6 +3,7 @@ package org.secassess.core.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.events.TemplateChangeListener;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +12,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "assessment_template")
+@EntityListeners(TemplateChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
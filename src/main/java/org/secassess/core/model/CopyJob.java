@@ -0,0 +1,70 @@
+package org.secassess.core.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.secassess.core.dto.CopyCriteriaRequestDto;
+import org.secassess.core.enums.CopyJobStatus;
+
+import java.util.UUID;
+
+/**
+ * Asynchronous criteria copy job persisting its request, chunk progress and final statistics.
+ */
+@Entity
+@Table(name = "copy_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CopyJob extends BaseAuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "assessment_id", nullable = false)
+    private UUID assessmentId;
+
+    @Column(name = "template_id", nullable = false)
+    private UUID templateId;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private CopyJobStatus status;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "request", nullable = false)
+    private CopyCriteriaRequestDto request;
+
+    @Column(name = "total_source")
+    private int totalSource;
+
+    @Column(name = "processed")
+    private int processed;
+
+    @Column(name = "copied")
+    private int copied;
+
+    @Column(name = "skipped_duplicates")
+    private int skippedDuplicates;
+
+    @Column(name = "filtered_out")
+    private int filteredOut;
+
+    @Column(name = "last_criterion_id")
+    private UUID lastCriterionId;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    // Guards against two workers advancing the same job after a resume
+    @Version
+    @Column(name = "version")
+    private Long version;
+}
@@ -3,6 +3,7 @@ package org.secassess.core.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.secassess.core.enums.Severity;
+import org.secassess.core.events.TemplateChangeListener;
 import java.math.BigDecimal;
 import java.util.UUID;
 
@@ -11,6 +12,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "template_criterion")
+@EntityListeners(TemplateChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,83 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.enums.AssessmentStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC repository for set-based Assessment reads and writes that bypass the persistence context.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AssessmentBulkRepository {
+
+    private static final String STATUS_CHECK_SQL = """
+            SELECT a.id, a.status, COALESCE(s.total_items - s.scored_items, 0) AS unscored_items
+            FROM assessment a
+            LEFT JOIN assessment_stats s ON s.assessment_id = a.id
+            WHERE a.id IN (:ids)
+            """;
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE assessment a
+            SET status = :status, updated_at = NOW()
+            WHERE a.id IN (:ids)
+              AND a.status IS DISTINCT FROM :status
+              %s
+            RETURNING a.id
+            """;
+    // Re-checked in the UPDATE itself so an item added after validation cannot slip through
+    private static final String ALL_ITEMS_SCORED = """
+            AND NOT EXISTS (
+                SELECT 1 FROM assessment_stats s
+                WHERE s.assessment_id = a.id AND s.scored_items < s.total_items)
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Reads the current status and unscored item count of every existing assessment among the IDs in one query.
+     */
+    public List<StatusCheck> findStatusChecks(Collection<UUID> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        return namedJdbcTemplate.query(STATUS_CHECK_SQL, new MapSqlParameterSource("ids", ids), (rs, rowNum) ->
+                new StatusCheck(
+                        rs.getObject("id", UUID.class),
+                        AssessmentStatus.valueOf(rs.getString("status")),
+                        rs.getInt("unscored_items")));
+    }
+
+    /**
+     * Moves the assessments to the status with a single conditional UPDATE. Rows already in that status are left
+     * untouched, and COMPLETED is only applied to assessments whose items are all scored.
+     *
+     * @return IDs of the rows actually updated
+     */
+    public List<UUID> updateStatuses(Collection<UUID> ids, AssessmentStatus status) {
+        if (ids.isEmpty()) return List.of();
+
+        String sql = UPDATE_STATUS_SQL.formatted(status == AssessmentStatus.COMPLETED ? ALL_ITEMS_SCORED : "");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("status", status.name());
+
+        List<UUID> updated = namedJdbcTemplate.queryForList(sql, params, UUID.class);
+        log.debug("Bulk status update to {} changed {} of {} assessments", status, updated.size(), ids.size());
+        return updated;
+    }
+
+    /**
+     * Current status and unscored item count of one assessment.
+     */
+    public record StatusCheck(UUID id, AssessmentStatus status, int unscoredItems) {
+    }
+}
@@ -0,0 +1,105 @@
+package org.secassess.core.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC repository streaming assessments joined with their items through a forward-only cursor.
+ * PostgreSQL only honours the fetch size inside a transaction, so callers must stream within one.
+ */
+@Slf4j
+@Repository
+public class AssessmentExportRepository {
+
+    private static final String EXPORT_SQL = """
+            SELECT a.id AS assessment_id, a.project_id, a.title, a.status, a.created_at, a.updated_at,
+                   i.id AS item_id, i.criterion_ref, i.section, i.text, i.severity, i.weight, i.score, i.notes
+            FROM assessment a
+            LEFT JOIN assessment_item i ON i.assessment_id = a.id
+            WHERE TRUE
+            %s
+            ORDER BY a.created_at, a.id, i.section, i.id
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public AssessmentExportRepository(DataSource dataSource, @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        // A dedicated template, so the fetch size only applies to export cursors
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Passes every row matching the filter to the consumer as it is fetched; only one fetch batch is held in memory.
+     *
+     * @return the number of rows streamed
+     */
+    public long streamRows(AssessmentFilterDto filter, Consumer<ExportRow> consumer) {
+        StringBuilder predicates = new StringBuilder();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        if (filter != null && filter.getProjectId() != null) {
+            predicates.append("  AND a.project_id = :projectId\n");
+            params.addValue("projectId", filter.getProjectId());
+        }
+        if (filter != null && filter.getStatus() != null) {
+            predicates.append("  AND a.status = :status\n");
+            params.addValue("status", filter.getStatus().name());
+        }
+
+        long[] rows = {0};
+        namedJdbcTemplate.query(EXPORT_SQL.formatted(predicates), params, (RowCallbackHandler) rs -> {
+            consumer.accept(toRow(rs));
+            rows[0]++;
+        });
+        log.debug("Streamed {} export rows for filter {}", rows[0], filter);
+        return rows[0];
+    }
+
+    private static ExportRow toRow(ResultSet rs) throws SQLException {
+        return new ExportRow(
+                rs.getObject("assessment_id", UUID.class),
+                rs.getLong("project_id"),
+                rs.getString("title"),
+                rs.getString("status"),
+                toInstant(rs, "created_at"),
+                toInstant(rs, "updated_at"),
+                rs.getObject("item_id", UUID.class),
+                rs.getObject("criterion_ref", UUID.class),
+                rs.getString("section"),
+                rs.getString("text"),
+                rs.getString("severity"),
+                rs.getBigDecimal("weight"),
+                (Integer) rs.getObject("score"),
+                rs.getString("notes"));
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    /**
+     * One assessment item with its assessment's columns; the item columns are null for an assessment without items.
+     */
+    public record ExportRow(UUID assessmentId, Long projectId, String title, String status, Instant createdAt,
+                            Instant updatedAt, UUID itemId, UUID criterionRef, String section, String text,
+                            String severity, BigDecimal weight, Integer score, String notes) {
+    }
+}
@@ -0,0 +1,220 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.ItemScoreUpdateDto;
+import org.secassess.core.model.AssessmentItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC repository for set-based AssessmentItem writes that bypass the persistence context.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AssessmentItemBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO assessment_item (id, assessment_id, criterion_ref, section, text, severity, weight) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int PARAMS_PER_ROW = 7;
+
+    private static final String ON_CONFLICT_UPDATE =
+            " ON CONFLICT (assessment_id, criterion_ref) DO UPDATE SET"
+                    + " section = EXCLUDED.section, text = EXCLUDED.text,"
+                    + " severity = EXCLUDED.severity, weight = EXCLUDED.weight";
+    private static final String ON_CONFLICT_SKIP = " ON CONFLICT (assessment_id, criterion_ref) DO NOTHING";
+
+    // Field mapping mirrors AssessmentMapper#updateItemFromCriterion
+    private static final String COPY_FROM_TEMPLATE_SQL = """
+            WITH source AS (
+                SELECT id, section, text, severity, weight
+                FROM template_criterion
+                WHERE template_id = :templateId
+            ), selected AS (
+                SELECT * FROM source %s
+            ), written AS (
+                INSERT INTO assessment_item (id, assessment_id, criterion_ref, section, text, severity, weight)
+                SELECT gen_random_uuid(), CAST(:assessmentId AS uuid), s.id, s.section, s.text, s.severity, s.weight
+                FROM selected s
+                %s
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM source)   AS total_source,
+                   (SELECT count(*) FROM selected) AS selected,
+                   (SELECT count(*) FROM written)  AS written
+            """;
+    private static final String SECTION_FILTER = "WHERE section IN (:sections)";
+
+    private static final String FIND_ITEM_IDS_SQL = """
+            SELECT id FROM assessment_item WHERE assessment_id = :assessmentId AND id IN (:ids)
+            """;
+
+    // Null leaves a field as it is; the casts type the VALUES columns, whose binds are otherwise untyped
+    private static final String UPDATE_SCORES_PREFIX = """
+            UPDATE assessment_item i
+            SET score = COALESCE(v.score, i.score), notes = COALESCE(v.notes, i.notes)
+            FROM (VALUES\s""";
+    private static final String SCORE_ROW_PLACEHOLDER = "(CAST(? AS uuid), CAST(? AS integer), CAST(? AS varchar))";
+    private static final String UPDATE_SCORES_SUFFIX = """
+            ) AS v(id, score, notes)
+            WHERE i.id = v.id AND i.assessment_id = ?
+            RETURNING i.id
+            """;
+    private static final int PARAMS_PER_SCORE_ROW = 3;
+
+    // PostgreSQL caps a single statement at 32767 bind parameters
+    private static final int MAX_ROWS_PER_STATEMENT = 32767 / PARAMS_PER_ROW;
+    private static final int MAX_SCORE_ROWS_PER_STATEMENT = (32767 - 1) / PARAMS_PER_SCORE_ROW;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${app.copy.bulk-chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.item-scores.chunk-size:500}")
+    private int scoreChunkSize;
+
+    /**
+     * Writes the given items into the assessment using multi-row INSERT ... ON CONFLICT statements.
+     * Items colliding on criterionRef are overwritten when requested, otherwise left untouched.
+     *
+     * @return the number of rows inserted or updated
+     */
+    public int upsertItems(UUID assessmentId, List<AssessmentItem> items, boolean overwriteExisting) {
+        if (items.isEmpty()) return 0;
+
+        int rowsPerStatement = Math.max(1, Math.min(chunkSize, MAX_ROWS_PER_STATEMENT));
+        String conflictClause = overwriteExisting ? ON_CONFLICT_UPDATE : ON_CONFLICT_SKIP;
+        int written = 0;
+
+        for (int from = 0; from < items.size(); from += rowsPerStatement) {
+            List<AssessmentItem> chunk = items.subList(from, Math.min(from + rowsPerStatement, items.size()));
+            written += jdbcTemplate.update(buildUpsertSql(chunk.size(), conflictClause), toArgs(assessmentId, chunk));
+        }
+
+        log.debug("Bulk upsert into Assessment {} wrote {} of {} rows", assessmentId, written, items.size());
+        return written;
+    }
+
+    /**
+     * Copies a template's criteria into the assessment with a single INSERT ... SELECT statement,
+     * so no criterion is ever materialized in the JVM.
+     *
+     * @param sections sections to include; null or empty copies every section
+     */
+    public TemplateCopyCounts copyFromTemplate(UUID assessmentId, UUID templateId,
+                                               Collection<String> sections, boolean overwriteExisting) {
+        boolean filterSections = sections != null && !sections.isEmpty();
+        String sql = COPY_FROM_TEMPLATE_SQL.formatted(
+                filterSections ? SECTION_FILTER : "",
+                overwriteExisting ? ON_CONFLICT_UPDATE : ON_CONFLICT_SKIP);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("assessmentId", assessmentId);
+        if (filterSections) {
+            params.addValue("sections", sections);
+        }
+
+        TemplateCopyCounts counts = namedJdbcTemplate.queryForObject(sql, params, (rs, rowNum) -> new TemplateCopyCounts(
+                rs.getInt("total_source"), rs.getInt("selected"), rs.getInt("written")));
+        log.debug("In-database copy into Assessment {} from Template {}: {}", assessmentId, templateId, counts);
+        return counts;
+    }
+
+    /**
+     * Returns which of the IDs belong to items of the assessment.
+     */
+    public List<UUID> findItemIds(UUID assessmentId, Collection<UUID> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        return namedJdbcTemplate.queryForList(FIND_ITEM_IDS_SQL, new MapSqlParameterSource()
+                .addValue("assessmentId", assessmentId)
+                .addValue("ids", ids), UUID.class);
+    }
+
+    /**
+     * Applies score and notes updates with one UPDATE ... FROM (VALUES ...) statement per chunk, without loading items.
+     * Updates must target distinct items; items outside the assessment are left untouched.
+     *
+     * @return IDs of the items actually updated
+     */
+    public List<UUID> updateScores(UUID assessmentId, List<ItemScoreUpdateDto> updates) {
+        if (updates.isEmpty()) return List.of();
+
+        int rowsPerStatement = Math.max(1, Math.min(scoreChunkSize, MAX_SCORE_ROWS_PER_STATEMENT));
+        List<UUID> updated = new ArrayList<>(updates.size());
+
+        for (int from = 0; from < updates.size(); from += rowsPerStatement) {
+            List<ItemScoreUpdateDto> chunk = updates.subList(from, Math.min(from + rowsPerStatement, updates.size()));
+            updated.addAll(jdbcTemplate.queryForList(buildUpdateScoresSql(chunk.size()), UUID.class,
+                    toScoreArgs(assessmentId, chunk)));
+        }
+
+        log.debug("Bulk scoring of Assessment {} updated {} of {} items", assessmentId, updated.size(), updates.size());
+        return updated;
+    }
+
+    private String buildUpsertSql(int rows, String conflictClause) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2) + conflictClause.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.append(conflictClause).toString();
+    }
+
+    private Object[] toArgs(UUID assessmentId, List<AssessmentItem> chunk) {
+        List<Object> args = new ArrayList<>(chunk.size() * PARAMS_PER_ROW);
+        for (AssessmentItem item : chunk) {
+            args.add(UUID.randomUUID());
+            args.add(assessmentId);
+            args.add(item.getCriterionRef());
+            args.add(item.getSection());
+            args.add(item.getText());
+            args.add(item.getSeverity() != null ? item.getSeverity().name() : null);
+            args.add(item.getWeight());
+        }
+        return args.toArray();
+    }
+
+    private String buildUpdateScoresSql(int rows) {
+        StringBuilder sql = new StringBuilder(UPDATE_SCORES_PREFIX.length() + rows * (SCORE_ROW_PLACEHOLDER.length() + 2)
+                + UPDATE_SCORES_SUFFIX.length());
+        sql.append(UPDATE_SCORES_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(SCORE_ROW_PLACEHOLDER);
+        }
+        return sql.append(UPDATE_SCORES_SUFFIX).toString();
+    }
+
+    private Object[] toScoreArgs(UUID assessmentId, List<ItemScoreUpdateDto> chunk) {
+        List<Object> args = new ArrayList<>(chunk.size() * PARAMS_PER_SCORE_ROW + 1);
+        for (ItemScoreUpdateDto update : chunk) {
+            args.add(update.getItemId());
+            args.add(update.getScore());
+            args.add(update.getNotes());
+        }
+        args.add(assessmentId);
+        return args.toArray();
+    }
+
+    /**
+     * Row counts reported by an in-database template copy.
+     */
+    public record TemplateCopyCounts(int totalSource, int selected, int written) {
+    }
+}
@@ -1,11 +1,36 @@
 package org.secassess.core.repository;
 
 import org.secassess.core.model.Assessment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository for Assessment entity
  */
-public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
-}
\ No newline at end of file
+public interface AssessmentRepository extends JpaRepository<Assessment, UUID>, JpaSpecificationExecutor<Assessment> {
+
+    @Query("select a.id from Assessment a where a.projectId = :projectId")
+    List<UUID> findIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("select a.rowVersion from Assessment a where a.id = :id")
+    Optional<Long> findRowVersionById(@Param("id") UUID id);
+
+    @EntityGraph(attributePaths = "items")
+    Optional<Assessment> findWithItemsById(UUID id);
+
+    /**
+     * Loads the assessments joined with their items in one statement. Calling it for entities already in the persistence
+     * context initializes their item collections, which lets a page of assessments be mapped without a lazy load per row.
+     */
+    @EntityGraph(attributePaths = "items")
+    List<Assessment> findWithItemsByIdIn(Collection<UUID> ids);
+}
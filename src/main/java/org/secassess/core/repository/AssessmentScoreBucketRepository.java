@@ -0,0 +1,56 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.secassess.core.enums.Severity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC repository for the trigger-maintained (section, severity) score buckets of an assessment.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssessmentScoreBucketRepository {
+
+    // The outer join yields one bucket-less row for an assessment without items and no row for a missing assessment
+    private static final String BUCKETS_SQL = """
+            SELECT b.section, b.severity, b.total_items, b.scored_items, b.scored_weight_sum, b.weighted_score_sum
+            FROM assessment a
+            LEFT JOIN assessment_score_bucket b ON b.assessment_id = a.id
+            WHERE a.id = :assessmentId
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Returns the buckets of the assessment in one round trip, or empty if the assessment does not exist.
+     */
+    public Optional<List<ScoreBucket>> findByAssessmentId(UUID assessmentId) {
+        List<ScoreBucket> rows = namedJdbcTemplate.query(BUCKETS_SQL,
+                new MapSqlParameterSource("assessmentId", assessmentId),
+                (rs, rowNum) -> rs.getString("section") == null ? null : new ScoreBucket(
+                        rs.getString("section"),
+                        Severity.valueOf(rs.getString("severity")),
+                        rs.getInt("total_items"),
+                        rs.getInt("scored_items"),
+                        rs.getBigDecimal("scored_weight_sum"),
+                        rs.getBigDecimal("weighted_score_sum")));
+
+        if (rows.isEmpty()) return Optional.empty();
+        return Optional.of(rows.stream().filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Item counters of one (section, severity) combination; the sums cover scored items only.
+     */
+    public record ScoreBucket(String section, Severity severity, int totalItems, int scoredItems,
+                              BigDecimal scoredWeightSum, BigDecimal weightedScoreSum) {
+    }
+}
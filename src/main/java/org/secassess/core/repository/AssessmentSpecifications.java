@@ -0,0 +1,50 @@
+package org.secassess.core.repository;
+
+import jakarta.persistence.criteria.Path;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.model.Assessment;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA specifications for filtering and keyset-paginating Assessment queries.
+ */
+public final class AssessmentSpecifications {
+
+    private AssessmentSpecifications() {
+    }
+
+    /**
+     * Combines the filters that are set; a filter without values matches every assessment.
+     */
+    public static Specification<Assessment> matching(AssessmentFilterDto filter) {
+        Specification<Assessment> spec = Specification.where(null);
+        if (filter == null) return spec;
+
+        if (filter.getProjectId() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("projectId"), filter.getProjectId()));
+        }
+        if (filter.getStatus() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), filter.getStatus()));
+        }
+        return spec;
+    }
+
+    /**
+     * Matches the assessments after the cursor in (createdAt, id) order; a null cursor matches every assessment.
+     */
+    public static Specification<Assessment> after(AssessmentCursor cursor) {
+        if (cursor == null) return Specification.where(null);
+
+        return (root, query, cb) -> {
+            Path<Instant> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            // The leading range lets the (created_at, id) index seek straight to the cursor instead of filtering from the start
+            return cb.and(
+                    cb.greaterThanOrEqualTo(createdAt, cursor.createdAt()),
+                    cb.or(cb.greaterThan(createdAt, cursor.createdAt()), cb.greaterThan(id, cursor.id())));
+        };
+    }
+}
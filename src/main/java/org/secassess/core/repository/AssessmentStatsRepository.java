@@ -0,0 +1,12 @@
+package org.secassess.core.repository;
+
+import org.secassess.core.model.AssessmentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+/**
+ * Repository for AssessmentStats entity
+ */
+public interface AssessmentStatsRepository extends JpaRepository<AssessmentStats, UUID> {
+}
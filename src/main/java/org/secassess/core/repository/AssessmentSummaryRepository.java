@@ -0,0 +1,87 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC repository for item-free assessment listings: one row per assessment, with its counters from assessment_stats.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssessmentSummaryRepository {
+
+    private static final String SUMMARIES_SQL = """
+            SELECT a.id, a.project_id, a.title, a.status, a.created_at, a.updated_at,
+                   COALESCE(s.total_items, 0) AS total_items, COALESCE(s.scored_items, 0) AS scored_items,
+                   s.weighted_score_sum, s.scored_weight_sum
+            FROM assessment a
+            LEFT JOIN assessment_stats s ON s.assessment_id = a.id
+            WHERE TRUE
+            %s
+            ORDER BY a.created_at, a.id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Returns up to limit summaries after the cursor in (createdAt, id) order.
+     * Only the filters that are set become predicates, so each combination gets a plan that can use the keyset indexes.
+     */
+    public List<SummaryRow> findSummaries(AssessmentFilterDto filter, AssessmentCursor after, int limit) {
+        StringBuilder predicates = new StringBuilder();
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+
+        if (filter != null && filter.getProjectId() != null) {
+            predicates.append("  AND a.project_id = :projectId\n");
+            params.addValue("projectId", filter.getProjectId());
+        }
+        if (filter != null && filter.getStatus() != null) {
+            predicates.append("  AND a.status = :status\n");
+            params.addValue("status", filter.getStatus().name());
+        }
+        if (after != null) {
+            predicates.append("  AND a.created_at >= :afterCreatedAt AND (a.created_at > :afterCreatedAt OR a.id > :afterId)\n");
+            params.addValue("afterCreatedAt", OffsetDateTime.ofInstant(after.createdAt(), ZoneOffset.UTC));
+            params.addValue("afterId", after.id());
+        }
+
+        return namedJdbcTemplate.query(SUMMARIES_SQL.formatted(predicates), params, (rs, rowNum) -> new SummaryRow(
+                rs.getObject("id", UUID.class),
+                rs.getLong("project_id"),
+                rs.getString("title"),
+                AssessmentStatus.valueOf(rs.getString("status")),
+                toInstant(rs, "created_at"),
+                toInstant(rs, "updated_at"),
+                rs.getInt("total_items"),
+                rs.getInt("scored_items"),
+                rs.getBigDecimal("weighted_score_sum"),
+                rs.getBigDecimal("scored_weight_sum")));
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    /**
+     * One assessment with its trigger-maintained item counters; the sums are null while it has no items.
+     */
+    public record SummaryRow(UUID id, Long projectId, String title, AssessmentStatus status, Instant createdAt,
+                             Instant updatedAt, int totalItems, int scoredItems,
+                             BigDecimal weightedScoreSum, BigDecimal scoredWeightSum) {
+    }
+}
@@ -0,0 +1,21 @@
+package org.secassess.core.repository;
+
+import org.secassess.core.enums.CopyJobStatus;
+import org.secassess.core.model.CopyJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for CopyJob entity
+ */
+public interface CopyJobRepository extends JpaRepository<CopyJob, UUID> {
+
+    @Query("select j.id from CopyJob j where j.status in :statuses and j.updatedAt < :cutoff order by j.createdAt")
+    List<UUID> findStaleJobIds(@Param("statuses") Collection<CopyJobStatus> statuses, @Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,69 @@
+package org.secassess.core.repository;
+
+import org.secassess.core.enums.Severity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC repository reading the item attributes held by the columnar item store, with each item's project and organization.
+ * Full loads stream through a forward-only cursor, so callers must read within a transaction.
+ */
+@Repository
+public class ItemColumnRepository {
+
+    private static final String ITEMS_SQL = """
+            SELECT i.assessment_id, a.project_id, p.organization_id, i.section, i.severity,
+                   (i.weight * 100)::integer AS weight_hundredths, i.score
+            FROM assessment_item i
+            JOIN assessment a ON a.id = i.assessment_id
+            JOIN project p ON p.id = a.project_id
+            %s
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ItemColumnRepository(DataSource dataSource, @Value("${app.item-columns.fetch-size:5000}") int fetchSize) {
+        // A dedicated template, so the fetch size only applies to item store loads
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void streamAll(Consumer<ItemRow> consumer) {
+        namedJdbcTemplate.query(ITEMS_SQL.formatted(""), new MapSqlParameterSource(),
+                (RowCallbackHandler) rs -> consumer.accept(toRow(rs)));
+    }
+
+    public void streamByAssessmentIds(Collection<UUID> assessmentIds, Consumer<ItemRow> consumer) {
+        if (assessmentIds.isEmpty()) return;
+        namedJdbcTemplate.query(ITEMS_SQL.formatted("WHERE i.assessment_id IN (:assessmentIds)"),
+                new MapSqlParameterSource("assessmentIds", assessmentIds),
+                (RowCallbackHandler) rs -> consumer.accept(toRow(rs)));
+    }
+
+    private static ItemRow toRow(ResultSet rs) throws SQLException {
+        return new ItemRow(
+                rs.getObject("assessment_id", UUID.class),
+                rs.getLong("project_id"),
+                rs.getObject("organization_id", UUID.class),
+                rs.getString("section"),
+                Severity.valueOf(rs.getString("severity")),
+                rs.getInt("weight_hundredths"),
+                rs.getObject("score", Integer.class));
+    }
+
+    public record ItemRow(UUID assessmentId, long projectId, UUID organizationId, String section, Severity severity,
+                          int weightHundredths, Integer score) {
+    }
+}
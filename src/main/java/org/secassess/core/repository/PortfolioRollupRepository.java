@@ -0,0 +1,412 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.secassess.core.analytics.PortfolioRollup;
+import org.secassess.core.analytics.PortfolioRollup.SectionTotals;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC repository for the portfolio rollup tables and the bookkeeping of their incremental refresh.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioRollupRepository {
+
+    private static final String REFRESH_NAME = "portfolio";
+
+    private static final String CLAIM_REFRESH_SQL = """
+            UPDATE portfolio_refresh
+            SET lease_until = NOW() + make_interval(secs => :leaseSeconds)
+            WHERE name = :name AND (lease_until IS NULL OR lease_until < NOW())
+            RETURNING watermark, NOW() AS started_at
+            """;
+
+    private static final String COMPLETE_REFRESH_SQL = """
+            UPDATE portfolio_refresh SET watermark = :watermark, lease_until = NULL WHERE name = :name
+            """;
+
+    private static final String RELEASE_REFRESH_SQL = """
+            UPDATE portfolio_refresh SET lease_until = NULL WHERE name = :name
+            """;
+
+    private static final String ALL_PROJECTS_SQL = """
+            SELECT p.id, p.organization_id FROM project p
+            """;
+
+    // Projects with an assessment or score bucket written since the watermark, plus those never rolled up or with
+    // assessments deleted since, which leave no timestamp behind. Buckets catch item moves between sections and
+    // severities, which leave assessment_stats untouched; stats catch item deletes, which can drop a bucket row.
+    private static final String DIRTY_PROJECTS_SQL = """
+            SELECT p.id, p.organization_id
+            FROM project p
+            LEFT JOIN project_rollup r ON r.project_id = p.id
+            WHERE p.id IN (
+                    SELECT a.project_id FROM assessment a WHERE a.updated_at > :since
+                    UNION
+                    SELECT a.project_id
+                    FROM assessment_score_bucket b
+                    JOIN assessment a ON a.id = b.assessment_id
+                    WHERE b.updated_at > :since
+                    UNION
+                    SELECT a.project_id
+                    FROM assessment_stats s
+                    JOIN assessment a ON a.id = s.assessment_id
+                    WHERE s.updated_at > :since)
+               OR r.project_id IS NULL
+               OR r.assessments <> (SELECT count(*) FROM assessment a WHERE a.project_id = p.id)
+            """;
+
+    private static final String STALE_ORGANIZATIONS_SQL = """
+            SELECT o.id AS organization_id
+            FROM organization o
+            LEFT JOIN organization_rollup r ON r.organization_id = o.id
+            WHERE r.organization_id IS NULL
+               OR r.projects <> (SELECT count(*) FROM project_rollup p WHERE p.organization_id = o.id)
+            """;
+
+    private static final String BUCKETS_SQL = """
+            SELECT a.id AS assessment_id, a.project_id, b.section, b.severity, b.total_items, b.scored_items,
+                   b.scored_weight_sum, b.weighted_score_sum
+            FROM assessment a
+            LEFT JOIN assessment_score_bucket b ON b.assessment_id = a.id
+            WHERE a.project_id IN (:projectIds)
+            ORDER BY a.id
+            """;
+
+    private static final String UPSERT_PROJECT_ROLLUP_SQL = """
+            INSERT INTO project_rollup AS r (project_id, organization_id, assessments, scored_assessments, total_items,
+                                             scored_items, unscored_high_items, weighted_score_sum, weight_sum,
+                                             score_histogram, computed_at)
+            VALUES (:projectId, :organizationId, :assessments, :scoredAssessments, :totalItems, :scoredItems,
+                    :unscoredHighItems, :weightedScoreSum, :weightSum, :scoreHistogram, :computedAt)
+            ON CONFLICT (project_id) DO UPDATE
+            SET organization_id = EXCLUDED.organization_id,
+                assessments = EXCLUDED.assessments,
+                scored_assessments = EXCLUDED.scored_assessments,
+                total_items = EXCLUDED.total_items,
+                scored_items = EXCLUDED.scored_items,
+                unscored_high_items = EXCLUDED.unscored_high_items,
+                weighted_score_sum = EXCLUDED.weighted_score_sum,
+                weight_sum = EXCLUDED.weight_sum,
+                score_histogram = EXCLUDED.score_histogram,
+                computed_at = EXCLUDED.computed_at
+            """;
+
+    private static final String DELETE_SECTION_ROLLUPS_SQL = """
+            DELETE FROM project_section_rollup WHERE project_id = :projectId
+            """;
+
+    private static final String INSERT_SECTION_ROLLUP_SQL = """
+            INSERT INTO project_section_rollup (project_id, section, total_items, scored_items, weighted_score_sum, weight_sum)
+            VALUES (:projectId, :section, :totalItems, :scoredItems, :weightedScoreSum, :weightSum)
+            """;
+
+    // Summed from the project rollups; the band series keeps the histogram complete for organizations without projects
+    private static final String UPSERT_ORGANIZATION_ROLLUP_SQL = """
+            INSERT INTO organization_rollup AS o (organization_id, projects, assessments, scored_assessments, total_items,
+                                                  scored_items, unscored_high_items, weighted_score_sum, weight_sum,
+                                                  score_histogram, computed_at)
+            SELECT :organizationId, count(*), COALESCE(sum(r.assessments), 0), COALESCE(sum(r.scored_assessments), 0),
+                   COALESCE(sum(r.total_items), 0), COALESCE(sum(r.scored_items), 0),
+                   COALESCE(sum(r.unscored_high_items), 0), COALESCE(sum(r.weighted_score_sum), 0),
+                   COALESCE(sum(r.weight_sum), 0),
+                   ARRAY(SELECT COALESCE(sum(h.score_histogram[band]), 0)::integer
+                         FROM generate_series(1, :scoreBands) band
+                         LEFT JOIN project_rollup h ON h.organization_id = :organizationId
+                         GROUP BY band
+                         ORDER BY band),
+                   :computedAt
+            FROM project_rollup r
+            WHERE r.organization_id = :organizationId
+            ON CONFLICT (organization_id) DO UPDATE
+            SET projects = EXCLUDED.projects,
+                assessments = EXCLUDED.assessments,
+                scored_assessments = EXCLUDED.scored_assessments,
+                total_items = EXCLUDED.total_items,
+                scored_items = EXCLUDED.scored_items,
+                unscored_high_items = EXCLUDED.unscored_high_items,
+                weighted_score_sum = EXCLUDED.weighted_score_sum,
+                weight_sum = EXCLUDED.weight_sum,
+                score_histogram = EXCLUDED.score_histogram,
+                computed_at = EXCLUDED.computed_at
+            """;
+
+    private static final String PROJECT_ROLLUP_COLUMNS = """
+            SELECT r.organization_id, r.project_id, 1 AS projects, r.assessments, r.scored_assessments, r.total_items,
+                   r.scored_items, r.unscored_high_items, r.weighted_score_sum, r.weight_sum, r.score_histogram,
+                   r.computed_at
+            FROM project_rollup r
+            """;
+
+    private static final String ORGANIZATION_ROLLUP_SQL = """
+            SELECT o.organization_id, NULL AS project_id, o.projects, o.assessments, o.scored_assessments, o.total_items,
+                   o.scored_items, o.unscored_high_items, o.weighted_score_sum, o.weight_sum, o.score_histogram,
+                   o.computed_at
+            FROM organization_rollup o
+            WHERE o.organization_id = :organizationId
+            """;
+
+    private static final String PROJECT_WEAKEST_SECTIONS_SQL = """
+            SELECT s.section, s.total_items, s.scored_items, s.weighted_score_sum, s.weight_sum
+            FROM project_section_rollup s
+            WHERE s.project_id = :projectId AND s.weight_sum > 0
+            ORDER BY s.weighted_score_sum / s.weight_sum, s.section
+            LIMIT :limit
+            """;
+
+    private static final String ORGANIZATION_WEAKEST_SECTIONS_SQL = """
+            SELECT s.section, sum(s.total_items) AS total_items, sum(s.scored_items) AS scored_items,
+                   sum(s.weighted_score_sum) AS weighted_score_sum, sum(s.weight_sum) AS weight_sum
+            FROM project_section_rollup s
+            JOIN project_rollup r ON r.project_id = s.project_id
+            WHERE r.organization_id = :organizationId
+            GROUP BY s.section
+            HAVING sum(s.weight_sum) > 0
+            ORDER BY sum(s.weighted_score_sum) / sum(s.weight_sum), s.section
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Takes the refresh lease unless another node holds an unexpired one.
+     *
+     * @return the current watermark and the database time the refresh started at, or empty if the lease is taken
+     */
+    public Optional<RefreshClaim> claimRefresh(Duration lease) {
+        MapSqlParameterSource params = new MapSqlParameterSource("name", REFRESH_NAME)
+                .addValue("leaseSeconds", lease.toSeconds());
+        return namedJdbcTemplate.query(CLAIM_REFRESH_SQL, params, (rs, rowNum) -> new RefreshClaim(
+                        toInstant(rs, "watermark"), toInstant(rs, "started_at")))
+                .stream().findFirst();
+    }
+
+    public void completeRefresh(Instant watermark) {
+        namedJdbcTemplate.update(COMPLETE_REFRESH_SQL, new MapSqlParameterSource("name", REFRESH_NAME)
+                .addValue("watermark", toOffsetDateTime(watermark)));
+    }
+
+    public void releaseRefresh() {
+        namedJdbcTemplate.update(RELEASE_REFRESH_SQL, new MapSqlParameterSource("name", REFRESH_NAME));
+    }
+
+    /**
+     * Returns the projects whose rollup may be out of date since the watermark, or every project if it is null.
+     */
+    public List<ProjectRef> findDirtyProjects(Instant since) {
+        String sql = since != null ? DIRTY_PROJECTS_SQL : ALL_PROJECTS_SQL;
+        MapSqlParameterSource params = new MapSqlParameterSource("since", toOffsetDateTime(since));
+        return namedJdbcTemplate.query(sql, params, (rs, rowNum) -> new ProjectRef(
+                rs.getLong("id"), rs.getObject("organization_id", UUID.class)));
+    }
+
+    /**
+     * Returns organizations never rolled up, e.g. those without projects, or whose rollup still counts deleted projects.
+     */
+    public List<UUID> findStaleOrganizations() {
+        return namedJdbcTemplate.query(STALE_ORGANIZATIONS_SQL, new MapSqlParameterSource(),
+                (rs, rowNum) -> rs.getObject("organization_id", UUID.class));
+    }
+
+    /**
+     * Loads the score buckets of every assessment of the projects, one entry per assessment.
+     */
+    public List<AssessmentBuckets> findBuckets(Collection<Long> projectIds) {
+        List<AssessmentBuckets> assessments = new ArrayList<>();
+        if (projectIds.isEmpty()) return assessments;
+
+        // Rows arrive ordered by assessment, so each assessment's buckets are consecutive
+        namedJdbcTemplate.query(BUCKETS_SQL, new MapSqlParameterSource("projectIds", projectIds), (RowCallbackHandler) rs -> {
+            UUID assessmentId = rs.getObject("assessment_id", UUID.class);
+            AssessmentBuckets current = assessments.isEmpty() ? null : assessments.get(assessments.size() - 1);
+            if (current == null || !current.assessmentId().equals(assessmentId)) {
+                current = new AssessmentBuckets(assessmentId, rs.getLong("project_id"), new ArrayList<>());
+                assessments.add(current);
+            }
+            String section = rs.getString("section");
+            if (section != null) {
+                current.buckets().add(new ScoreBucket(
+                        section,
+                        Severity.valueOf(rs.getString("severity")),
+                        rs.getInt("total_items"),
+                        rs.getInt("scored_items"),
+                        rs.getBigDecimal("scored_weight_sum"),
+                        rs.getBigDecimal("weighted_score_sum")));
+            }
+        });
+        return assessments;
+    }
+
+    /**
+     * Replaces the rollup of the project and of its sections.
+     */
+    public void saveProjectRollup(long projectId, UUID organizationId, PortfolioRollup rollup, Instant computedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId)
+                .addValue("organizationId", organizationId)
+                .addValue("assessments", rollup.getAssessments())
+                .addValue("scoredAssessments", rollup.getScoredAssessments())
+                .addValue("totalItems", rollup.getTotalItems())
+                .addValue("scoredItems", rollup.getScoredItems())
+                .addValue("unscoredHighItems", rollup.getUnscoredHighItems())
+                .addValue("weightedScoreSum", rollup.getWeightedScoreSum())
+                .addValue("weightSum", rollup.getWeightSum())
+                .addValue("scoreHistogram", integerArray(rollup.getScoreHistogram()), Types.ARRAY)
+                .addValue("computedAt", toOffsetDateTime(computedAt));
+        namedJdbcTemplate.update(UPSERT_PROJECT_ROLLUP_SQL, params);
+
+        namedJdbcTemplate.update(DELETE_SECTION_ROLLUPS_SQL, new MapSqlParameterSource("projectId", projectId));
+        MapSqlParameterSource[] sections = rollup.getSections().entrySet().stream()
+                .map(entry -> sectionParams(projectId, entry))
+                .toArray(MapSqlParameterSource[]::new);
+        if (sections.length > 0) {
+            namedJdbcTemplate.batchUpdate(INSERT_SECTION_ROLLUP_SQL, sections);
+        }
+    }
+
+    /**
+     * Recomputes the organization rollup from its project rollups.
+     */
+    public void saveOrganizationRollup(UUID organizationId, Instant computedAt) {
+        namedJdbcTemplate.update(UPSERT_ORGANIZATION_ROLLUP_SQL, new MapSqlParameterSource("organizationId", organizationId)
+                .addValue("scoreBands", PortfolioRollup.SCORE_BANDS)
+                .addValue("computedAt", toOffsetDateTime(computedAt)));
+    }
+
+    public Optional<RollupRow> findProjectRollup(long projectId) {
+        return namedJdbcTemplate.query(PROJECT_ROLLUP_COLUMNS + "WHERE r.project_id = :projectId",
+                        new MapSqlParameterSource("projectId", projectId), (rs, rowNum) -> toRollupRow(rs))
+                .stream().findFirst();
+    }
+
+    public List<RollupRow> findProjectRollups(UUID organizationId) {
+        return namedJdbcTemplate.query(PROJECT_ROLLUP_COLUMNS + "WHERE r.organization_id = :organizationId ORDER BY r.project_id",
+                new MapSqlParameterSource("organizationId", organizationId), (rs, rowNum) -> toRollupRow(rs));
+    }
+
+    public Optional<RollupRow> findOrganizationRollup(UUID organizationId) {
+        return namedJdbcTemplate.query(ORGANIZATION_ROLLUP_SQL,
+                        new MapSqlParameterSource("organizationId", organizationId), (rs, rowNum) -> toRollupRow(rs))
+                .stream().findFirst();
+    }
+
+    /**
+     * Returns the sections with the lowest weighted score, lowest first; sections without scored items are left out.
+     */
+    public List<SectionRow> findWeakestSections(long projectId, int limit) {
+        return namedJdbcTemplate.query(PROJECT_WEAKEST_SECTIONS_SQL,
+                new MapSqlParameterSource("projectId", projectId).addValue("limit", limit), (rs, rowNum) -> toSectionRow(rs));
+    }
+
+    public List<SectionRow> findWeakestSections(UUID organizationId, int limit) {
+        return namedJdbcTemplate.query(ORGANIZATION_WEAKEST_SECTIONS_SQL,
+                new MapSqlParameterSource("organizationId", organizationId).addValue("limit", limit),
+                (rs, rowNum) -> toSectionRow(rs));
+    }
+
+    private static MapSqlParameterSource sectionParams(long projectId, Map.Entry<String, SectionTotals> entry) {
+        SectionTotals totals = entry.getValue();
+        return new MapSqlParameterSource("projectId", projectId)
+                .addValue("section", entry.getKey())
+                .addValue("totalItems", totals.getTotalItems())
+                .addValue("scoredItems", totals.getScoredItems())
+                .addValue("weightedScoreSum", totals.getWeightedScoreSum())
+                .addValue("weightSum", totals.getWeightSum());
+    }
+
+    private static SqlTypeValue integerArray(int[] values) {
+        Integer[] boxed = Arrays.stream(values).boxed().toArray(Integer[]::new);
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName) throws SQLException {
+                return connection.createArrayOf("integer", boxed);
+            }
+        };
+    }
+
+    private static RollupRow toRollupRow(ResultSet rs) throws SQLException {
+        Array histogram = rs.getArray("score_histogram");
+        int[] scoreHistogram = Arrays.stream((Integer[]) histogram.getArray()).mapToInt(Integer::intValue).toArray();
+        long projectId = rs.getLong("project_id");
+
+        return new RollupRow(
+                rs.getObject("organization_id", UUID.class),
+                rs.wasNull() ? null : projectId,
+                rs.getInt("projects"),
+                rs.getInt("assessments"),
+                rs.getInt("scored_assessments"),
+                rs.getInt("total_items"),
+                rs.getInt("scored_items"),
+                rs.getInt("unscored_high_items"),
+                rs.getBigDecimal("weighted_score_sum"),
+                rs.getBigDecimal("weight_sum"),
+                scoreHistogram,
+                toInstant(rs, "computed_at"));
+    }
+
+    private static SectionRow toSectionRow(ResultSet rs) throws SQLException {
+        return new SectionRow(
+                rs.getString("section"),
+                rs.getInt("total_items"),
+                rs.getInt("scored_items"),
+                rs.getBigDecimal("weighted_score_sum"),
+                rs.getBigDecimal("weight_sum"));
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant != null ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    /**
+     * @param watermark null until the first refresh completes
+     */
+    public record RefreshClaim(Instant watermark, Instant startedAt) {
+    }
+
+    public record ProjectRef(long projectId, UUID organizationId) {
+    }
+
+    public record AssessmentBuckets(UUID assessmentId, long projectId, List<ScoreBucket> buckets) {
+    }
+
+    /**
+     * Rollup of one project, or of an organization when projectId is null.
+     */
+    public record RollupRow(UUID organizationId, Long projectId, int projects, int assessments, int scoredAssessments,
+                            int totalItems, int scoredItems, int unscoredHighItems, BigDecimal weightedScoreSum,
+                            BigDecimal weightSum, int[] scoreHistogram, Instant computedAt) {
+    }
+
+    public record SectionRow(String section, int totalItems, int scoredItems, BigDecimal weightedScoreSum,
+                             BigDecimal weightSum) {
+    }
+}
@@ -0,0 +1,96 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.secassess.core.enums.SearchHitType;
+import org.secassess.core.enums.Severity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC repository for full-text search over template criteria and assessment items of one organization.
+ * Matches come from the GIN indexes on the trigger-maintained search_vector columns; hits are ranked with ts_rank_cd
+ * and paged by keyset on (rank descending, id).
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    private static final String SEARCH_SQL = """
+            WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query)
+            SELECT hit.*
+            FROM (
+            %s
+            ) hit
+            WHERE TRUE
+            %s
+            ORDER BY hit.rank DESC, hit.id
+            LIMIT :limit
+            """;
+
+    private static final String CRITERION_HITS_SQL = """
+            SELECT 'CRITERION' AS type, c.id, c.template_id AS parent_id, t.title AS parent_title, c.section, c.severity,
+                   c.text, NULL AS notes, NULL::integer AS score, ts_rank_cd(c.search_vector, q.query) AS rank
+            FROM q, template_criterion c
+            JOIN assessment_template t ON t.id = c.template_id
+            WHERE c.search_vector @@ q.query AND t.organization_id = :organizationId
+            """;
+
+    private static final String ITEM_HITS_SQL = """
+            SELECT 'ITEM' AS type, i.id, i.assessment_id AS parent_id, a.title AS parent_title, i.section, i.severity,
+                   i.text, i.notes, i.score, ts_rank_cd(i.search_vector, q.query) AS rank
+            FROM q, assessment_item i
+            JOIN assessment a ON a.id = i.assessment_id
+            JOIN project p ON p.id = a.project_id
+            WHERE i.search_vector @@ q.query AND p.organization_id = :organizationId
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Returns up to limit hits after the cursor, best ranked first.
+     * A null type searches both tables; otherwise only the requested one is queried.
+     */
+    public List<SearchHitRow> search(UUID organizationId, String query, SearchHitType type, SearchCursor after, int limit) {
+        List<String> sources = new ArrayList<>();
+        if (type == null || type == SearchHitType.CRITERION) sources.add(CRITERION_HITS_SQL);
+        if (type == null || type == SearchHitType.ITEM) sources.add(ITEM_HITS_SQL);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("organizationId", organizationId)
+                .addValue("query", query)
+                .addValue("limit", limit);
+
+        String predicates = "";
+        if (after != null) {
+            predicates = "  AND (hit.rank < :afterRank OR (hit.rank = :afterRank AND hit.id > :afterId))\n";
+            params.addValue("afterRank", after.rank(), Types.REAL);
+            params.addValue("afterId", after.id());
+        }
+
+        String sql = SEARCH_SQL.formatted(String.join("UNION ALL\n", sources), predicates);
+        return namedJdbcTemplate.query(sql, params, (rs, rowNum) -> new SearchHitRow(
+                SearchHitType.valueOf(rs.getString("type")),
+                rs.getObject("id", UUID.class),
+                rs.getObject("parent_id", UUID.class),
+                rs.getString("parent_title"),
+                rs.getString("section"),
+                Severity.valueOf(rs.getString("severity")),
+                rs.getString("text"),
+                rs.getString("notes"),
+                rs.getObject("score", Integer.class),
+                rs.getFloat("rank")));
+    }
+
+    /**
+     * One matching criterion or item; notes and score are always null for criteria.
+     */
+    public record SearchHitRow(SearchHitType type, UUID id, UUID parentId, String parentTitle, String section,
+                               Severity severity, String text, String notes, Integer score, float rank) {
+    }
+}
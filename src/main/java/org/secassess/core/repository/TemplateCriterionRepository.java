@@ -2,10 +2,26 @@ package org.secassess.core.repository;
 
 import org.secassess.core.model.TemplateCriterion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Repository for TemplateCriterion entity
  */
 public interface TemplateCriterionRepository extends JpaRepository<TemplateCriterion, UUID> {
-}
\ No newline at end of file
+
+    @Query("select count(c) from TemplateCriterion c where c.template.id = :templateId")
+    long countByTemplateId(@Param("templateId") UUID templateId);
+
+    /**
+     * Keyset-paginated read of a template's criteria in ID order, starting after the given criterion ID.
+     */
+    @Query(value = "SELECT * FROM template_criterion WHERE template_id = :templateId AND id > :afterId ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<TemplateCriterion> findChunkAfter(@Param("templateId") UUID templateId,
+                                           @Param("afterId") UUID afterId,
+                                           @Param("limit") int limit);
+}
@@ -0,0 +1,173 @@
+package org.secassess.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC repository for propagating the template_criterion_change log into assessments that were copied from the template.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TemplateSyncRepository {
+
+    private static final String LATEST_CHANGE_SQL =
+            "SELECT max(id) FROM template_criterion_change WHERE template_id = :templateId";
+
+    private static final String LOG_HEAD_SQL = "SELECT COALESCE(max(id), 0) FROM template_criterion_change";
+
+    private static final String CHANGED_TEMPLATES_SQL = """
+            SELECT template_id, max(id) AS last_change_id
+            FROM template_criterion_change
+            WHERE id > :afterId
+            GROUP BY template_id
+            """;
+
+    // Assessments holding at least one item of the template (current or since removed) and not yet synced to the target
+    private static final String ASSESSMENTS_BEHIND_SQL = """
+            SELECT DISTINCT i.assessment_id
+            FROM assessment_item i
+            WHERE i.criterion_ref IN (
+                    SELECT id FROM template_criterion WHERE template_id = :templateId
+                    UNION
+                    SELECT criterion_id FROM template_criterion_change WHERE template_id = :templateId)
+              AND i.assessment_id > :afterId
+              AND NOT EXISTS (
+                    SELECT 1 FROM assessment_template_sync s
+                    WHERE s.assessment_id = i.assessment_id
+                      AND s.template_id = :templateId
+                      AND s.last_change_id >= :targetChangeId)
+            ORDER BY i.assessment_id
+            LIMIT :limit
+            """;
+
+    /*
+     * Applies the net delta between each assessment's watermark and the target in one statement. Only the criteria touched
+     * in that range are visited, and their current state decides the action, so a criterion added and removed again is a no-op:
+     *  - still in the template: items are refreshed (score and notes kept), or added if the assessment holds its section
+     *  - no longer in the template: unscored items are deleted, scored ones are kept for the audit trail
+     */
+    private static final String APPLY_DELTA_SQL = """
+            WITH targets AS (
+                SELECT a.id AS assessment_id, COALESCE(s.last_change_id, 0) AS watermark
+                FROM assessment a
+                LEFT JOIN assessment_template_sync s ON s.assessment_id = a.id AND s.template_id = :templateId
+                WHERE a.id IN (:assessmentIds)
+            ), delta AS (
+                SELECT DISTINCT t.assessment_id, c.criterion_id
+                FROM targets t
+                JOIN template_criterion_change c
+                  ON c.template_id = :templateId AND c.id > t.watermark AND c.id <= :targetChangeId
+            ), current_criteria AS (
+                SELECT d.assessment_id, tc.id, tc.section, tc.text, tc.severity, tc.weight
+                FROM delta d
+                JOIN template_criterion tc ON tc.id = d.criterion_id AND tc.template_id = :templateId
+            ), updated AS (
+                UPDATE assessment_item i
+                SET section = cc.section, text = cc.text, severity = cc.severity, weight = cc.weight
+                FROM current_criteria cc
+                WHERE i.assessment_id = cc.assessment_id AND i.criterion_ref = cc.id
+                  AND (i.section, i.text, i.severity, i.weight) IS DISTINCT FROM (cc.section, cc.text, cc.severity, cc.weight)
+                RETURNING 1
+            ), inserted AS (
+                INSERT INTO assessment_item (id, assessment_id, criterion_ref, section, text, severity, weight)
+                SELECT gen_random_uuid(), cc.assessment_id, cc.id, cc.section, cc.text, cc.severity, cc.weight
+                FROM current_criteria cc
+                WHERE EXISTS (
+                    SELECT 1 FROM assessment_item x
+                    JOIN template_criterion xc ON xc.id = x.criterion_ref AND xc.template_id = :templateId
+                    WHERE x.assessment_id = cc.assessment_id AND x.section = cc.section)
+                ON CONFLICT (assessment_id, criterion_ref) DO NOTHING
+                RETURNING 1
+            ), deleted AS (
+                DELETE FROM assessment_item i
+                USING delta d
+                WHERE i.assessment_id = d.assessment_id AND i.criterion_ref = d.criterion_id AND i.score IS NULL
+                  AND NOT EXISTS (SELECT 1 FROM template_criterion tc WHERE tc.id = d.criterion_id AND tc.template_id = :templateId)
+                RETURNING 1
+            ), watermarks AS (
+                INSERT INTO assessment_template_sync (assessment_id, template_id, last_change_id, synced_at)
+                SELECT assessment_id, :templateId, :targetChangeId, NOW() FROM targets
+                ON CONFLICT (assessment_id, template_id) DO UPDATE
+                SET last_change_id = GREATEST(assessment_template_sync.last_change_id, EXCLUDED.last_change_id),
+                    synced_at = EXCLUDED.synced_at
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM updated)    AS updated,
+                   (SELECT count(*) FROM inserted)   AS inserted,
+                   (SELECT count(*) FROM deleted)    AS deleted,
+                   (SELECT count(*) FROM watermarks) AS synced
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * @return the newest change log entry of the template, or null if its criteria never changed since the log was introduced
+     */
+    public Long findLatestChangeId(UUID templateId) {
+        return namedJdbcTemplate.queryForObject(LATEST_CHANGE_SQL,
+                new MapSqlParameterSource("templateId", templateId), Long.class);
+    }
+
+    /**
+     * @return the newest entry of the whole change log, or 0 while it is empty
+     */
+    public long findLogHead() {
+        return namedJdbcTemplate.getJdbcTemplate().queryForObject(LOG_HEAD_SQL, Long.class);
+    }
+
+    /**
+     * Returns every template with a change log entry after the given one, mapped to its newest entry.
+     */
+    public Map<UUID, Long> findTemplatesChangedAfter(long afterId) {
+        Map<UUID, Long> changed = new HashMap<>();
+        namedJdbcTemplate.query(CHANGED_TEMPLATES_SQL, new MapSqlParameterSource("afterId", afterId),
+                (RowCallbackHandler) rs -> changed.put(rs.getObject("template_id", UUID.class), rs.getLong("last_change_id")));
+        return changed;
+    }
+
+    /**
+     * Returns the next batch of assessments, in ID order after the given one, whose items still lag behind the target change.
+     */
+    public List<UUID> findAssessmentsBehind(UUID templateId, long targetChangeId, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("targetChangeId", targetChangeId)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return namedJdbcTemplate.queryForList(ASSESSMENTS_BEHIND_SQL, params, UUID.class);
+    }
+
+    /**
+     * Brings the given assessments up to the target change and advances their watermarks.
+     */
+    public SyncCounts applyDelta(UUID templateId, List<UUID> assessmentIds, long targetChangeId) {
+        if (assessmentIds.isEmpty()) return new SyncCounts(0, 0, 0, 0);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("assessmentIds", assessmentIds)
+                .addValue("targetChangeId", targetChangeId);
+
+        SyncCounts counts = namedJdbcTemplate.queryForObject(APPLY_DELTA_SQL, params, (rs, rowNum) -> new SyncCounts(
+                rs.getInt("updated"), rs.getInt("inserted"), rs.getInt("deleted"), rs.getInt("synced")));
+        log.debug("Synced {} assessments with Template {} up to change {}: {}",
+                assessmentIds.size(), templateId, targetChangeId, counts);
+        return counts;
+    }
+
+    /**
+     * Row counts reported by one sync batch.
+     */
+    public record SyncCounts(int updated, int inserted, int deleted, int synced) {
+    }
+}
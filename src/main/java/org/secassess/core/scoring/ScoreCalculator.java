@@ -0,0 +1,109 @@
+package org.secassess.core.scoring;
+
+import org.secassess.core.dto.AssessmentScoreDto;
+import org.secassess.core.dto.ScoreBreakdownDto;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Weighted scoring over the (section, severity) buckets of an assessment.
+ * Each scored item counts with its weight times the multiplier of its severity, so a score is
+ * sum(multiplier * weight * score) / sum(multiplier * weight) over the scored items. Unscored items do not lower it.
+ * <p>
+ * Multipliers are applied when reading, so changing them needs no recomputation of the stored buckets.
+ */
+@Component
+public class ScoreCalculator {
+
+    private static final int SCALE = 2;
+
+    private final Map<Severity, BigDecimal> multipliers;
+
+    public ScoreCalculator(@Value("${app.scoring.severity-multiplier.low:1.0}") BigDecimal low,
+                           @Value("${app.scoring.severity-multiplier.medium:2.0}") BigDecimal medium,
+                           @Value("${app.scoring.severity-multiplier.high:3.0}") BigDecimal high) {
+        Map<Severity, BigDecimal> configured = new EnumMap<>(Severity.class);
+        configured.put(Severity.LOW, requirePositive(Severity.LOW, low));
+        configured.put(Severity.MEDIUM, requirePositive(Severity.MEDIUM, medium));
+        configured.put(Severity.HIGH, requirePositive(Severity.HIGH, high));
+        this.multipliers = Collections.unmodifiableMap(configured);
+    }
+
+    public BigDecimal multiplier(Severity severity) {
+        return multipliers.get(severity);
+    }
+
+    public AssessmentScoreDto score(UUID assessmentId, List<ScoreBucket> buckets) {
+        Accumulator overall = new Accumulator();
+        Map<String, Accumulator> bySection = new TreeMap<>();
+        Map<Severity, Accumulator> bySeverity = new EnumMap<>(Severity.class);
+
+        for (ScoreBucket bucket : buckets) {
+            BigDecimal multiplier = multipliers.get(bucket.severity());
+            overall.add(bucket, multiplier);
+            bySection.computeIfAbsent(bucket.section(), s -> new Accumulator()).add(bucket, multiplier);
+            bySeverity.computeIfAbsent(bucket.severity(), s -> new Accumulator()).add(bucket, multiplier);
+        }
+
+        return AssessmentScoreDto.builder()
+                .assessmentId(assessmentId)
+                .totalItems(overall.totalItems)
+                .scoredItems(overall.scoredItems)
+                .unscoredItems(overall.totalItems - overall.scoredItems)
+                .weightedScore(overall.score())
+                .severityMultipliers(multipliers)
+                .sections(bySection.entrySet().stream()
+                        .map(entry -> entry.getValue().toBreakdown(entry.getKey()))
+                        .toList())
+                .severities(bySeverity.entrySet().stream()
+                        .map(entry -> entry.getValue().toBreakdown(entry.getKey().name()))
+                        .toList())
+                .build();
+    }
+
+    private static BigDecimal requirePositive(Severity severity, BigDecimal multiplier) {
+        if (multiplier == null || multiplier.signum() <= 0) {
+            throw new IllegalArgumentException("Severity multiplier for " + severity + " must be positive, got: " + multiplier);
+        }
+        return multiplier;
+    }
+
+    private static final class Accumulator {
+        private int totalItems;
+        private int scoredItems;
+        private BigDecimal weightedScoreSum = BigDecimal.ZERO;
+        private BigDecimal weightSum = BigDecimal.ZERO;
+
+        void add(ScoreBucket bucket, BigDecimal multiplier) {
+            totalItems += bucket.totalItems();
+            scoredItems += bucket.scoredItems();
+            weightedScoreSum = weightedScoreSum.add(bucket.weightedScoreSum().multiply(multiplier));
+            weightSum = weightSum.add(bucket.scoredWeightSum().multiply(multiplier));
+        }
+
+        BigDecimal score() {
+            if (scoredItems == 0 || weightSum.signum() <= 0) return null;
+            return weightedScoreSum.divide(weightSum, SCALE, RoundingMode.HALF_UP);
+        }
+
+        ScoreBreakdownDto toBreakdown(String key) {
+            return ScoreBreakdownDto.builder()
+                    .key(key)
+                    .totalItems(totalItems)
+                    .scoredItems(scoredItems)
+                    .weightedScore(score())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.secassess.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.enums.ExportFormat;
+import org.secassess.core.export.CsvExportRowWriter;
+import org.secassess.core.export.ExportRowWriter;
+import org.secassess.core.export.NdjsonExportRowWriter;
+import org.secassess.core.interfaces.AssessmentExportService;
+import org.secassess.core.repository.AssessmentExportRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams exports row by row from a database cursor to the response, so memory use does not depend on the export size.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentExportServiceImpl implements AssessmentExportService {
+
+    private final AssessmentExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public long export(AssessmentFilterDto filter, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Starting {} export of assessments [Filter: {}]", format, filter);
+
+        try (ExportRowWriter writer = createWriter(format, out)) {
+            // The cursor only streams inside a transaction; it also gives the export one consistent snapshot
+            Long rows = transactionTemplate.execute(status -> exportRepository.streamRows(filter, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+
+            log.info("Finished {} export: {} rows written", format, rows);
+            return rows != null ? rows : 0;
+        } catch (UncheckedIOException ex) {
+            // Usually the client disconnected; the cursor and transaction are already released
+            log.warn("Assessment export aborted: {}", ex.getCause().getMessage());
+            throw ex.getCause();
+        }
+    }
+
+    private ExportRowWriter createWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportRowWriter(objectMapper, out);
+            case CSV -> new CsvExportRowWriter(out);
+        };
+    }
+}
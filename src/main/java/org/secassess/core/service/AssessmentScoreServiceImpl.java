@@ -0,0 +1,42 @@
+package org.secassess.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.AssessmentScoreDto;
+import org.secassess.core.exception.ResourceNotFoundException;
+import org.secassess.core.interfaces.AssessmentScoreService;
+import org.secassess.core.repository.AssessmentScoreBucketRepository;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.secassess.core.scoring.ScoreCalculator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Scores assessments from their trigger-maintained (section, severity) buckets. The work per request depends on
+ * the number of sections in use, not on the number of items.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentScoreServiceImpl implements AssessmentScoreService {
+
+    private final AssessmentScoreBucketRepository bucketRepository;
+    private final ScoreCalculator scoreCalculator;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssessmentScoreDto getScore(UUID assessmentId) {
+        log.info("Computing score of Assessment: {}", assessmentId);
+
+        List<ScoreBucket> buckets = bucketRepository.findByAssessmentId(assessmentId)
+                .orElseThrow(() -> {
+                    log.error("Failed to find Assessment with ID: {}", assessmentId);
+                    return new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+                });
+
+        return scoreCalculator.score(assessmentId, buckets);
+    }
+}
@@ -2,111 +2,251 @@ package org.secassess.core.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.autosave.ItemAutosaveBuffer;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.cache.TemplateSnapshot;
+import org.secassess.core.cache.TemplateSnapshotCache;
 import org.secassess.core.dto.*;
 import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.BulkUpdateMode;
+import org.secassess.core.enums.CopyMode;
+import org.secassess.core.enums.ItemScoreOutcome;
+import org.secassess.core.enums.StatusUpdateOutcome;
 import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.events.AssessmentsChangedEvent;
 import org.secassess.core.exception.BusinessValidationException;
 import org.secassess.core.exception.ResourceNotFoundException;
 import org.secassess.core.interfaces.AssessmentService;
 import org.secassess.core.mapper.AssessmentMapper;
 import org.secassess.core.model.Assessment;
 import org.secassess.core.model.AssessmentItem;
+import org.secassess.core.model.AssessmentStats;
 import org.secassess.core.model.AssessmentTemplate;
-import org.secassess.core.model.TemplateCriterion;
-import org.secassess.core.repository.AssessmentItemRepository;
+import org.secassess.core.repository.AssessmentBulkRepository;
+import org.secassess.core.repository.AssessmentBulkRepository.StatusCheck;
+import org.secassess.core.repository.AssessmentCursor;
+import org.secassess.core.repository.AssessmentItemBulkRepository;
+import org.secassess.core.repository.AssessmentItemBulkRepository.TemplateCopyCounts;
 import org.secassess.core.repository.AssessmentRepository;
+import org.secassess.core.repository.AssessmentSpecifications;
+import org.secassess.core.repository.AssessmentStatsRepository;
+import org.secassess.core.repository.AssessmentSummaryRepository;
+import org.secassess.core.repository.AssessmentSummaryRepository.SummaryRow;
 import org.secassess.core.repository.AssessmentTemplateRepository;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AssessmentServiceImpl implements AssessmentService {
 
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+    private static final int MAX_SCROLL_SIZE = 500;
+    private static final int MIN_SCORE = 0;
+    private static final int MAX_SCORE = 100;
+
     private final AssessmentRepository assessmentRepository;
     private final AssessmentTemplateRepository templateRepository;
-    private final AssessmentItemRepository itemRepository;
+    private final AssessmentItemBulkRepository itemBulkRepository;
+    private final AssessmentBulkRepository assessmentBulkRepository;
+    private final AssessmentStatsRepository statsRepository;
+    private final AssessmentSummaryRepository summaryRepository;
     private final AssessmentMapper assessmentMapper;
+    private final TemplateSnapshotCache snapshotCache;
+    private final AssessmentListCache listCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ItemAutosaveBuffer autosaveBuffer;
+
+    @Qualifier("copyExecutor")
+    private final TaskExecutor copyExecutor;
 
     @Override
     @Transactional
     public CopyStatsResponseDto copyCriteriaFromTemplate(UUID assessmentId, CopyCriteriaRequestDto request) {
         log.info("Starting criteria copy. Assessment: {}, Template: {}", assessmentId, request.getTemplateId());
 
-        Assessment assessment = assessmentRepository.findById(assessmentId)
+        assessmentRepository.findById(assessmentId)
                 .orElseThrow(() -> {
                     log.error("Failed to find Assessment with ID: {}", assessmentId);
                     return new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
                 });
 
-        AssessmentTemplate template = templateRepository.findById(request.getTemplateId())
+        AssessmentTemplate template = requirePublishedTemplate(request.getTemplateId());
+
+        if (request.getMode() == CopyMode.IN_DATABASE) {
+            return copyInDatabase(assessmentId, request);
+        }
+
+        return applyPreparedCopy(assessmentId, prepareCopy(template, request), request.isOverwriteExisting());
+    }
+
+    @Override
+    public BulkCopyResponseDto copyCriteriaToAssessments(BulkCopyCriteriaRequestDto request) {
+        CopyCriteriaRequestDto copy = request.getCopy();
+        List<UUID> targets = resolveCopyTargets(request);
+        log.info("Starting bulk criteria copy. Template: {}, Target assessments: {}", copy.getTemplateId(), targets.size());
+
+        // The template is loaded, validated and mapped once and shared read-only by every target
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        PreparedCopy prepared = readOnlyTransaction.execute(status -> {
+            AssessmentTemplate template = requirePublishedTemplate(copy.getTemplateId());
+            return copy.getMode() == CopyMode.IN_DATABASE ? null : prepareCopy(template, copy);
+        });
+
+        List<CompletableFuture<AssessmentCopyResultDto>> futures = targets.stream()
+                .map(targetId -> CompletableFuture.supplyAsync(() -> copyIntoTarget(targetId, copy, prepared), copyExecutor))
+                .toList();
+
+        List<AssessmentCopyResultDto> results = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        BulkCopyResponseDto response = assessmentMapper.toBulkCopyResponseDto(results);
+        log.info("Bulk criteria copy finished. Succeeded: {}, Failed: {}", response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private AssessmentTemplate requirePublishedTemplate(UUID templateId) {
+        AssessmentTemplate template = templateRepository.findById(templateId)
                 .orElseThrow(() -> {
-                    log.error("Failed to find Template with ID: {}", request.getTemplateId());
-                    return new ResourceNotFoundException("Template not found with ID: " + request.getTemplateId());
+                    log.error("Failed to find Template with ID: {}", templateId);
+                    return new ResourceNotFoundException("Template not found with ID: " + templateId);
                 });
 
         if (template.getStatus() != TemplateStatus.PUBLISHED) {
             log.warn("Attempted to copy from non-published template: {}. Status: {}", template.getId(), template.getStatus());
             throw new BusinessValidationException("Cannot copy from a template that is not PUBLISHED.");
         }
+        return template;
+    }
 
-        List<TemplateCriterion> sourceCriteria = template.getCriteria();
-        int totalSource = sourceCriteria.size();
+    /**
+     * Filters the template's cached criteria snapshot by section code and maps it to transient items ready to be written.
+     */
+    private PreparedCopy prepareCopy(AssessmentTemplate template, CopyCriteriaRequestDto request) {
+        TemplateSnapshot snapshot = snapshotCache.get(template);
+        int totalSource = snapshot.size();
         log.debug("Found {} criteria in template", totalSource);
 
-        if (request.getIncludeSections() != null && !request.getIncludeSections().isEmpty()) {
-            sourceCriteria = sourceCriteria.stream()
-                    .filter(c -> request.getIncludeSections().contains(c.getSection()))
-                    .collect(Collectors.toList());
-            log.info("Filtered criteria by sections. Remaining items: {}", sourceCriteria.size());
+        // Requested sections are resolved to dictionary codes once; each criterion is then a single bit test
+        BitSet sectionMask = snapshot.sectionMask(request.getIncludeSections());
+        int selected = snapshot.criterionCountInMask(sectionMask);
+
+        List<AssessmentItem> candidates = new ArrayList<>(selected);
+        if (selected > 0) {
+            for (int i = 0; i < totalSource; i++) {
+                if (sectionMask == null || sectionMask.get(snapshot.sectionCode(i))) {
+                    candidates.add(assessmentMapper.newItemFromSnapshot(snapshot, i));
+                }
+            }
+        }
+        if (sectionMask != null) {
+            log.info("Filtered criteria by sections. Remaining items: {}", selected);
+        }
+
+        return new PreparedCopy(candidates, totalSource, totalSource - selected);
+    }
+
+    private CopyStatsResponseDto applyPreparedCopy(UUID assessmentId, PreparedCopy prepared, boolean overwriteExisting) {
+        // Existing items are resolved by the unique (assessment_id, criterion_ref) index, not loaded here
+        int copied = itemBulkRepository.upsertItems(assessmentId, prepared.candidates(), overwriteExisting);
+        int skipped = prepared.candidates().size() - copied;
+        if (copied > 0) {
+            eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
         }
+        log.info("Criteria copy finished. Copied: {}, Skipped: {}, Filtered out: {}", copied, skipped, prepared.filteredOut());
 
-        int filteredOut = totalSource - sourceCriteria.size();
+        return assessmentMapper.toCopyStatsDto(copied, skipped, prepared.filteredOut(), prepared.totalSource());
+    }
 
-        Map<UUID, AssessmentItem> existingItemsMap = assessment.getItems().stream()
-                .filter(item -> item.getCriterionRef() != null)
-                .collect(Collectors.toMap(AssessmentItem::getCriterionRef, Function.identity()));
+    /**
+     * Pushes filtering, duplicate detection and field mapping into one INSERT ... SELECT statement
+     * and derives the copy stats from its row counts.
+     */
+    private CopyStatsResponseDto copyInDatabase(UUID assessmentId, CopyCriteriaRequestDto request) {
+        TemplateCopyCounts counts = itemBulkRepository.copyFromTemplate(
+                assessmentId, request.getTemplateId(), request.getIncludeSections(), request.isOverwriteExisting());
 
-        List<AssessmentItem> itemsToSave = new ArrayList<>();
-        int copied = 0;
-        int skipped = 0;
+        int filteredOut = counts.totalSource() - counts.selected();
+        int skipped = counts.selected() - counts.written();
+        if (counts.written() > 0) {
+            eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
+        }
+        log.info("In-database criteria copy finished. Copied: {}, Skipped: {}, Filtered out: {}",
+                counts.written(), skipped, filteredOut);
 
-        for (TemplateCriterion criterion : sourceCriteria) {
-            UUID refId = criterion.getId();
+        return assessmentMapper.toCopyStatsDto(counts.written(), skipped, filteredOut, counts.totalSource());
+    }
 
-            if (existingItemsMap.containsKey(refId)) {
-                if (!request.isOverwriteExisting()) {
-                    log.debug("Skipping existing criterion ref: {}", refId);
-                    skipped++;
-                    continue;
-                }
-                log.debug("Overwriting existing criterion ref: {}", refId);
-                AssessmentItem existingItem = existingItemsMap.get(refId);
-                itemsToSave.add(assessmentMapper.updateItemFromCriterion(existingItem, criterion));
-            } else {
-                AssessmentItem newItem = new AssessmentItem();
-                newItem.setAssessment(assessment);
-                newItem.setCriterionRef(refId);
-                itemsToSave.add(assessmentMapper.updateItemFromCriterion(newItem, criterion));
-            }
-            copied++;
+    private List<UUID> resolveCopyTargets(BulkCopyCriteriaRequestDto request) {
+        boolean hasIds = request.getAssessmentIds() != null && !request.getAssessmentIds().isEmpty();
+        if (hasIds == (request.getProjectId() != null)) {
+            throw new BusinessValidationException("Provide either assessmentIds or projectId as copy targets.");
+        }
+        if (hasIds) {
+            return request.getAssessmentIds().stream().distinct().toList();
         }
 
-        itemRepository.saveAll(itemsToSave);
-        log.info("Criteria copy finished. Copied: {}, Skipped: {}, Filtered out: {}", copied, skipped, filteredOut);
+        // One row past the cap is enough to tell the project is too large, without loading all of its IDs
+        List<UUID> projectTargets = assessmentRepository.findIdsByProjectId(request.getProjectId(),
+                PageRequest.of(0, BulkCopyCriteriaRequestDto.MAX_TARGETS + 1));
+        if (projectTargets.size() > BulkCopyCriteriaRequestDto.MAX_TARGETS) {
+            log.warn("Rejected bulk copy into Project {}: more than {} assessments",
+                    request.getProjectId(), BulkCopyCriteriaRequestDto.MAX_TARGETS);
+            throw new BusinessValidationException("Project " + request.getProjectId() + " has more than "
+                    + BulkCopyCriteriaRequestDto.MAX_TARGETS + " assessments; target them by assessmentIds in batches.");
+        }
+        return projectTargets;
+    }
+
+    /**
+     * Copies into a single target in its own transaction, so one failing assessment does not roll back the others.
+     */
+    private AssessmentCopyResultDto copyIntoTarget(UUID assessmentId, CopyCriteriaRequestDto copy, PreparedCopy prepared) {
+        try {
+            CopyStatsResponseDto stats = transactionTemplate.execute(status -> {
+                if (!assessmentRepository.existsById(assessmentId)) {
+                    throw new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+                }
+                return prepared == null
+                        ? copyInDatabase(assessmentId, copy)
+                        : applyPreparedCopy(assessmentId, prepared, copy.isOverwriteExisting());
+            });
+            return assessmentMapper.toCopyResultDto(assessmentId, stats);
+        } catch (ResourceNotFoundException | BusinessValidationException ex) {
+            log.warn("Bulk copy into Assessment {} rejected: {}", assessmentId, ex.getMessage());
+            return assessmentMapper.toFailedCopyResultDto(assessmentId, ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Bulk copy into Assessment {} failed", assessmentId, ex);
+            return assessmentMapper.toFailedCopyResultDto(assessmentId, "Unexpected error while copying criteria");
+        }
+    }
 
-        return assessmentMapper.toCopyStatsDto(copied, skipped, filteredOut, totalSource);
+    private record PreparedCopy(List<AssessmentItem> candidates, int totalSource, int filteredOut) {
     }
 
     @Override
@@ -114,16 +254,19 @@ public class AssessmentServiceImpl implements AssessmentService {
     public AssessmentDto updateStatus(UUID assessmentId, UpdateStatusRequestDto request) {
         log.info("Updating status for Assessment: {} to {}", assessmentId, request.getStatus());
 
-        Assessment assessment = assessmentRepository.findById(assessmentId)
+        // Items are fetched in the same statement because the response carries them
+        Assessment assessment = assessmentRepository.findWithItemsById(assessmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assessment not found with ID: " + assessmentId));
 
         AssessmentStatus newStatus = request.getStatus();
 
         if (newStatus == AssessmentStatus.COMPLETED) {
-            boolean hasUnscoredItems = assessment.getItems().stream()
-                    .anyMatch(item -> item.getScore() == null);
+            // Single-row read of the trigger-maintained counters instead of loading every item
+            int unscoredItems = statsRepository.findById(assessmentId)
+                    .map(AssessmentStats::getUnscoredItems)
+                    .orElse(0);
 
-            if (hasUnscoredItems) {
+            if (unscoredItems > 0) {
                 log.warn("Validation failed: Cannot complete Assessment {} due to unscored items", assessmentId);
                 throw new BusinessValidationException("Cannot complete assessment. All items must have a score.");
             }
@@ -131,17 +274,307 @@ public class AssessmentServiceImpl implements AssessmentService {
 
         assessment.setStatus(newStatus);
         Assessment savedAssessment = assessmentRepository.save(assessment);
+        eventPublisher.publishEvent(AssessmentsChangedEvent.fieldsChanged(
+                List.of(assessmentId), AssessmentsChangedEvent.STATUS, AssessmentsChangedEvent.UPDATED_AT));
         log.info("Successfully updated Assessment {} status to {}", assessmentId, newStatus);
 
         return assessmentMapper.toDto(savedAssessment);
     }
 
+    /**
+     * Validates every target with one aggregate query and applies the transition with one conditional UPDATE.
+     * ALL_OR_NOTHING writes nothing if any target is rejected; PARTIAL updates the eligible targets only.
+     */
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponseDto bulkUpdateStatus(BulkStatusUpdateRequestDto request) {
+        AssessmentStatus newStatus = request.getStatus();
+        List<UUID> ids = request.getAssessmentIds().stream().distinct().toList();
+        log.info("Bulk status update of {} assessments to {} [Mode: {}]", ids.size(), newStatus, request.getMode());
+
+        Map<UUID, StatusCheck> checks = new HashMap<>();
+        for (StatusCheck check : assessmentBulkRepository.findStatusChecks(ids)) {
+            checks.put(check.id(), check);
+        }
+
+        Map<UUID, StatusUpdateResultDto> results = new LinkedHashMap<>();
+        List<UUID> eligible = new ArrayList<>();
+        int rejected = 0;
+        for (UUID id : ids) {
+            StatusCheck check = checks.get(id);
+            if (check == null) {
+                results.put(id, assessmentMapper.toStatusUpdateResultDto(id, StatusUpdateOutcome.NOT_FOUND, null));
+                rejected++;
+            } else if (newStatus == AssessmentStatus.COMPLETED && check.unscoredItems() > 0) {
+                results.put(id, assessmentMapper.toStatusUpdateResultDto(id, StatusUpdateOutcome.UNSCORED_ITEMS, check.unscoredItems()));
+                rejected++;
+            } else if (check.status() == newStatus) {
+                results.put(id, assessmentMapper.toStatusUpdateResultDto(id, StatusUpdateOutcome.UNCHANGED, null));
+            } else {
+                eligible.add(id);
+            }
+        }
+
+        if (rejected > 0 && request.getMode() == BulkUpdateMode.ALL_OR_NOTHING) {
+            log.warn("Bulk status update rejected: {} of {} assessments failed validation", rejected, ids.size());
+            eligible.forEach(id -> results.put(id, assessmentMapper.toStatusUpdateResultDto(id, StatusUpdateOutcome.SKIPPED, null)));
+            return assessmentMapper.toBulkStatusUpdateResponseDto(request, false, ids, results, rejected);
+        }
+
+        Set<UUID> updated = new HashSet<>(assessmentBulkRepository.updateStatuses(eligible, newStatus));
+        // An eligible row the UPDATE did not match gained an unscored item after validation
+        rejected += eligible.size() - updated.size();
+        if (updated.size() < eligible.size() && request.getMode() == BulkUpdateMode.ALL_OR_NOTHING) {
+            log.warn("Bulk status update rejected: {} assessments gained unscored items during the update", eligible.size() - updated.size());
+            rollbackOnly();
+            for (UUID id : eligible) {
+                StatusUpdateOutcome outcome = updated.contains(id) ? StatusUpdateOutcome.SKIPPED : StatusUpdateOutcome.UNSCORED_ITEMS;
+                results.put(id, assessmentMapper.toStatusUpdateResultDto(id, outcome, null));
+            }
+            return assessmentMapper.toBulkStatusUpdateResponseDto(request, false, ids, results, rejected);
+        }
+
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(AssessmentsChangedEvent.fieldsChanged(
+                    updated, AssessmentsChangedEvent.STATUS, AssessmentsChangedEvent.UPDATED_AT));
+        }
+        for (UUID id : eligible) {
+            StatusUpdateOutcome outcome = updated.contains(id) ? StatusUpdateOutcome.UPDATED : StatusUpdateOutcome.UNSCORED_ITEMS;
+            results.put(id, assessmentMapper.toStatusUpdateResultDto(id, outcome, null));
+        }
+
+        log.info("Bulk status update to {} finished. Updated: {}, Rejected: {}", newStatus, updated.size(), rejected);
+        return assessmentMapper.toBulkStatusUpdateResponseDto(request, true, ids, results, rejected);
+    }
+
+    /**
+     * Validates scores in memory and item ownership with one query, then writes the accepted updates with one
+     * UPDATE per chunk. ALL_OR_NOTHING writes nothing if any update is rejected; PARTIAL applies the valid ones.
+     */
+    @Override
+    @Transactional
+    public BulkItemScoreResponseDto bulkScoreItems(UUID assessmentId, BulkItemScoreRequestDto request) {
+        List<ItemScoreUpdateDto> updates = request.getUpdates();
+        log.info("Bulk scoring of {} items in Assessment: {} [Mode: {}]", updates.size(), assessmentId, request.getMode());
+
+        if (!assessmentRepository.existsById(assessmentId)) {
+            log.error("Failed to find Assessment with ID: {}", assessmentId);
+            throw new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+        }
+
+        Set<UUID> existing = new HashSet<>(itemBulkRepository.findItemIds(assessmentId,
+                updates.stream().map(ItemScoreUpdateDto::getItemId).distinct().toList()));
+
+        ItemScoreOutcome[] outcomes = new ItemScoreOutcome[updates.size()];
+        Set<UUID> seen = new HashSet<>();
+        List<ItemScoreUpdateDto> eligible = new ArrayList<>();
+        int rejected = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            ItemScoreUpdateDto update = updates.get(i);
+            if (!seen.add(update.getItemId())) {
+                outcomes[i] = ItemScoreOutcome.DUPLICATE;
+            } else if (!existing.contains(update.getItemId())) {
+                outcomes[i] = ItemScoreOutcome.NOT_FOUND;
+            } else if (update.getScore() == null && update.getNotes() == null) {
+                outcomes[i] = ItemScoreOutcome.EMPTY_UPDATE;
+            } else if (update.getScore() != null && (update.getScore() < MIN_SCORE || update.getScore() > MAX_SCORE)) {
+                outcomes[i] = ItemScoreOutcome.INVALID_SCORE;
+            } else {
+                eligible.add(update);
+                continue;
+            }
+            rejected++;
+        }
+
+        if (rejected > 0 && request.getMode() == BulkUpdateMode.ALL_OR_NOTHING) {
+            log.warn("Bulk scoring rejected: {} of {} updates failed validation", rejected, updates.size());
+            for (int i = 0; i < outcomes.length; i++) {
+                if (outcomes[i] == null) outcomes[i] = ItemScoreOutcome.SKIPPED;
+            }
+            return assessmentMapper.toBulkItemScoreResponseDto(assessmentId, request, false, outcomes, rejected);
+        }
+
+        Set<UUID> updated = new HashSet<>(itemBulkRepository.updateScores(assessmentId, eligible));
+        // An eligible item the UPDATE did not match was deleted after validation
+        rejected += eligible.size() - updated.size();
+        if (updated.size() < eligible.size() && request.getMode() == BulkUpdateMode.ALL_OR_NOTHING) {
+            log.warn("Bulk scoring rejected: {} items were deleted during the update", eligible.size() - updated.size());
+            rollbackOnly();
+            for (int i = 0; i < outcomes.length; i++) {
+                if (outcomes[i] != null) continue;
+                outcomes[i] = updated.contains(updates.get(i).getItemId()) ? ItemScoreOutcome.SKIPPED : ItemScoreOutcome.NOT_FOUND;
+            }
+            return assessmentMapper.toBulkItemScoreResponseDto(assessmentId, request, false, outcomes, rejected);
+        }
+
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
+        }
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] != null) continue;
+            outcomes[i] = updated.contains(updates.get(i).getItemId()) ? ItemScoreOutcome.UPDATED : ItemScoreOutcome.NOT_FOUND;
+        }
+
+        log.info("Bulk scoring of Assessment {} finished. Updated: {}, Rejected: {}", assessmentId, updated.size(), rejected);
+        return assessmentMapper.toBulkItemScoreResponseDto(assessmentId, request, true, outcomes, rejected);
+    }
+
+    /**
+     * Saves one item edit. With write-behind enabled the edit is validated and handed to the {@link ItemAutosaveBuffer},
+     * which coalesces repeated saves of the item and writes them in batches; otherwise, or when the buffer is full,
+     * it is written straight away.
+     */
+    @Override
+    @Transactional
+    public ItemScoreResultDto autosaveItem(UUID assessmentId, UUID itemId, ItemAutosaveDto request) {
+        log.info("Autosaving Item {} of Assessment: {}", itemId, assessmentId);
+
+        if (request.getScore() == null && request.getNotes() == null) {
+            throw new BusinessValidationException("Autosave must change the score or the notes.");
+        }
+        if (request.getScore() != null && (request.getScore() < MIN_SCORE || request.getScore() > MAX_SCORE)) {
+            throw new BusinessValidationException("Score must be between " + MIN_SCORE + " and " + MAX_SCORE + ".");
+        }
+        if (itemBulkRepository.findItemIds(assessmentId, List.of(itemId)).isEmpty()) {
+            log.error("Failed to find Item {} in Assessment: {}", itemId, assessmentId);
+            throw new ResourceNotFoundException("Item not found with ID: " + itemId + " in Assessment: " + assessmentId);
+        }
+
+        ItemScoreUpdateDto update = ItemScoreUpdateDto.builder()
+                .itemId(itemId)
+                .score(request.getScore())
+                .notes(request.getNotes())
+                .build();
+        if (autosaveBuffer.offer(assessmentId, update)) {
+            return ItemScoreResultDto.builder().itemId(itemId).outcome(ItemScoreOutcome.QUEUED).build();
+        }
+
+        // Only items not already buffered are written through, since pending items always coalesce
+        if (autosaveBuffer.writeThrough(assessmentId, update).isEmpty()) {
+            log.error("Failed to find Item {} in Assessment: {}", itemId, assessmentId);
+            throw new ResourceNotFoundException("Item not found with ID: " + itemId + " in Assessment: " + assessmentId);
+        }
+        eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
+        return ItemScoreResultDto.builder().itemId(itemId).outcome(ItemScoreOutcome.UPDATED).build();
+    }
+
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "assessments", key = "#pageable.pageNumber")
-    public Page<AssessmentDto> findAll(Pageable pageable) {
-        log.info("Fetching all assessments for page: {}", pageable.getPageNumber());
-        Page<Assessment> assessments = assessmentRepository.findAll(pageable);
-        return assessmentMapper.toDtoPage(assessments);
+    public AssessmentProgressDto getProgress(UUID assessmentId) {
+        log.info("Fetching progress for Assessment: {}", assessmentId);
+
+        if (!assessmentRepository.existsById(assessmentId)) {
+            log.error("Failed to find Assessment with ID: {}", assessmentId);
+            throw new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+        }
+
+        return assessmentMapper.toProgressDto(assessmentId, statsRepository.findById(assessmentId).orElse(null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AssessmentDto> findAll(AssessmentFilterDto filter, Pageable pageable) {
+        log.info("Fetching assessments for page: {} [Size: {}, Sort: {}, Filter: {}]",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), filter);
+
+        return listCache.get(filter, pageable, () -> {
+            Page<Assessment> assessments = assessmentRepository.findAll(AssessmentSpecifications.matching(filter), pageable);
+            fetchItems(assessments.getContent());
+            return assessmentMapper.toDtoPage(assessments);
+        });
+    }
+
+    /**
+     * Keyset pagination over (createdAt, id): seeks past the cursor instead of skipping rows, and fetches one extra row
+     * to detect a following page instead of counting.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<AssessmentDto> scroll(AssessmentFilterDto filter, String cursor, int size) {
+        requireScrollSize(size);
+        AssessmentCursor position = AssessmentCursor.decode(cursor);
+        log.info("Scrolling assessments after {} [Size: {}, Filter: {}]", position, size, filter);
+
+        List<Assessment> window = assessmentRepository.findBy(
+                AssessmentSpecifications.matching(filter).and(AssessmentSpecifications.after(position)),
+                query -> query.sortBy(KEYSET_ORDER).limit(size + 1).all());
+        fetchItems(window.subList(0, Math.min(size, window.size())));
+
+        return toCursorPage(window, size, assessment -> new AssessmentCursor(assessment.getCreatedAt(), assessment.getId()),
+                assessmentMapper::toDto);
+    }
+
+    /**
+     * Lists assessments without their items in a single query; the counters come from assessment_stats.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<AssessmentSummaryDto> findSummaries(AssessmentFilterDto filter, String cursor, int size) {
+        requireScrollSize(size);
+        AssessmentCursor position = AssessmentCursor.decode(cursor);
+        log.info("Fetching assessment summaries after {} [Size: {}, Filter: {}]", position, size, filter);
+
+        List<SummaryRow> window = summaryRepository.findSummaries(filter, position, size + 1);
+        return toCursorPage(window, size, row -> new AssessmentCursor(row.createdAt(), row.id()), assessmentMapper::toSummaryDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssessmentDto getAssessment(UUID assessmentId) {
+        log.info("Fetching Assessment: {}", assessmentId);
+
+        return assessmentRepository.findWithItemsById(assessmentId)
+                .map(assessmentMapper::toDto)
+                .orElseThrow(() -> {
+                    log.error("Failed to find Assessment with ID: {}", assessmentId);
+                    return new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+                });
+    }
+
+    /**
+     * Initializes the item collections of the loaded assessments with one joined query instead of one lazy load each,
+     * so mapping a page costs the same number of statements whatever its size.
+     */
+    private void fetchItems(List<Assessment> assessments) {
+        if (assessments.isEmpty()) return;
+        assessmentRepository.findWithItemsByIdIn(assessments.stream().map(Assessment::getId).toList());
+    }
+
+    /**
+     * Reads only the trigger-maintained version, so a conditional GET can be answered without loading the assessment.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(UUID assessmentId) {
+        return assessmentRepository.findRowVersionById(assessmentId)
+                .orElseThrow(() -> {
+                    log.error("Failed to find Assessment with ID: {}", assessmentId);
+                    return new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+                });
+    }
+
+    /**
+     * Rolls back the surrounding transaction while still letting the method return its rejection response.
+     */
+    private static void rollbackOnly() {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+    }
+
+    private void requireScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BusinessValidationException("Scroll size must be between 1 and " + MAX_SCROLL_SIZE + ".");
+        }
+    }
+
+    /**
+     * Turns a window of up to size + 1 rows into a page; the extra row only signals that another page follows.
+     */
+    private <E, T> CursorPageDto<T> toCursorPage(List<E> window, int size, Function<E, AssessmentCursor> position,
+                                                 Function<E, T> toDto) {
+        boolean hasNext = window.size() > size;
+        List<E> content = hasNext ? window.subList(0, size) : window;
+        String nextCursor = hasNext ? position.apply(content.get(content.size() - 1)).encode() : null;
+
+        return assessmentMapper.toCursorPageDto(content.stream().map(toDto).toList(), nextCursor);
     }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package org.secassess.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.CopyCriteriaRequestDto;
+import org.secassess.core.dto.CopyJobDto;
+import org.secassess.core.enums.CopyJobStatus;
+import org.secassess.core.enums.CopyMode;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.secassess.core.exception.BusinessValidationException;
+import org.secassess.core.exception.ResourceNotFoundException;
+import org.secassess.core.interfaces.CopyJobService;
+import org.secassess.core.mapper.AssessmentMapper;
+import org.secassess.core.model.AssessmentItem;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.model.CopyJob;
+import org.secassess.core.model.TemplateCriterion;
+import org.secassess.core.repository.AssessmentItemBulkRepository;
+import org.secassess.core.repository.AssessmentRepository;
+import org.secassess.core.repository.AssessmentTemplateRepository;
+import org.secassess.core.repository.CopyJobRepository;
+import org.secassess.core.repository.TemplateCriterionRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Runs criteria copies in the background: each chunk of criteria is written and its progress recorded in one transaction,
+ * so an interrupted job resumes from its last committed chunk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CopyJobServiceImpl implements CopyJobService {
+
+    // Lowest UUID in PostgreSQL ordering, used as the keyset start of the first chunk
+    private static final UUID FIRST_CRITERION = new UUID(0L, 0L);
+    private static final List<CopyJobStatus> ACTIVE_STATUSES = List.of(CopyJobStatus.QUEUED, CopyJobStatus.RUNNING);
+
+    private final CopyJobRepository copyJobRepository;
+    private final AssessmentRepository assessmentRepository;
+    private final AssessmentTemplateRepository templateRepository;
+    private final TemplateCriterionRepository criterionRepository;
+    private final AssessmentItemBulkRepository itemBulkRepository;
+    private final AssessmentMapper assessmentMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Qualifier("copyJobExecutor")
+    private final TaskExecutor copyJobExecutor;
+
+    @Value("${app.copy.job.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.copy.job.stale-after:PT2M}")
+    private Duration staleAfter;
+
+    @Override
+    public CopyJobDto submit(UUID assessmentId, CopyCriteriaRequestDto request) {
+        log.info("Submitting copy job. Assessment: {}, Template: {}", assessmentId, request.getTemplateId());
+
+        // Jobs commit and resume chunk by chunk, which a single INSERT ... SELECT cannot do
+        if (request.getMode() == CopyMode.IN_DATABASE) {
+            log.warn("Rejected IN_DATABASE copy job for Assessment: {}", assessmentId);
+            throw new BusinessValidationException("IN_DATABASE copies run as one statement and cannot be submitted as a job.");
+        }
+        if (!assessmentRepository.existsById(assessmentId)) {
+            log.error("Failed to find Assessment with ID: {}", assessmentId);
+            throw new ResourceNotFoundException("Assessment not found with ID: " + assessmentId);
+        }
+        AssessmentTemplate template = templateRepository.findById(request.getTemplateId())
+                .orElseThrow(() -> new ResourceNotFoundException("Template not found with ID: " + request.getTemplateId()));
+        requirePublished(template);
+
+        CopyJob job = copyJobRepository.save(CopyJob.builder()
+                .assessmentId(assessmentId)
+                .templateId(template.getId())
+                .status(CopyJobStatus.QUEUED)
+                .request(request)
+                .totalSource((int) criterionRepository.countByTemplateId(template.getId()))
+                .build());
+
+        dispatch(job.getId());
+        return assessmentMapper.toCopyJobDto(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CopyJobDto getJob(UUID jobId) {
+        return copyJobRepository.findById(jobId)
+                .map(assessmentMapper::toCopyJobDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Copy job not found with ID: " + jobId));
+    }
+
+    /**
+     * Re-dispatches jobs whose worker stopped making progress, e.g. because the node running them was restarted.
+     */
+    @Scheduled(fixedDelayString = "${app.copy.job.resume-interval-ms:60000}",
+            initialDelayString = "${app.copy.job.resume-initial-delay-ms:10000}")
+    public void resumeStaleJobs() {
+        List<UUID> staleJobs = copyJobRepository.findStaleJobIds(ACTIVE_STATUSES, Instant.now().minus(staleAfter));
+        if (staleJobs.isEmpty()) return;
+
+        log.info("Resuming {} interrupted copy jobs", staleJobs.size());
+        staleJobs.forEach(this::dispatch);
+    }
+
+    private void dispatch(UUID jobId) {
+        try {
+            copyJobExecutor.execute(() -> runJob(jobId));
+        } catch (TaskRejectedException ex) {
+            // The job stays QUEUED in the database and is picked up by a later resume pass
+            log.warn("Copy job worker pool is saturated. Job {} will be resumed later", jobId);
+        }
+    }
+
+    private void runJob(UUID jobId) {
+        try {
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> startJob(jobId)))) {
+                return;
+            }
+
+            boolean finished = false;
+            while (!finished) {
+                finished = Boolean.TRUE.equals(transactionTemplate.execute(status -> processNextChunk(jobId)));
+            }
+            log.info("Copy job {} completed", jobId);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            log.info("Copy job {} was taken over by another worker", jobId);
+        } catch (BusinessValidationException | ResourceNotFoundException ex) {
+            log.warn("Copy job {} rejected: {}", jobId, ex.getMessage());
+            markFailed(jobId, ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Copy job {} failed", jobId, ex);
+            markFailed(jobId, "Unexpected error while copying criteria");
+        }
+    }
+
+    /**
+     * Claims the job for this worker and re-validates its source, which may have changed while the job was queued.
+     *
+     * @return false if the job is already finished or can no longer run
+     */
+    private boolean startJob(UUID jobId) {
+        CopyJob job = requireJob(jobId);
+        if (!ACTIVE_STATUSES.contains(job.getStatus())) {
+            return false;
+        }
+
+        AssessmentTemplate template = templateRepository.findById(job.getTemplateId())
+                .orElseThrow(() -> new ResourceNotFoundException("Template not found with ID: " + job.getTemplateId()));
+        requirePublished(template);
+
+        job.setStatus(CopyJobStatus.RUNNING);
+        // Always dirties the row, so the version check settles concurrent claims
+        job.setAttempts(job.getAttempts() + 1);
+        copyJobRepository.save(job);
+        log.info("Copy job {} running (attempt {}), resuming after {} processed criteria",
+                jobId, job.getAttempts(), job.getProcessed());
+        return true;
+    }
+
+    /**
+     * Copies the next chunk of criteria and records the progress in the same transaction.
+     *
+     * @return true once every criterion has been processed
+     */
+    private boolean processNextChunk(UUID jobId) {
+        CopyJob job = requireJob(jobId);
+        CopyCriteriaRequestDto request = job.getRequest();
+        UUID after = job.getLastCriterionId() != null ? job.getLastCriterionId() : FIRST_CRITERION;
+
+        List<TemplateCriterion> chunk = criterionRepository.findChunkAfter(job.getTemplateId(), after, chunkSize);
+        if (chunk.isEmpty()) {
+            job.setStatus(CopyJobStatus.COMPLETED);
+            copyJobRepository.save(job);
+            return true;
+        }
+
+        Set<String> includeSections = request.getIncludeSections() == null || request.getIncludeSections().isEmpty()
+                ? null : new HashSet<>(request.getIncludeSections());
+        List<AssessmentItem> candidates = new ArrayList<>(chunk.size());
+        for (TemplateCriterion criterion : chunk) {
+            if (includeSections == null || includeSections.contains(criterion.getSection())) {
+                candidates.add(assessmentMapper.newItemFromCriterion(criterion));
+            }
+        }
+
+        int written = itemBulkRepository.upsertItems(job.getAssessmentId(), candidates, request.isOverwriteExisting());
+        if (written > 0) {
+            eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(job.getAssessmentId())));
+        }
+
+        job.setProcessed(job.getProcessed() + chunk.size());
+        job.setFilteredOut(job.getFilteredOut() + chunk.size() - candidates.size());
+        job.setCopied(job.getCopied() + written);
+        job.setSkippedDuplicates(job.getSkippedDuplicates() + candidates.size() - written);
+        job.setLastCriterionId(chunk.get(chunk.size() - 1).getId());
+        copyJobRepository.save(job);
+
+        log.debug("Copy job {} progress: {}/{} criteria processed", jobId, job.getProcessed(), job.getTotalSource());
+        return false;
+    }
+
+    private void markFailed(UUID jobId, String error) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                CopyJob job = requireJob(jobId);
+                job.setStatus(CopyJobStatus.FAILED);
+                job.setError(error);
+                copyJobRepository.save(job);
+            });
+        } catch (RuntimeException ex) {
+            log.error("Could not mark copy job {} as failed", jobId, ex);
+        }
+    }
+
+    private CopyJob requireJob(UUID jobId) {
+        return copyJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Copy job not found with ID: " + jobId));
+    }
+
+    private void requirePublished(AssessmentTemplate template) {
+        if (template.getStatus() != TemplateStatus.PUBLISHED) {
+            log.warn("Attempted to copy from non-published template: {}. Status: {}", template.getId(), template.getStatus());
+            throw new BusinessValidationException("Cannot copy from a template that is not PUBLISHED.");
+        }
+    }
+}
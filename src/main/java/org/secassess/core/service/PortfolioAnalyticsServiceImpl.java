@@ -0,0 +1,189 @@
+package org.secassess.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.analytics.ItemColumnStore;
+import org.secassess.core.analytics.ItemColumns;
+import org.secassess.core.analytics.ItemHistogram;
+import org.secassess.core.analytics.ItemHistogramTask;
+import org.secassess.core.analytics.ItemSelection;
+import org.secassess.core.analytics.PortfolioRollup;
+import org.secassess.core.analytics.PortfolioRollupTask;
+import org.secassess.core.dto.ItemHistogramDto;
+import org.secassess.core.dto.ItemHistogramFilterDto;
+import org.secassess.core.dto.PortfolioDto;
+import org.secassess.core.exception.ResourceNotFoundException;
+import org.secassess.core.interfaces.PortfolioAnalyticsService;
+import org.secassess.core.mapper.AssessmentMapper;
+import org.secassess.core.repository.OrganizationRepository;
+import org.secassess.core.repository.PortfolioRollupRepository;
+import org.secassess.core.repository.PortfolioRollupRepository.AssessmentBuckets;
+import org.secassess.core.repository.PortfolioRollupRepository.ProjectRef;
+import org.secassess.core.repository.PortfolioRollupRepository.RefreshClaim;
+import org.secassess.core.repository.PortfolioRollupRepository.RollupRow;
+import org.secassess.core.repository.ProjectRepository;
+import org.secassess.core.scoring.ScoreCalculator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Serves portfolio analytics from persisted rollups and keeps them current with a scheduled incremental refresh.
+ * A refresh re-aggregates only the projects touched since the last watermark, fanning their assessments out over
+ * a fork/join pool, and then re-sums the affected organizations from their project rollups in SQL.
+ * A database lease makes sure only one node refreshes at a time.
+ * <p>
+ * Item histograms are answered from the node's {@link ItemColumnStore} instead, scanned in parallel segments on the
+ * same pool.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService {
+
+    private final PortfolioRollupRepository rollupRepository;
+    private final OrganizationRepository organizationRepository;
+    private final ProjectRepository projectRepository;
+    private final ScoreCalculator scoreCalculator;
+    private final AssessmentMapper assessmentMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ItemColumnStore itemColumnStore;
+
+    @Qualifier("analyticsPool")
+    private final ForkJoinPool analyticsPool;
+
+    @Value("${app.analytics.partition-size:512}")
+    private int partitionSize;
+
+    @Value("${app.item-columns.segment-size:65536}")
+    private int segmentSize;
+
+    @Value("${app.analytics.weakest-sections:5}")
+    private int weakestSections;
+
+    @Value("${app.analytics.lease:PT10M}")
+    private Duration lease;
+
+    @Value("${app.analytics.watermark-lag:PT1M}")
+    private Duration watermarkLag;
+
+    // Severity multipliers may have changed since the stored rollups were computed, so each node starts with a full pass
+    private volatile boolean fullRefreshDone;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioDto getOrganizationPortfolio(UUID organizationId) {
+        log.info("Fetching portfolio of Organization: {}", organizationId);
+
+        if (!organizationRepository.existsById(organizationId)) {
+            log.error("Failed to find Organization with ID: {}", organizationId);
+            throw new ResourceNotFoundException("Organization not found with ID: " + organizationId);
+        }
+        RollupRow rollup = rollupRepository.findOrganizationRollup(organizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Portfolio not computed yet for Organization: " + organizationId));
+
+        List<PortfolioDto> projects = rollupRepository.findProjectRollups(organizationId).stream()
+                .map(project -> assessmentMapper.toPortfolioDto(project, List.of(), null))
+                .toList();
+        return assessmentMapper.toPortfolioDto(rollup,
+                rollupRepository.findWeakestSections(organizationId, weakestSections), projects);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioDto getProjectPortfolio(Long projectId) {
+        log.info("Fetching portfolio of Project: {}", projectId);
+
+        if (!projectRepository.existsById(projectId)) {
+            log.error("Failed to find Project with ID: {}", projectId);
+            throw new ResourceNotFoundException("Project not found with ID: " + projectId);
+        }
+        RollupRow rollup = rollupRepository.findProjectRollup(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Portfolio not computed yet for Project: " + projectId));
+
+        return assessmentMapper.toPortfolioDto(rollup, rollupRepository.findWeakestSections(projectId, weakestSections), null);
+    }
+
+    @Override
+    public ItemHistogramDto getItemHistogram(ItemHistogramFilterDto filter) {
+        log.info("Computing item histogram. Filter: {}", filter);
+
+        ItemColumns columns = itemColumnStore.snapshot();
+        ItemSelection selection = ItemSelection.resolve(columns, filter.getOrganizationId(), filter.getProjectId(),
+                filter.getSections(), filter.getSeverities());
+        ItemHistogram histogram = analyticsPool.invoke(new ItemHistogramTask(columns, selection, segmentSize));
+
+        return assessmentMapper.toItemHistogramDto(columns, histogram, itemColumnStore.isLoaded());
+    }
+
+    /**
+     * Recomputes the rollups of projects changed since the watermark. The next watermark trails the database time
+     * the pass started at by the configured lag, so writes committed by transactions that began earlier are still
+     * picked up; re-aggregating a project twice is harmless.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval-ms:60000}",
+            initialDelayString = "${app.analytics.refresh-initial-delay-ms:30000}")
+    public void refresh() {
+        Optional<RefreshClaim> claim = rollupRepository.claimRefresh(lease);
+        if (claim.isEmpty()) {
+            log.debug("Portfolio refresh is running on another node");
+            return;
+        }
+
+        try {
+            Instant since = fullRefreshDone ? claim.get().watermark() : null;
+            Instant computedAt = claim.get().startedAt();
+
+            Map<UUID, List<Long>> dirtyProjects = rollupRepository.findDirtyProjects(since).stream()
+                    .collect(Collectors.groupingBy(ProjectRef::organizationId, LinkedHashMap::new,
+                            Collectors.mapping(ProjectRef::projectId, Collectors.toList())));
+            dirtyProjects.forEach((organizationId, projectIds) -> refreshOrganization(organizationId, projectIds, computedAt));
+
+            // Organizations without projects, or that only lost some, have nothing dirty left to refresh them
+            rollupRepository.findStaleOrganizations().stream()
+                    .filter(organizationId -> !dirtyProjects.containsKey(organizationId))
+                    .forEach(organizationId -> transactionTemplate.executeWithoutResult(
+                            status -> rollupRepository.saveOrganizationRollup(organizationId, computedAt)));
+
+            rollupRepository.completeRefresh(computedAt.minus(watermarkLag));
+            fullRefreshDone = true;
+            log.info("Portfolio refresh completed. Organizations: {}, Projects: {}", dirtyProjects.size(),
+                    dirtyProjects.values().stream().mapToInt(List::size).sum());
+        } catch (RuntimeException ex) {
+            // The watermark stays where it was, so the next pass retries everything this one covered
+            log.error("Portfolio refresh failed", ex);
+            rollupRepository.releaseRefresh();
+        }
+    }
+
+    private void refreshOrganization(UUID organizationId, List<Long> projectIds, Instant computedAt) {
+        List<AssessmentBuckets> assessments = rollupRepository.findBuckets(projectIds);
+        Map<Long, PortfolioRollup> rollups = new HashMap<>(
+                analyticsPool.invoke(new PortfolioRollupTask(assessments, scoreCalculator, partitionSize)));
+        projectIds.forEach(projectId -> rollups.putIfAbsent(projectId, new PortfolioRollup()));
+
+        log.debug("Rolled up {} assessments of {} projects in Organization: {}",
+                assessments.size(), projectIds.size(), organizationId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rollups.forEach((projectId, rollup) ->
+                    rollupRepository.saveProjectRollup(projectId, organizationId, rollup, computedAt));
+            rollupRepository.saveOrganizationRollup(organizationId, computedAt);
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package org.secassess.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.SearchFilterDto;
+import org.secassess.core.dto.SearchHitDto;
+import org.secassess.core.exception.BusinessValidationException;
+import org.secassess.core.exception.ResourceNotFoundException;
+import org.secassess.core.interfaces.SearchService;
+import org.secassess.core.mapper.AssessmentMapper;
+import org.secassess.core.repository.OrganizationRepository;
+import org.secassess.core.repository.SearchCursor;
+import org.secassess.core.repository.SearchRepository;
+import org.secassess.core.repository.SearchRepository.SearchHitRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Full-text search backed by the generated tsvector columns of template_criterion and assessment_item.
+ * Each page is one query: index lookups of the matching rows, ranking, and a keyset seek past the previous page.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SearchRepository searchRepository;
+    private final OrganizationRepository organizationRepository;
+    private final AssessmentMapper assessmentMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<SearchHitDto> search(SearchFilterDto filter, String cursor, int size) {
+        if (filter.getOrganizationId() == null) {
+            throw new BusinessValidationException("Organization ID is required.");
+        }
+        String query = filter.getQ() != null ? filter.getQ().strip() : "";
+        if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessValidationException("Search query must be between 1 and " + MAX_QUERY_LENGTH + " characters.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        SearchCursor position = SearchCursor.decode(cursor);
+        log.info("Searching Organization {} for '{}' after {} [Size: {}, Type: {}]",
+                filter.getOrganizationId(), query, position, size, filter.getType());
+
+        if (!organizationRepository.existsById(filter.getOrganizationId())) {
+            log.error("Failed to find Organization with ID: {}", filter.getOrganizationId());
+            throw new ResourceNotFoundException("Organization not found with ID: " + filter.getOrganizationId());
+        }
+
+        // One extra row tells whether another page follows
+        List<SearchHitRow> window = searchRepository.search(filter.getOrganizationId(), query, filter.getType(), position, size + 1);
+        boolean hasNext = window.size() > size;
+        List<SearchHitRow> content = hasNext ? window.subList(0, size) : window;
+        String nextCursor = null;
+        if (hasNext) {
+            SearchHitRow last = content.get(content.size() - 1);
+            nextCursor = new SearchCursor(last.rank(), last.id()).encode();
+        }
+
+        return assessmentMapper.toCursorPageDto(content.stream().map(assessmentMapper::toSearchHitDto).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,146 @@
+package org.secassess.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.secassess.core.cache.TemplateSnapshot;
+import org.secassess.core.cache.TemplateSnapshotCache;
+import org.secassess.core.dto.TemplateSectionDto;
+import org.secassess.core.dto.TemplateSyncDto;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.enums.TemplateSyncStatus;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.secassess.core.exception.BusinessValidationException;
+import org.secassess.core.exception.ResourceNotFoundException;
+import org.secassess.core.interfaces.TemplateService;
+import org.secassess.core.mapper.AssessmentMapper;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.repository.AssessmentTemplateRepository;
+import org.secassess.core.repository.TemplateSyncRepository;
+import org.secassess.core.repository.TemplateSyncRepository.SyncCounts;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TemplateServiceImpl implements TemplateService {
+
+    // Lowest UUID in PostgreSQL ordering, used as the keyset start of the first batch
+    private static final UUID FIRST_ASSESSMENT = new UUID(0L, 0L);
+
+    private final AssessmentTemplateRepository templateRepository;
+    private final TemplateSyncRepository syncRepository;
+    private final TemplateSnapshotCache snapshotCache;
+    private final AssessmentMapper assessmentMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Qualifier("copyJobExecutor")
+    private final TaskExecutor copyJobExecutor;
+
+    // Templates with a sync pass running on this node
+    private final Set<UUID> runningSyncs = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.template-sync.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Lists the template's sections from its snapshot dictionary; for PUBLISHED templates this is served from the cache.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TemplateSectionDto> getSections(UUID templateId) {
+        AssessmentTemplate template = requireTemplate(templateId);
+
+        TemplateSnapshot snapshot = snapshotCache.get(template);
+        return assessmentMapper.toTemplateSectionDtos(snapshot);
+    }
+
+    /**
+     * Starts a background pass that applies the template's criterion changes to every assessment lagging behind
+     * the newest change. Passes are idempotent: each batch advances its assessments' watermarks in the same transaction.
+     */
+    @Override
+    public TemplateSyncDto syncToLatest(UUID templateId) {
+        log.info("Starting sync of assessments with Template: {}", templateId);
+
+        AssessmentTemplate template = requireTemplate(templateId);
+        if (template.getStatus() != TemplateStatus.PUBLISHED) {
+            log.warn("Attempted to sync from non-published template: {}. Status: {}", templateId, template.getStatus());
+            throw new BusinessValidationException("Cannot sync from a template that is not PUBLISHED.");
+        }
+
+        Long targetChangeId = syncRepository.findLatestChangeId(templateId);
+        if (targetChangeId == null) {
+            log.info("Template {} has no recorded criterion changes", templateId);
+            return assessmentMapper.toTemplateSyncDto(template, null, TemplateSyncStatus.UP_TO_DATE);
+        }
+        if (!runningSyncs.add(templateId)) {
+            log.info("Sync of Template {} is already running", templateId);
+            return assessmentMapper.toTemplateSyncDto(template, targetChangeId, TemplateSyncStatus.ALREADY_RUNNING);
+        }
+
+        try {
+            copyJobExecutor.execute(() -> runSync(templateId, targetChangeId));
+        } catch (TaskRejectedException ex) {
+            runningSyncs.remove(templateId);
+            log.warn("Background worker pool is saturated. Sync of Template {} rejected", templateId);
+            throw new BusinessValidationException("Background workers are busy. Please retry the sync later.");
+        }
+        return assessmentMapper.toTemplateSyncDto(template, targetChangeId, TemplateSyncStatus.QUEUED);
+    }
+
+    private void runSync(UUID templateId, long targetChangeId) {
+        int assessments = 0, updated = 0, inserted = 0, deleted = 0;
+        try {
+            UUID after = FIRST_ASSESSMENT;
+            while (true) {
+                UUID cursor = after;
+                SyncBatch batch = transactionTemplate.execute(status -> {
+                    List<UUID> ids = syncRepository.findAssessmentsBehind(templateId, targetChangeId, cursor, batchSize);
+                    SyncCounts counts = syncRepository.applyDelta(templateId, ids, targetChangeId);
+                    if (counts.updated() + counts.inserted() + counts.deleted() > 0) {
+                        eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(ids));
+                    }
+                    return new SyncBatch(ids, counts);
+                });
+                if (batch == null || batch.assessmentIds().isEmpty()) break;
+
+                assessments += batch.assessmentIds().size();
+                updated += batch.counts().updated();
+                inserted += batch.counts().inserted();
+                deleted += batch.counts().deleted();
+                after = batch.assessmentIds().get(batch.assessmentIds().size() - 1);
+            }
+            log.info("Synced {} assessments with Template {} up to change {}. Updated: {}, Inserted: {}, Deleted: {}",
+                    assessments, templateId, targetChangeId, updated, inserted, deleted);
+        } catch (RuntimeException ex) {
+            // Watermarks of committed batches are kept, so the next sync resumes with the remaining assessments
+            log.error("Sync of Template {} failed after {} assessments", templateId, assessments, ex);
+        } finally {
+            runningSyncs.remove(templateId);
+        }
+    }
+
+    private AssessmentTemplate requireTemplate(UUID templateId) {
+        return templateRepository.findById(templateId)
+                .orElseThrow(() -> {
+                    log.error("Failed to find Template with ID: {}", templateId);
+                    return new ResourceNotFoundException("Template not found with ID: " + templateId);
+                });
+    }
+
+    private record SyncBatch(List<UUID> assessmentIds, SyncCounts counts) {
+    }
+}
@@ -0,0 +1,85 @@
+-- Full-text search over criterion and item text. The vectors are plain columns kept current by row triggers, so every
+-- insert or update of the text (or an item's notes) recomputes them in the same write and no application code has to
+-- maintain them. A generated column would do the same, but adding one rewrites the whole table under an ACCESS EXCLUSIVE
+-- lock; a nullable column without a default is added in place, and the existing rows are backfilled in small batches.
+-- Item text weighs more than notes ('A' over 'B'), so items whose question matches rank above those only mentioned in notes.
+--
+-- The indexes are built CONCURRENTLY, so Flyway runs this migration outside a transaction (spring.flyway.mixed) and each
+-- statement commits on its own. An interrupted index build leaves an INVALID index that must be dropped before a retry.
+ALTER TABLE template_criterion ADD COLUMN IF NOT EXISTS search_vector tsvector;
+ALTER TABLE assessment_item ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION set_template_criterion_search_vector() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := to_tsvector('english', NEW.text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION set_assessment_item_search_vector() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('english', NEW.text), 'A')
+                         || setweight(to_tsvector('english', COALESCE(NEW.notes, '')), 'B');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Created before the backfill, so rows written while it runs are covered by the trigger instead
+DROP TRIGGER IF EXISTS trg_template_criterion_search_vector ON template_criterion;
+CREATE TRIGGER trg_template_criterion_search_vector
+    BEFORE INSERT OR UPDATE OF text ON template_criterion
+    FOR EACH ROW EXECUTE FUNCTION set_template_criterion_search_vector();
+
+DROP TRIGGER IF EXISTS trg_assessment_item_search_vector ON assessment_item;
+CREATE TRIGGER trg_assessment_item_search_vector
+    BEFORE INSERT OR UPDATE OF text, notes ON assessment_item
+    FOR EACH ROW EXECUTE FUNCTION set_assessment_item_search_vector();
+
+-- Batches walk the primary key and commit one by one, so row locks are held briefly and never on the whole table.
+-- Item batches fire the statement-level item triggers like any other update: rollup deltas net to zero, and each
+-- assessment's row version is bumped once.
+DO $$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+    batch_last_id UUID;
+BEGIN
+    LOOP
+        WITH batch AS (
+            SELECT id FROM template_criterion WHERE id > last_id ORDER BY id LIMIT 5000
+        ), updated AS (
+            UPDATE template_criterion c
+            SET search_vector = to_tsvector('english', c.text)
+            FROM batch
+            WHERE c.id = batch.id AND c.search_vector IS NULL
+        )
+        SELECT id INTO batch_last_id FROM batch ORDER BY id DESC LIMIT 1;
+        EXIT WHEN batch_last_id IS NULL;
+        last_id := batch_last_id;
+        COMMIT;
+    END LOOP;
+END $$;
+
+DO $$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+    batch_last_id UUID;
+BEGIN
+    LOOP
+        WITH batch AS (
+            SELECT id FROM assessment_item WHERE id > last_id ORDER BY id LIMIT 5000
+        ), updated AS (
+            UPDATE assessment_item i
+            SET search_vector = setweight(to_tsvector('english', i.text), 'A')
+                                || setweight(to_tsvector('english', COALESCE(i.notes, '')), 'B')
+            FROM batch
+            WHERE i.id = batch.id AND i.search_vector IS NULL
+        )
+        SELECT id INTO batch_last_id FROM batch ORDER BY id DESC LIMIT 1;
+        EXIT WHEN batch_last_id IS NULL;
+        last_id := batch_last_id;
+        COMMIT;
+    END LOOP;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_template_criterion_search ON template_criterion USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assessment_item_search ON assessment_item USING GIN (search_vector);
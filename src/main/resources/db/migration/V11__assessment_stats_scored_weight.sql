@@ -0,0 +1,80 @@
+-- weighted_score_sum only covers scored items, so a weighted average must divide by the weight of the scored items,
+-- not by weight_sum (all items). Track that denominator alongside the other counters.
+ALTER TABLE assessment_stats
+    ADD COLUMN scored_weight_sum NUMERIC(14,2) NOT NULL DEFAULT 0; -- sum of weight over scored items
+
+CREATE OR REPLACE FUNCTION apply_assessment_item_stats() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO assessment_stats AS s
+            (assessment_id, total_items, scored_items, weighted_score_sum, weight_sum, scored_weight_sum, updated_at)
+        SELECT assessment_id, count(*), count(score), COALESCE(sum(score * weight), 0), sum(weight),
+               COALESCE(sum(weight) FILTER (WHERE score IS NOT NULL), 0), NOW()
+        FROM new_rows
+        GROUP BY assessment_id
+        ON CONFLICT (assessment_id) DO UPDATE
+        SET total_items = s.total_items + EXCLUDED.total_items,
+            scored_items = s.scored_items + EXCLUDED.scored_items,
+            weighted_score_sum = s.weighted_score_sum + EXCLUDED.weighted_score_sum,
+            weight_sum = s.weight_sum + EXCLUDED.weight_sum,
+            scored_weight_sum = s.scored_weight_sum + EXCLUDED.scored_weight_sum,
+            updated_at = EXCLUDED.updated_at;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE assessment_stats s
+        SET total_items = s.total_items - d.total_items,
+            scored_items = s.scored_items - d.scored_items,
+            weighted_score_sum = s.weighted_score_sum - d.weighted_score_sum,
+            weight_sum = s.weight_sum - d.weight_sum,
+            scored_weight_sum = s.scored_weight_sum - d.scored_weight_sum,
+            updated_at = NOW()
+        FROM (
+            SELECT assessment_id, count(*) AS total_items, count(score) AS scored_items,
+                   COALESCE(sum(score * weight), 0) AS weighted_score_sum, sum(weight) AS weight_sum,
+                   COALESCE(sum(weight) FILTER (WHERE score IS NOT NULL), 0) AS scored_weight_sum
+            FROM old_rows
+            GROUP BY assessment_id
+        ) d
+        WHERE s.assessment_id = d.assessment_id;
+
+    ELSE
+        -- Net change per assessment; rows whose counted columns did not change produce no stats write
+        INSERT INTO assessment_stats AS s
+            (assessment_id, total_items, scored_items, weighted_score_sum, weight_sum, scored_weight_sum, updated_at)
+        SELECT assessment_id, sum(total_items), sum(scored_items), sum(weighted_score_sum), sum(weight_sum),
+               sum(scored_weight_sum), NOW()
+        FROM (
+            SELECT assessment_id, 1 AS total_items, CASE WHEN score IS NULL THEN 0 ELSE 1 END AS scored_items,
+                   COALESCE(score * weight, 0) AS weighted_score_sum, weight AS weight_sum,
+                   CASE WHEN score IS NULL THEN 0 ELSE weight END AS scored_weight_sum
+            FROM new_rows
+            UNION ALL
+            SELECT assessment_id, -1, CASE WHEN score IS NULL THEN 0 ELSE -1 END,
+                   -COALESCE(score * weight, 0), -weight, CASE WHEN score IS NULL THEN 0 ELSE -weight END
+            FROM old_rows
+        ) d
+        GROUP BY assessment_id
+        HAVING sum(total_items) <> 0 OR sum(scored_items) <> 0
+            OR sum(weighted_score_sum) <> 0 OR sum(weight_sum) <> 0 OR sum(scored_weight_sum) <> 0
+        ON CONFLICT (assessment_id) DO UPDATE
+        SET total_items = s.total_items + EXCLUDED.total_items,
+            scored_items = s.scored_items + EXCLUDED.scored_items,
+            weighted_score_sum = s.weighted_score_sum + EXCLUDED.weighted_score_sum,
+            weight_sum = s.weight_sum + EXCLUDED.weight_sum,
+            scored_weight_sum = s.scored_weight_sum + EXCLUDED.scored_weight_sum,
+            updated_at = EXCLUDED.updated_at;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill
+UPDATE assessment_stats s
+SET scored_weight_sum = d.scored_weight_sum
+FROM (
+    SELECT assessment_id, sum(weight) AS scored_weight_sum
+    FROM assessment_item
+    WHERE score IS NOT NULL
+    GROUP BY assessment_id
+) d
+WHERE s.assessment_id = d.assessment_id;
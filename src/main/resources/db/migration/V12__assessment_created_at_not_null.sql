@@ -0,0 +1,5 @@
+-- Keyset pagination seeks on (created_at, id), and a NULL created_at compares as unknown, so such rows would be skipped
+-- by every page after the first. Rows inserted without the column default are backfilled from their last update.
+UPDATE assessment SET created_at = COALESCE(updated_at, NOW()) WHERE created_at IS NULL;
+
+ALTER TABLE assessment ALTER COLUMN created_at SET NOT NULL;
@@ -0,0 +1,4 @@
+-- Each template criterion can appear at most once per assessment.
+-- Backs the INSERT ... ON CONFLICT (assessment_id, criterion_ref) upserts of the copy engine.
+CREATE UNIQUE INDEX uk_assessment_item_assessment_criterion
+    ON assessment_item(assessment_id, criterion_ref);
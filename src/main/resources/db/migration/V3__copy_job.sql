@@ -0,0 +1,23 @@
+-- Asynchronous criteria copy jobs.
+-- Progress is committed together with each chunk of copied items, so a job can resume from last_criterion_id.
+CREATE TABLE copy_job (
+    id UUID PRIMARY KEY,
+    assessment_id UUID NOT NULL REFERENCES assessment(id) ON DELETE CASCADE,
+    template_id UUID NOT NULL REFERENCES assessment_template(id) ON DELETE CASCADE,
+    status VARCHAR(16) NOT NULL, -- QUEUED, RUNNING, COMPLETED, FAILED
+    request JSONB NOT NULL,
+    total_source INTEGER NOT NULL DEFAULT 0,
+    processed INTEGER NOT NULL DEFAULT 0,
+    copied INTEGER NOT NULL DEFAULT 0,
+    skipped_duplicates INTEGER NOT NULL DEFAULT 0,
+    filtered_out INTEGER NOT NULL DEFAULT 0,
+    last_criterion_id UUID,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
+);
+
+-- Index for finding interrupted jobs to resume
+CREATE INDEX idx_copy_job_status_updated ON copy_job(status, updated_at);
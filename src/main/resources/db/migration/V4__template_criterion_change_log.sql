@@ -0,0 +1,59 @@
+-- Per-template change log of criteria, written by a trigger so every write path (JPA, JDBC, manual SQL) is captured.
+-- Rows are ordered by id, which serves as the sync watermark.
+CREATE TABLE template_criterion_change (
+    id BIGSERIAL PRIMARY KEY,
+    template_id UUID NOT NULL,
+    criterion_id UUID NOT NULL,
+    change_type VARCHAR(8) NOT NULL, -- ADDED, MODIFIED, REMOVED
+    template_version VARCHAR(32),
+    changed_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
+);
+
+-- Index for reading a template's changes after a watermark
+CREATE INDEX idx_criterion_change_template ON template_criterion_change(template_id, id);
+
+CREATE FUNCTION log_template_criterion_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO template_criterion_change (template_id, criterion_id, change_type, template_version)
+        VALUES (NEW.template_id, NEW.id, 'ADDED',
+                (SELECT version FROM assessment_template WHERE id = NEW.template_id));
+        RETURN NEW;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO template_criterion_change (template_id, criterion_id, change_type, template_version)
+        VALUES (OLD.template_id, OLD.id, 'REMOVED',
+                (SELECT version FROM assessment_template WHERE id = OLD.template_id));
+        RETURN OLD;
+    END IF;
+
+    IF NEW.template_id IS DISTINCT FROM OLD.template_id THEN
+        -- A criterion moved between templates is a removal from one and an addition to the other
+        INSERT INTO template_criterion_change (template_id, criterion_id, change_type, template_version)
+        VALUES (OLD.template_id, OLD.id, 'REMOVED',
+                (SELECT version FROM assessment_template WHERE id = OLD.template_id)),
+               (NEW.template_id, NEW.id, 'ADDED',
+                (SELECT version FROM assessment_template WHERE id = NEW.template_id));
+    ELSIF (NEW.section, NEW.text, NEW.severity, NEW.weight) IS DISTINCT FROM (OLD.section, OLD.text, OLD.severity, OLD.weight) THEN
+        INSERT INTO template_criterion_change (template_id, criterion_id, change_type, template_version)
+        VALUES (NEW.template_id, NEW.id, 'MODIFIED',
+                (SELECT version FROM assessment_template WHERE id = NEW.template_id));
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_template_criterion_change
+    AFTER INSERT OR UPDATE OR DELETE ON template_criterion
+    FOR EACH ROW EXECUTE FUNCTION log_template_criterion_change();
+
+-- How far each assessment has been synced with each template's change log
+CREATE TABLE assessment_template_sync (
+    assessment_id UUID NOT NULL REFERENCES assessment(id) ON DELETE CASCADE,
+    template_id UUID NOT NULL REFERENCES assessment_template(id) ON DELETE CASCADE,
+    last_change_id BIGINT NOT NULL,
+    synced_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    PRIMARY KEY (assessment_id, template_id)
+);
+
+-- Index for finding the assessments that reference a template's criteria
+CREATE INDEX idx_assessment_item_criterion_ref ON assessment_item(criterion_ref);
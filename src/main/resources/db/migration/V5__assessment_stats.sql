@@ -0,0 +1,89 @@
+-- Per-assessment item aggregates, maintained incrementally by statement-level triggers on assessment_item.
+-- Every write path (JPA, bulk upserts, INSERT ... SELECT copies, template sync) is covered, and a multi-row
+-- statement touches each affected stats row once.
+CREATE TABLE assessment_stats (
+    assessment_id UUID PRIMARY KEY REFERENCES assessment(id) ON DELETE CASCADE,
+    total_items INTEGER NOT NULL DEFAULT 0,
+    scored_items INTEGER NOT NULL DEFAULT 0,
+    weighted_score_sum NUMERIC(14,2) NOT NULL DEFAULT 0, -- sum of score * weight over scored items
+    weight_sum NUMERIC(14,2) NOT NULL DEFAULT 0,         -- sum of weight over all items
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
+);
+
+CREATE FUNCTION apply_assessment_item_stats() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO assessment_stats AS s (assessment_id, total_items, scored_items, weighted_score_sum, weight_sum, updated_at)
+        SELECT assessment_id, count(*), count(score), COALESCE(sum(score * weight), 0), sum(weight), NOW()
+        FROM new_rows
+        GROUP BY assessment_id
+        ON CONFLICT (assessment_id) DO UPDATE
+        SET total_items = s.total_items + EXCLUDED.total_items,
+            scored_items = s.scored_items + EXCLUDED.scored_items,
+            weighted_score_sum = s.weighted_score_sum + EXCLUDED.weighted_score_sum,
+            weight_sum = s.weight_sum + EXCLUDED.weight_sum,
+            updated_at = EXCLUDED.updated_at;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE assessment_stats s
+        SET total_items = s.total_items - d.total_items,
+            scored_items = s.scored_items - d.scored_items,
+            weighted_score_sum = s.weighted_score_sum - d.weighted_score_sum,
+            weight_sum = s.weight_sum - d.weight_sum,
+            updated_at = NOW()
+        FROM (
+            SELECT assessment_id, count(*) AS total_items, count(score) AS scored_items,
+                   COALESCE(sum(score * weight), 0) AS weighted_score_sum, sum(weight) AS weight_sum
+            FROM old_rows
+            GROUP BY assessment_id
+        ) d
+        WHERE s.assessment_id = d.assessment_id;
+
+    ELSE
+        -- Net change per assessment; rows whose counted columns did not change produce no stats write
+        INSERT INTO assessment_stats AS s (assessment_id, total_items, scored_items, weighted_score_sum, weight_sum, updated_at)
+        SELECT assessment_id, sum(total_items), sum(scored_items), sum(weighted_score_sum), sum(weight_sum), NOW()
+        FROM (
+            SELECT assessment_id, 1 AS total_items, CASE WHEN score IS NULL THEN 0 ELSE 1 END AS scored_items,
+                   COALESCE(score * weight, 0) AS weighted_score_sum, weight AS weight_sum
+            FROM new_rows
+            UNION ALL
+            SELECT assessment_id, -1, CASE WHEN score IS NULL THEN 0 ELSE -1 END,
+                   -COALESCE(score * weight, 0), -weight
+            FROM old_rows
+        ) d
+        GROUP BY assessment_id
+        HAVING sum(total_items) <> 0 OR sum(scored_items) <> 0
+            OR sum(weighted_score_sum) <> 0 OR sum(weight_sum) <> 0
+        ON CONFLICT (assessment_id) DO UPDATE
+        SET total_items = s.total_items + EXCLUDED.total_items,
+            scored_items = s.scored_items + EXCLUDED.scored_items,
+            weighted_score_sum = s.weighted_score_sum + EXCLUDED.weighted_score_sum,
+            weight_sum = s.weight_sum + EXCLUDED.weight_sum,
+            updated_at = EXCLUDED.updated_at;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_assessment_item_stats_insert
+    AFTER INSERT ON assessment_item
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_assessment_item_stats();
+
+CREATE TRIGGER trg_assessment_item_stats_update
+    AFTER UPDATE ON assessment_item
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_assessment_item_stats();
+
+CREATE TRIGGER trg_assessment_item_stats_delete
+    AFTER DELETE ON assessment_item
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_assessment_item_stats();
+
+-- Backfill existing assessments, including those without items
+INSERT INTO assessment_stats (assessment_id, total_items, scored_items, weighted_score_sum, weight_sum)
+SELECT a.id, count(i.id), count(i.score), COALESCE(sum(i.score * i.weight), 0), COALESCE(sum(i.weight), 0)
+FROM assessment a
+LEFT JOIN assessment_item i ON i.assessment_id = a.id
+GROUP BY a.id;
@@ -0,0 +1,4 @@
+-- Keyset (seek) pagination of assessments orders by (created_at, id).
+-- The project variant serves the same scroll filtered by project without a sort step.
+CREATE INDEX idx_assessment_created_id ON assessment(created_at, id);
+CREATE INDEX idx_assessment_project_created_id ON assessment(project_id, created_at, id);
@@ -0,0 +1,54 @@
+-- Monotonic per-assessment version used for ETags. It is bumped on every change to the assessment row or to its items.
+-- Values come from a sequence, so concurrent writers never contend on a shared counter row.
+CREATE SEQUENCE assessment_version_seq;
+
+ALTER TABLE assessment ADD COLUMN row_version BIGINT;
+UPDATE assessment SET row_version = nextval('assessment_version_seq');
+ALTER TABLE assessment ALTER COLUMN row_version SET DEFAULT nextval('assessment_version_seq');
+ALTER TABLE assessment ALTER COLUMN row_version SET NOT NULL;
+
+CREATE FUNCTION bump_assessment_row_version() RETURNS trigger AS $$
+BEGIN
+    NEW.row_version := nextval('assessment_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Updates that already set a new version (the item triggers below) are left alone
+CREATE TRIGGER trg_assessment_row_version
+    BEFORE UPDATE ON assessment
+    FOR EACH ROW
+    WHEN (NEW.row_version IS NOT DISTINCT FROM OLD.row_version)
+    EXECUTE FUNCTION bump_assessment_row_version();
+
+-- One UPDATE per statement, touching each affected assessment once
+CREATE FUNCTION bump_assessment_version_from_items() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE assessment SET row_version = nextval('assessment_version_seq')
+        WHERE id IN (SELECT assessment_id FROM new_rows);
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE assessment SET row_version = nextval('assessment_version_seq')
+        WHERE id IN (SELECT assessment_id FROM old_rows);
+    ELSE
+        UPDATE assessment SET row_version = nextval('assessment_version_seq')
+        WHERE id IN (SELECT assessment_id FROM new_rows UNION SELECT assessment_id FROM old_rows);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_assessment_item_version_insert
+    AFTER INSERT ON assessment_item
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_assessment_version_from_items();
+
+CREATE TRIGGER trg_assessment_item_version_update
+    AFTER UPDATE ON assessment_item
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_assessment_version_from_items();
+
+CREATE TRIGGER trg_assessment_item_version_delete
+    AFTER DELETE ON assessment_item
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_assessment_version_from_items();
@@ -0,0 +1,110 @@
+-- Per-assessment item aggregates split by (section, severity), maintained incrementally by statement-level triggers
+-- on assessment_item. An assessment has one row per section and severity in use, however many items it holds, so any
+-- weighted score over it is computed from a handful of rows. Severity multipliers are applied when reading.
+CREATE TABLE assessment_score_bucket (
+    assessment_id UUID NOT NULL REFERENCES assessment(id) ON DELETE CASCADE,
+    section VARCHAR(80) NOT NULL,
+    severity VARCHAR(8) NOT NULL,
+    total_items INTEGER NOT NULL DEFAULT 0,
+    scored_items INTEGER NOT NULL DEFAULT 0,
+    scored_weight_sum NUMERIC(14,2) NOT NULL DEFAULT 0,  -- sum of weight over scored items
+    weighted_score_sum NUMERIC(14,2) NOT NULL DEFAULT 0, -- sum of score * weight over scored items
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(), -- last trigger write to the bucket
+    PRIMARY KEY (assessment_id, section, severity)
+);
+
+CREATE FUNCTION apply_assessment_item_score_buckets() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO assessment_score_bucket AS b
+            (assessment_id, section, severity, total_items, scored_items, scored_weight_sum, weighted_score_sum, updated_at)
+        SELECT assessment_id, section, severity, count(*), count(score),
+               COALESCE(sum(weight) FILTER (WHERE score IS NOT NULL), 0), COALESCE(sum(score * weight), 0), NOW()
+        FROM new_rows
+        GROUP BY assessment_id, section, severity
+        ON CONFLICT (assessment_id, section, severity) DO UPDATE
+        SET total_items = b.total_items + EXCLUDED.total_items,
+            scored_items = b.scored_items + EXCLUDED.scored_items,
+            scored_weight_sum = b.scored_weight_sum + EXCLUDED.scored_weight_sum,
+            weighted_score_sum = b.weighted_score_sum + EXCLUDED.weighted_score_sum,
+            updated_at = EXCLUDED.updated_at;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE assessment_score_bucket b
+        SET total_items = b.total_items - d.total_items,
+            scored_items = b.scored_items - d.scored_items,
+            scored_weight_sum = b.scored_weight_sum - d.scored_weight_sum,
+            weighted_score_sum = b.weighted_score_sum - d.weighted_score_sum,
+            updated_at = NOW()
+        FROM (
+            SELECT assessment_id, section, severity, count(*) AS total_items, count(score) AS scored_items,
+                   COALESCE(sum(weight) FILTER (WHERE score IS NOT NULL), 0) AS scored_weight_sum,
+                   COALESCE(sum(score * weight), 0) AS weighted_score_sum
+            FROM old_rows
+            GROUP BY assessment_id, section, severity
+        ) d
+        WHERE b.assessment_id = d.assessment_id AND b.section = d.section AND b.severity = d.severity;
+
+    ELSE
+        -- Net change per bucket; an item moved to another section or severity leaves one bucket and enters another,
+        -- and rows whose counted columns did not change produce no bucket write
+        INSERT INTO assessment_score_bucket AS b
+            (assessment_id, section, severity, total_items, scored_items, scored_weight_sum, weighted_score_sum, updated_at)
+        SELECT assessment_id, section, severity,
+               sum(total_items), sum(scored_items), sum(scored_weight_sum), sum(weighted_score_sum), NOW()
+        FROM (
+            SELECT assessment_id, section, severity, 1 AS total_items,
+                   CASE WHEN score IS NULL THEN 0 ELSE 1 END AS scored_items,
+                   CASE WHEN score IS NULL THEN 0 ELSE weight END AS scored_weight_sum,
+                   COALESCE(score * weight, 0) AS weighted_score_sum
+            FROM new_rows
+            UNION ALL
+            SELECT assessment_id, section, severity, -1,
+                   CASE WHEN score IS NULL THEN 0 ELSE -1 END,
+                   CASE WHEN score IS NULL THEN 0 ELSE -weight END,
+                   -COALESCE(score * weight, 0)
+            FROM old_rows
+        ) d
+        GROUP BY assessment_id, section, severity
+        HAVING sum(total_items) <> 0 OR sum(scored_items) <> 0
+            OR sum(scored_weight_sum) <> 0 OR sum(weighted_score_sum) <> 0
+        ON CONFLICT (assessment_id, section, severity) DO UPDATE
+        SET total_items = b.total_items + EXCLUDED.total_items,
+            scored_items = b.scored_items + EXCLUDED.scored_items,
+            scored_weight_sum = b.scored_weight_sum + EXCLUDED.scored_weight_sum,
+            weighted_score_sum = b.weighted_score_sum + EXCLUDED.weighted_score_sum,
+            updated_at = EXCLUDED.updated_at;
+    END IF;
+
+    -- Buckets emptied by a delete, or by moving their last items elsewhere, are dropped
+    IF TG_OP <> 'INSERT' THEN
+        DELETE FROM assessment_score_bucket b
+        WHERE b.total_items = 0
+          AND b.assessment_id IN (SELECT assessment_id FROM old_rows);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_assessment_item_score_bucket_insert
+    AFTER INSERT ON assessment_item
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_assessment_item_score_buckets();
+
+CREATE TRIGGER trg_assessment_item_score_bucket_update
+    AFTER UPDATE ON assessment_item
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_assessment_item_score_buckets();
+
+CREATE TRIGGER trg_assessment_item_score_bucket_delete
+    AFTER DELETE ON assessment_item
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_assessment_item_score_buckets();
+
+-- Backfill existing items
+INSERT INTO assessment_score_bucket
+    (assessment_id, section, severity, total_items, scored_items, scored_weight_sum, weighted_score_sum)
+SELECT assessment_id, section, severity, count(*), count(score),
+       COALESCE(sum(weight) FILTER (WHERE score IS NOT NULL), 0), COALESCE(sum(score * weight), 0)
+FROM assessment_item
+GROUP BY assessment_id, section, severity;
@@ -0,0 +1,58 @@
+-- Portfolio rollups per project and organization, recomputed by the scheduled analytics refresh.
+-- Score sums are weighted by item weight and severity multiplier; score_histogram counts assessments per 10-point band.
+CREATE TABLE project_rollup (
+    project_id BIGINT PRIMARY KEY REFERENCES project(id) ON DELETE CASCADE,
+    organization_id UUID NOT NULL REFERENCES organization(id) ON DELETE CASCADE,
+    assessments INTEGER NOT NULL,
+    scored_assessments INTEGER NOT NULL,
+    total_items INTEGER NOT NULL,
+    scored_items INTEGER NOT NULL,
+    unscored_high_items INTEGER NOT NULL,
+    weighted_score_sum NUMERIC(20,4) NOT NULL,
+    weight_sum NUMERIC(20,4) NOT NULL,
+    score_histogram INTEGER[] NOT NULL,
+    computed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_project_rollup_org ON project_rollup(organization_id);
+
+CREATE TABLE project_section_rollup (
+    project_id BIGINT NOT NULL REFERENCES project_rollup(project_id) ON DELETE CASCADE,
+    section VARCHAR(80) NOT NULL,
+    total_items INTEGER NOT NULL,
+    scored_items INTEGER NOT NULL,
+    weighted_score_sum NUMERIC(20,4) NOT NULL,
+    weight_sum NUMERIC(20,4) NOT NULL,
+    PRIMARY KEY (project_id, section)
+);
+
+CREATE TABLE organization_rollup (
+    organization_id UUID PRIMARY KEY REFERENCES organization(id) ON DELETE CASCADE,
+    projects INTEGER NOT NULL,
+    assessments INTEGER NOT NULL,
+    scored_assessments INTEGER NOT NULL,
+    total_items INTEGER NOT NULL,
+    scored_items INTEGER NOT NULL,
+    unscored_high_items INTEGER NOT NULL,
+    weighted_score_sum NUMERIC(20,4) NOT NULL,
+    weight_sum NUMERIC(20,4) NOT NULL,
+    score_histogram INTEGER[] NOT NULL,
+    computed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Refresh bookkeeping: changes after the watermark are picked up by the next run, and the lease keeps
+-- concurrent nodes from running the same refresh
+CREATE TABLE portfolio_refresh (
+    name VARCHAR(32) PRIMARY KEY,
+    watermark TIMESTAMP WITH TIME ZONE,
+    lease_until TIMESTAMP WITH TIME ZONE
+);
+
+INSERT INTO portfolio_refresh (name) VALUES ('portfolio');
+
+-- Range scans for the watermark. Score buckets are stamped on every write that changes a rollup, including item moves
+-- between sections and severities that leave assessment_stats untouched; stats catch item deletes, which can drop a
+-- bucket row altogether
+CREATE INDEX idx_assessment_updated_at ON assessment(updated_at);
+CREATE INDEX idx_assessment_stats_updated_at ON assessment_stats(updated_at);
+CREATE INDEX idx_assessment_score_bucket_updated_at ON assessment_score_bucket(updated_at);
@@ -1,18 +1,25 @@
 package org.secassess.core.integration;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.secassess.core.interfaces.AssessmentService;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.secassess.core.repository.AssessmentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
-import org.springframework.data.domain.Pageable; // <--- ΑΥΤΟ ΕΛΕΙΠΕ
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,8 +35,19 @@ public class AssessmentCacheTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private AssessmentListCache listCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @SpyBean
-    private AssessmentService assessmentService;
+    private AssessmentRepository assessmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        listCache.clear();
+    }
 
     @Test
     @DisplayName("Verify that second call to findAll is served from Cache")
@@ -40,27 +58,44 @@ public class AssessmentCacheTest {
         log.info("STEP 1: Executing first call (Expected: CACHE MISS)");
         log.info("==========================================================");
 
-        mockMvc.perform(get("/api/v1/assessments")
-                        .param("page", "0")
-                        .param("size", "10"))
-                .andExpect(status().isOk());
+        fetchPage(10);
 
         log.info("==========================================================");
         log.info("STEP 2: Executing second call (Expected: CACHE HIT)");
         log.info("==========================================================");
 
-        mockMvc.perform(get("/api/v1/assessments")
-                        .param("page", "0")
-                        .param("size", "10"))
-                .andExpect(status().isOk());
+        fetchPage(10);
 
         log.info("==========================================================");
-        log.info("STEP 3: Verifying that Service was invoked only ONCE");
+        log.info("STEP 3: Verifying that the database was queried only ONCE");
         log.info("==========================================================");
 
-        verify(assessmentService, times(1)).findAll(any(Pageable.class));
+        verify(assessmentRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
 
         log.info("SUCCESS: Cache logic is working perfectly!");
         log.info("==========================================================");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Verify that page size is part of the key and that a committed write evicts affected pages")
+    @WithMockUser(roles = "VIEWER")
+    public void testFindAllKeyAndInvalidation() throws Exception {
+
+        log.info("STEP 1: Same page number with a different size must not share an entry");
+        fetchPage(10);
+        fetchPage(5);
+        verify(assessmentRepository, times(2)).findAll(any(Specification.class), any(Pageable.class));
+
+        log.info("STEP 2: A change to the sort field evicts the pages sorted by it");
+        eventPublisher.publishEvent(AssessmentsChangedEvent.fieldsChanged(List.of(), "createdAt"));
+        fetchPage(10);
+        verify(assessmentRepository, times(3)).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    private void fetchPage(int size) throws Exception {
+        mockMvc.perform(get("/api/v1/assessments")
+                        .param("page", "0")
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk());
+    }
+}
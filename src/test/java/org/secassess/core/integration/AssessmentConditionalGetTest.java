@@ -0,0 +1,110 @@
+package org.secassess.core.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.cache.type=simple")
+@AutoConfigureMockMvc
+class AssessmentConditionalGetTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AssessmentConditionalGetTest.class);
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private AssessmentListCache listCache;
+
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    private Assessment assessment;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        Organization org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("ETag Org").slug("etag-org").build());
+        Project prj = projectRepository.saveAndFlush(Project.builder()
+                .name("ETag Project").code("ET01").organization(org).build());
+        assessment = assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(prj.getId()).title("Polled Assessment").status(AssessmentStatus.OPEN).build());
+    }
+
+    @Test
+    @DisplayName("Verify that the detail ETag answers 304 until an item of the assessment changes")
+    @WithMockUser(roles = "VIEWER")
+    void detail_ShouldRevalidateAgainstVersion() throws Exception {
+        UUID id = assessment.getId();
+
+        log.info("STEP 1: First fetch returns the body and a weak ETag");
+        String eTag = mockMvc.perform(get("/api/v1/assessments/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/\"");
+
+        log.info("STEP 2: Revalidation with the same ETag is answered with an empty 304");
+        mockMvc.perform(get("/api/v1/assessments/" + id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        log.info("STEP 3: Adding an item bumps the version, so the next revalidation gets the new body");
+        itemRepository.saveAndFlush(AssessmentItem.builder()
+                .assessment(assessment).section("Auth").text("MFA enabled")
+                .severity(Severity.HIGH).weight(BigDecimal.ONE).build());
+
+        String newETag = mockMvc.perform(get("/api/v1/assessments/" + id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Verify that an unchanged list page is answered with 304")
+    @WithMockUser(roles = "VIEWER")
+    void list_ShouldRevalidatePage() throws Exception {
+        log.info("STEP 1: First fetch returns the page and its ETag");
+        String eTag = mockMvc.perform(get("/api/v1/assessments").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        log.info("STEP 2: Polling with If-None-Match gets an empty 304");
+        mockMvc.perform(get("/api/v1/assessments").param("page", "0").param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
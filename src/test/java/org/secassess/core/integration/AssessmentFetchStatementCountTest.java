@@ -0,0 +1,104 @@
+package org.secassess.core.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.interfaces.AssessmentService;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=simple",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AssessmentFetchStatementCountTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AssessmentFetchStatementCountTest.class);
+    private static final int ASSESSMENTS = 30;
+    private static final int ITEMS_PER_ASSESSMENT = 3;
+
+    @Autowired private AssessmentService assessmentService;
+    @Autowired private AssessmentListCache listCache;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        Organization org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Fetch Org").slug("fetch-org").build());
+        Project prj = projectRepository.saveAndFlush(Project.builder()
+                .name("Fetch Project").code("FP01").organization(org).build());
+
+        for (int i = 0; i < ASSESSMENTS; i++) {
+            Assessment assessment = assessmentRepository.saveAndFlush(Assessment.builder()
+                    .projectId(prj.getId()).title("Assessment " + i).status(AssessmentStatus.OPEN).build());
+            for (int j = 0; j < ITEMS_PER_ASSESSMENT; j++) {
+                itemRepository.save(AssessmentItem.builder()
+                        .assessment(assessment).section("S" + j).text("Criterion " + j)
+                        .severity(Severity.MEDIUM).weight(BigDecimal.ONE).build());
+            }
+        }
+        itemRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Verify that mapping a page with items costs the same statements at any page size")
+    void findAll_StatementCountIsIndependentOfPageSize() {
+        log.info("STEP 1: Fetching a page of 5 assessments with items");
+        long smallPage = countStatements(5);
+
+        log.info("STEP 2: Fetching a page of 30 assessments with items");
+        long largePage = countStatements(ASSESSMENTS);
+
+        log.info("STEP 3: Asserting constant statement count ({} vs {})", smallPage, largePage);
+        assertThat(largePage).isEqualTo(smallPage);
+        // Page query, count query and one joined item fetch
+        assertThat(largePage).isLessThanOrEqualTo(3);
+    }
+
+    private long countStatements(int pageSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        listCache.clear();
+        statistics.clear();
+
+        Page<AssessmentDto> page = assessmentService.findAll(new AssessmentFilterDto(),
+                PageRequest.of(0, pageSize, Sort.by("createdAt")));
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getItems()).hasSize(ITEMS_PER_ASSESSMENT));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,137 @@
+package org.secassess.core.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.dto.AssessmentScoreDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.interfaces.AssessmentScoreService;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.secassess.core.scoring.ScoreCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.cache.type=simple")
+class AssessmentScoreBucketTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AssessmentScoreBucketTest.class);
+
+    @Autowired private AssessmentScoreService scoreService;
+    @Autowired private ScoreCalculator scoreCalculator;
+    @Autowired private AssessmentListCache listCache;
+
+    @Autowired private AssessmentStatsRepository statsRepository;
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    private Assessment assessment;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        Organization org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Score Org").slug("score-org").build());
+        Project prj = projectRepository.saveAndFlush(Project.builder()
+                .name("Score Project").code("SC01").organization(org).build());
+        assessment = assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(prj.getId()).title("Scored Assessment").status(AssessmentStatus.OPEN).build());
+    }
+
+    @Test
+    @DisplayName("Verify that the maintained buckets score like a recomputation over every item write")
+    void score_ShouldMatchRecomputationAfterEachWrite() {
+        log.info("STEP 1: Inserting items across two sections and all severities");
+        List<AssessmentItem> items = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            items.add(AssessmentItem.builder()
+                    .assessment(assessment).section(i % 2 == 0 ? "Auth" : "Logging").text("Criterion " + i)
+                    .severity(Severity.values()[i % 3]).weight(new BigDecimal(i % 4 == 0 ? "0.50" : "1.00"))
+                    .score(i % 3 == 0 ? null : 10 * i).build());
+        }
+        items = itemRepository.saveAllAndFlush(items);
+        assertMatchesRecomputation();
+
+        log.info("STEP 2: Scoring an unscored item and rescoring a scored one");
+        items.get(0).setScore(90);
+        items.get(1).setScore(5);
+        itemRepository.saveAllAndFlush(List.of(items.get(0), items.get(1)));
+        assertMatchesRecomputation();
+
+        log.info("STEP 3: Moving an item to a new section and severity");
+        items.get(2).setSection("Network");
+        items.get(2).setSeverity(Severity.HIGH);
+        itemRepository.saveAndFlush(items.get(2));
+        assertMatchesRecomputation();
+
+        log.info("STEP 4: Deleting the only item of a section drops its bucket");
+        itemRepository.delete(items.get(2));
+        itemRepository.flush();
+        AssessmentScoreDto score = assertMatchesRecomputation();
+        assertThat(score.getSections()).extracting("key").containsExactly("Auth", "Logging");
+    }
+
+    private AssessmentScoreDto assertMatchesRecomputation() {
+        List<AssessmentItem> items = itemRepository.findAll();
+        AssessmentScoreDto expected = scoreCalculator.score(assessment.getId(), recomputeBuckets(items));
+        AssessmentScoreDto actual = scoreService.getScore(assessment.getId());
+
+        log.info("Maintained score {} vs recomputed {}", actual.getWeightedScore(), expected.getWeightedScore());
+        assertThat(actual).isEqualTo(expected);
+
+        // The stats row averages over the same scored weight, so progress and summaries agree with the buckets
+        BigDecimal scoredWeightSum = items.stream().filter(item -> item.getScore() != null)
+                .map(AssessmentItem::getWeight).reduce(BigDecimal.ZERO, BigDecimal::add);
+        AssessmentStats stats = statsRepository.findById(assessment.getId()).orElseThrow();
+        assertThat(stats.getScoredWeightSum()).isEqualByComparingTo(scoredWeightSum);
+        return actual;
+    }
+
+    private static List<ScoreBucket> recomputeBuckets(List<AssessmentItem> items) {
+        Map<String, List<AssessmentItem>> byBucket = new LinkedHashMap<>();
+        for (AssessmentItem item : items) {
+            byBucket.computeIfAbsent(item.getSection() + "|" + item.getSeverity(), k -> new ArrayList<>()).add(item);
+        }
+
+        List<ScoreBucket> buckets = new ArrayList<>();
+        for (List<AssessmentItem> bucketItems : byBucket.values()) {
+            int scored = 0;
+            BigDecimal scoredWeightSum = BigDecimal.ZERO;
+            BigDecimal weightedScoreSum = BigDecimal.ZERO;
+            for (AssessmentItem item : bucketItems) {
+                if (item.getScore() == null) continue;
+                scored++;
+                scoredWeightSum = scoredWeightSum.add(item.getWeight());
+                weightedScoreSum = weightedScoreSum.add(item.getWeight().multiply(BigDecimal.valueOf(item.getScore())));
+            }
+            AssessmentItem first = bucketItems.get(0);
+            buckets.add(new ScoreBucket(first.getSection(), first.getSeverity(), bucketItems.size(), scored,
+                    scoredWeightSum, weightedScoreSum));
+        }
+        return buckets;
+    }
+}
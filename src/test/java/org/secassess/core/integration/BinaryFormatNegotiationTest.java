@@ -0,0 +1,108 @@
+package org.secassess.core.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.config.BinaryFormatConfig;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.cache.type=simple")
+@AutoConfigureMockMvc
+class BinaryFormatNegotiationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryFormatNegotiationTest.class);
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private AssessmentListCache listCache;
+
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    private Assessment assessment;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        Organization org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Binary Org").slug("binary-org").build());
+        Project prj = projectRepository.saveAndFlush(Project.builder()
+                .name("Binary Project").code("BF01").organization(org).build());
+        assessment = assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(prj.getId()).title("Binary Assessment").status(AssessmentStatus.OPEN).build());
+        itemRepository.saveAndFlush(AssessmentItem.builder()
+                .assessment(assessment).section("Auth").text("MFA enabled")
+                .severity(Severity.HIGH).weight(BigDecimal.ONE).build());
+    }
+
+    @Test
+    @DisplayName("Verify that clients without a binary Accept header keep receiving JSON")
+    @WithMockUser(roles = "VIEWER")
+    void detail_DefaultsToJson() throws Exception {
+        log.info("STEP 1: Fetching with a wildcard Accept header");
+        mockMvc.perform(get("/api/v1/assessments/" + assessment.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Verify that the assessment detail and list are served as CBOR and Smile on request")
+    @WithMockUser(roles = "VIEWER")
+    void detailAndList_ShouldHonourBinaryAcceptHeaders() throws Exception {
+        log.info("STEP 1: Fetching the detail as CBOR");
+        JsonNode cborDetail = fetch("/api/v1/assessments/" + assessment.getId(),
+                MediaType.APPLICATION_CBOR, new CBORMapper());
+        assertThat(cborDetail.get("title").asText()).isEqualTo("Binary Assessment");
+        assertThat(cborDetail.get("items")).hasSize(1);
+
+        log.info("STEP 2: Fetching the detail as Smile");
+        JsonNode smileDetail = fetch("/api/v1/assessments/" + assessment.getId(),
+                BinaryFormatConfig.APPLICATION_SMILE, new SmileMapper());
+        assertThat(smileDetail).isEqualTo(cborDetail);
+
+        log.info("STEP 3: Fetching the list page as CBOR");
+        JsonNode page = fetch("/api/v1/assessments", MediaType.APPLICATION_CBOR, new CBORMapper());
+        assertThat(page.get("content")).hasSize(1);
+    }
+
+    private JsonNode fetch(String url, MediaType mediaType, ObjectMapper decoder) throws Exception {
+        byte[] body = mockMvc.perform(get(url).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+        return decoder.readTree(body);
+    }
+}
@@ -0,0 +1,151 @@
+package org.secassess.core.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.dto.CursorPageDto;
+import org.secassess.core.dto.SearchFilterDto;
+import org.secassess.core.dto.SearchHitDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.SearchHitType;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.exception.BusinessValidationException;
+import org.secassess.core.interfaces.SearchService;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"spring.cache.type=simple"})
+class FullTextSearchTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextSearchTest.class);
+
+    @Autowired private SearchService searchService;
+    @Autowired private AssessmentListCache listCache;
+
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    private Organization org;
+    private Assessment assessment;
+    private AssessmentItem textHit;
+    private AssessmentItem notesHit;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Search Org").slug("search-org").build());
+        Project prj = projectRepository.saveAndFlush(Project.builder()
+                .name("Search Project").code("SR01").organization(org).build());
+        assessment = assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(prj.getId()).title("Cloud Review").status(AssessmentStatus.OPEN).build());
+
+        AssessmentTemplate template = templateRepository.saveAndFlush(AssessmentTemplate.builder()
+                .organizationId(org.getId()).title("Baseline").status(TemplateStatus.PUBLISHED).build());
+        criterionRepository.saveAndFlush(TemplateCriterion.builder()
+                .template(template).section("Encryption").text("Is data encrypted at rest?")
+                .severity(Severity.HIGH).weight(BigDecimal.ONE).build());
+
+        textHit = addItem(assessment, "Is MFA enforced for administrators?", null);
+        notesHit = addItem(assessment, "Are privileged sessions recorded?", "Recording requires MFA on the jump host");
+        addItem(assessment, "Are backups tested?", "Restores verified quarterly");
+
+        // The same text in another organization must never be returned
+        Organization other = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Other Org").slug("other-org").build());
+        Project otherPrj = projectRepository.saveAndFlush(Project.builder()
+                .name("Other Project").code("OT01").organization(other).build());
+        addItem(assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(otherPrj.getId()).title("Other Review").status(AssessmentStatus.OPEN).build()),
+                "Is MFA enforced for administrators?", null);
+    }
+
+    @Test
+    @DisplayName("Verify that search ranks text matches above notes matches within the organization")
+    void search_ShouldRankAndScopeHits() {
+        log.info("STEP 1: Searching items for MFA");
+        CursorPageDto<SearchHitDto> page = searchService.search(filter("MFA", null), null, 20);
+
+        assertThat(page.getContent()).extracting(SearchHitDto::getId)
+                .containsExactly(textHit.getId(), notesHit.getId());
+        SearchHitDto first = page.getContent().get(0);
+        assertThat(first.getType()).isEqualTo(SearchHitType.ITEM);
+        assertThat(first.getParentId()).isEqualTo(assessment.getId());
+        assertThat(first.getParentTitle()).isEqualTo("Cloud Review");
+        assertThat(page.isHasNext()).isFalse();
+
+        log.info("STEP 2: Searching a stemmed phrase across criteria");
+        CursorPageDto<SearchHitDto> phrase = searchService.search(filter("\"encryption at rest\"", null), null, 20);
+        assertThat(phrase.getContent()).singleElement()
+                .satisfies(hit -> {
+                    assertThat(hit.getType()).isEqualTo(SearchHitType.CRITERION);
+                    assertThat(hit.getSection()).isEqualTo("Encryption");
+                });
+        assertThat(searchService.search(filter("encryption at rest", SearchHitType.ITEM), null, 20).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify that keyset pages cover every hit exactly once")
+    void search_ShouldPageByKeyset() {
+        log.info("STEP 1: Adding equally ranked items so the id tiebreaker is exercised");
+        for (int i = 0; i < 4; i++) {
+            addItem(assessment, "Is MFA enforced for contractors?", null);
+        }
+
+        log.info("STEP 2: Walking all pages of size 2");
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<SearchHitDto> page = searchService.search(filter("mfa", null), cursor, 2);
+            page.getContent().forEach(hit -> seen.add(hit.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(6).doesNotHaveDuplicates();
+        assertThat(seen.get(seen.size() - 1)).isEqualTo(notesHit.getId());
+    }
+
+    @Test
+    @DisplayName("Verify that blank queries and tampered cursors are rejected")
+    void search_ShouldRejectInvalidInput() {
+        assertThatThrownBy(() -> searchService.search(filter("  ", null), null, 20))
+                .isInstanceOf(BusinessValidationException.class);
+        assertThatThrownBy(() -> searchService.search(filter("mfa", null), "not-a-cursor", 20))
+                .isInstanceOf(BusinessValidationException.class);
+    }
+
+    private SearchFilterDto filter(String q, SearchHitType type) {
+        return SearchFilterDto.builder().organizationId(org.getId()).q(q).type(type).build();
+    }
+
+    private AssessmentItem addItem(Assessment target, String text, String notes) {
+        return itemRepository.saveAndFlush(AssessmentItem.builder()
+                .assessment(target).section("Access").text(text).notes(notes)
+                .severity(Severity.HIGH).weight(BigDecimal.ONE).build());
+    }
+}
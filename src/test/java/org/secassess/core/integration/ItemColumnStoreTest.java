@@ -0,0 +1,123 @@
+package org.secassess.core.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.analytics.ItemColumnStore;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.dto.ItemHistogramDto;
+import org.secassess.core.dto.ItemHistogramFilterDto;
+import org.secassess.core.dto.ItemHistogramGroupDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.secassess.core.interfaces.PortfolioAnalyticsService;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=simple",
+        // Changes are applied by the test
+        "app.item-columns.refresh-interval-ms=3600000",
+        "app.item-columns.segment-size=4"
+})
+class ItemColumnStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemColumnStoreTest.class);
+
+    @Autowired private PortfolioAnalyticsService portfolioService;
+    @Autowired private ItemColumnStore itemColumnStore;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private AssessmentListCache listCache;
+
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    private Organization org;
+    private Project prj;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Columns Org").slug("columns-org").build());
+        prj = projectRepository.saveAndFlush(Project.builder()
+                .name("Columns Project").code("CL01").organization(org).build());
+    }
+
+    @Test
+    @DisplayName("Verify that the columnar store answers histograms and picks up committed item changes")
+    void histogram_ShouldReflectLoadAndAppliedChanges() {
+        log.info("STEP 1: Seeding two assessments and loading the store");
+        Assessment first = newAssessment("First");
+        addItem(first, "Auth", Severity.HIGH, 95);
+        addItem(first, "Auth", Severity.HIGH, null);
+        addItem(first, "Logging", Severity.LOW, 40);
+        Assessment second = newAssessment("Second");
+        addItem(second, "Auth", Severity.HIGH, 55);
+        itemRepository.flush();
+        itemColumnStore.load();
+
+        ItemHistogramDto histogram = portfolioService.getItemHistogram(
+                ItemHistogramFilterDto.builder().organizationId(org.getId()).build());
+        assertThat(histogram.getTotalItems()).isEqualTo(4);
+        assertThat(histogram.getScoredItems()).isEqualTo(3);
+        assertThat(histogram.getSnapshotAt()).isNotNull();
+        assertThat(histogram.getStoreBytes()).isPositive();
+        assertThat(histogram.getGroups()).extracting("section", "severity")
+                .containsExactly(tuple("Auth", Severity.HIGH),
+                        tuple("Logging", Severity.LOW));
+
+        ItemHistogramGroupDto auth = histogram.getGroups().get(0);
+        assertThat(auth.getTotalItems()).isEqualTo(3);
+        assertThat(auth.getWeightedScore()).isEqualByComparingTo("75.00");
+        assertThat(auth.getScoreBands().get(9)).isEqualTo(1L);
+        assertThat(auth.getScoreBands().get(5)).isEqualTo(1L);
+
+        log.info("STEP 2: Adding an item and publishing the committed change");
+        addItem(second, "Crypto", Severity.MEDIUM, 10);
+        itemRepository.flush();
+        eventPublisher.publishEvent(AssessmentsChangedEvent.itemsChanged(List.of(second.getId())));
+        itemColumnStore.applyPending();
+
+        log.info("STEP 3: Filtering by section and severity");
+        ItemHistogramDto crypto = portfolioService.getItemHistogram(ItemHistogramFilterDto.builder()
+                .projectId(prj.getId()).sections(List.of("Crypto")).severities(List.of(Severity.MEDIUM)).build());
+        assertThat(crypto.getTotalItems()).isEqualTo(1);
+        assertThat(crypto.getGroups().get(0).getWeightedScore()).isEqualByComparingTo("10.00");
+        assertThat(portfolioService.getItemHistogram(new ItemHistogramFilterDto()).getTotalItems()).isEqualTo(5);
+    }
+
+    private Assessment newAssessment(String title) {
+        return assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(prj.getId()).title(title).status(AssessmentStatus.OPEN).build());
+    }
+
+    private void addItem(Assessment assessment, String section, Severity severity, Integer score) {
+        itemRepository.save(AssessmentItem.builder()
+                .assessment(assessment).section(section).text(section + " criterion")
+                .severity(severity).weight(BigDecimal.ONE).score(score).build());
+    }
+}
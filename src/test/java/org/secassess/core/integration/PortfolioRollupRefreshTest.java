@@ -0,0 +1,151 @@
+package org.secassess.core.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.dto.PortfolioDto;
+import org.secassess.core.dto.ScoreBandDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.exception.ResourceNotFoundException;
+import org.secassess.core.interfaces.PortfolioAnalyticsService;
+import org.secassess.core.model.*;
+import org.secassess.core.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=simple",
+        // Refreshes are driven by the test; no lag, so an untouched project is provably skipped
+        "app.analytics.refresh-initial-delay-ms=3600000",
+        "app.analytics.watermark-lag=PT0S",
+        "app.analytics.partition-size=2"
+})
+class PortfolioRollupRefreshTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioRollupRefreshTest.class);
+
+    @Autowired private PortfolioAnalyticsService portfolioService;
+    @Autowired private AssessmentListCache listCache;
+
+    @Autowired private AssessmentRepository assessmentRepository;
+    @Autowired private AssessmentItemRepository itemRepository;
+    @Autowired private TemplateCriterionRepository criterionRepository;
+    @Autowired private AssessmentTemplateRepository templateRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private OrganizationRepository organizationRepository;
+
+    private Organization org;
+    private Project busy;
+    private Project quiet;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        criterionRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        templateRepository.deleteAll();
+        projectRepository.deleteAll();
+        organizationRepository.deleteAll();
+        listCache.clear();
+
+        org = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Portfolio Org").slug("portfolio-org").build());
+        busy = projectRepository.saveAndFlush(Project.builder()
+                .name("Busy Project").code("PF01").organization(org).build());
+        quiet = projectRepository.saveAndFlush(Project.builder()
+                .name("Quiet Project").code("PF02").organization(org).build());
+    }
+
+    @Test
+    @DisplayName("Verify that a refresh rolls up projects and organizations and later only revisits changed projects")
+    void refresh_ShouldRollUpAndRefreshIncrementally() {
+        log.info("STEP 1: Seeding 5 assessments in the busy project and 1 in the quiet one");
+        for (int i = 0; i < 5; i++) {
+            Assessment assessment = newAssessment(busy, "Busy " + i);
+            addItem(assessment, "Auth", Severity.HIGH, 20 * i);
+            addItem(assessment, "Logging", Severity.LOW, 90);
+        }
+        Assessment quietAssessment = newAssessment(quiet, "Quiet");
+        addItem(quietAssessment, "Auth", Severity.HIGH, null);
+        itemRepository.flush();
+
+        assertThatThrownBy(() -> portfolioService.getProjectPortfolio(busy.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        log.info("STEP 2: Running the first refresh");
+        portfolioService.refresh();
+        PortfolioDto busyPortfolio = portfolioService.getProjectPortfolio(busy.getId());
+        PortfolioDto quietPortfolio = portfolioService.getProjectPortfolio(quiet.getId());
+
+        assertThat(busyPortfolio.getAssessments()).isEqualTo(5);
+        assertThat(busyPortfolio.getScoredAssessments()).isEqualTo(5);
+        assertThat(busyPortfolio.getWeakestSections()).extracting("key").containsExactly("Auth", "Logging");
+        assertThat(busyPortfolio.getScoreDistribution()).hasSize(10);
+        assertThat(busyPortfolio.getScoreDistribution().stream().mapToInt(ScoreBandDto::getAssessments).sum()).isEqualTo(5);
+        assertThat(quietPortfolio.getUnscoredHighItems()).isEqualTo(1);
+        assertThat(quietPortfolio.getWeightedScore()).isNull();
+
+        PortfolioDto orgPortfolio = portfolioService.getOrganizationPortfolio(org.getId());
+        assertThat(orgPortfolio.getProjects()).isEqualTo(2);
+        assertThat(orgPortfolio.getAssessments()).isEqualTo(6);
+        assertThat(orgPortfolio.getUnscoredHighItems()).isEqualTo(1);
+        assertThat(orgPortfolio.getProjectPortfolios()).extracting("projectId").containsExactly(busy.getId(), quiet.getId());
+
+        log.info("STEP 3: Adding an assessment to the busy project only");
+        Assessment added = newAssessment(busy, "Busy added");
+        addItem(added, "Crypto", Severity.MEDIUM, 10);
+        itemRepository.flush();
+
+        log.info("STEP 4: Running an incremental refresh");
+        portfolioService.refresh();
+        PortfolioDto busyRefreshed = portfolioService.getProjectPortfolio(busy.getId());
+        PortfolioDto quietRefreshed = portfolioService.getProjectPortfolio(quiet.getId());
+
+        assertThat(busyRefreshed.getAssessments()).isEqualTo(6);
+        assertThat(busyRefreshed.getWeakestSections().get(0).getKey()).isEqualTo("Crypto");
+        assertThat(busyRefreshed.getComputedAt()).isAfter(busyPortfolio.getComputedAt());
+        assertThat(quietRefreshed.getComputedAt()).isEqualTo(quietPortfolio.getComputedAt());
+        assertThat(portfolioService.getOrganizationPortfolio(org.getId()).getAssessments()).isEqualTo(7);
+
+        log.info("STEP 5: Deleting the quiet project's assessment, which leaves no timestamp behind");
+        itemRepository.deleteAll(itemRepository.findAll().stream()
+                .filter(item -> item.getAssessment().getId().equals(quietAssessment.getId())).toList());
+        assessmentRepository.deleteById(quietAssessment.getId());
+        assessmentRepository.flush();
+
+        portfolioService.refresh();
+        assertThat(portfolioService.getProjectPortfolio(quiet.getId()).getAssessments()).isZero();
+        assertThat(portfolioService.getOrganizationPortfolio(org.getId()).getUnscoredHighItems()).isZero();
+
+        log.info("STEP 6: Moving an item to another section, which changes score buckets but not assessment stats");
+        AssessmentItem moved = itemRepository.findAll().stream()
+                .filter(item -> item.getSection().equals("Crypto")).findFirst().orElseThrow();
+        moved.setSection("Logging");
+        moved.setSeverity(Severity.LOW);
+        itemRepository.saveAndFlush(moved);
+
+        portfolioService.refresh();
+        assertThat(portfolioService.getProjectPortfolio(busy.getId()).getWeakestSections())
+                .extracting("key").containsExactly("Auth", "Logging");
+    }
+
+    private Assessment newAssessment(Project project, String title) {
+        return assessmentRepository.saveAndFlush(Assessment.builder()
+                .projectId(project.getId()).title(title).status(AssessmentStatus.OPEN).build());
+    }
+
+    private void addItem(Assessment assessment, String section, Severity severity, Integer score) {
+        itemRepository.save(AssessmentItem.builder()
+                .assessment(assessment).section(section).text(section + " criterion")
+                .severity(severity).weight(BigDecimal.ONE).score(score).build());
+    }
+}
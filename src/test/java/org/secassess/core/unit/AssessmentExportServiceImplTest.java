@@ -0,0 +1,101 @@
+package org.secassess.core.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.enums.ExportFormat;
+import org.secassess.core.repository.AssessmentExportRepository;
+import org.secassess.core.repository.AssessmentExportRepository.ExportRow;
+import org.secassess.core.service.AssessmentExportServiceImpl;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class AssessmentExportServiceImplTest {
+
+    @Mock private AssessmentExportRepository exportRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private AssessmentExportServiceImpl exportService;
+    private AssessmentFilterDto filter;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+
+        exportService = new AssessmentExportServiceImpl(exportRepository, new ObjectMapper().findAndRegisterModules(),
+                transactionTemplate);
+        filter = new AssessmentFilterDto();
+
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        when(exportRepository.streamRows(any(), any())).thenAnswer(inv -> {
+            Consumer<ExportRow> consumer = inv.getArgument(1);
+            consumer.accept(row("=HYPERLINK(\"x\")", "Plain notes"));
+            consumer.accept(row("Uses MFA, TOTP", null));
+            return 2L;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Export: NDJSON should write one JSON object per row")
+    void export_ShouldWriteNdjsonLines() throws Exception {
+        log.info("STEP 1: Acting - Exporting 2 rows as NDJSON");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(filter, ExportFormat.NDJSON, out);
+
+        log.info("STEP 2: Asserting 2 newline-terminated JSON objects");
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("{") && lines[1].contains("\"text\":\"Uses MFA, TOTP\""));
+    }
+
+    @Test
+    @DisplayName("Export: CSV should quote delimiters and neutralize spreadsheet formulas")
+    void export_ShouldEscapeCsvValues() throws Exception {
+        log.info("STEP 1: Acting - Exporting 2 rows as CSV");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(filter, ExportFormat.CSV, out);
+
+        log.info("STEP 2: Asserting header, quoting and formula prefix");
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("assessment_id,project_id,title"));
+        assertTrue(lines[1].contains(",\"'=HYPERLINK(\"\"x\"\")\","));
+        assertTrue(lines[2].contains(",\"Uses MFA, TOTP\","));
+        assertTrue(lines[2].endsWith(","), "A null value should be written as an empty field");
+    }
+
+    private static ExportRow row(String text, String notes) {
+        return new ExportRow(UUID.randomUUID(), 1L, "Audit", "OPEN", Instant.parse("2024-01-01T00:00:00Z"), null,
+                UUID.randomUUID(), UUID.randomUUID(), "Auth", text, "HIGH", BigDecimal.ONE, null, notes);
+    }
+}
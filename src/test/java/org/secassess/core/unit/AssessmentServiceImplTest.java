@@ -6,35 +6,58 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.secassess.core.autosave.ItemAutosaveBuffer;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.cache.TemplateSnapshot;
+import org.secassess.core.cache.TemplateSnapshotCache;
 import org.secassess.core.dto.*;
 import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.BulkUpdateMode;
+import org.secassess.core.enums.CopyMode;
+import org.secassess.core.enums.ItemScoreOutcome;
+import org.secassess.core.enums.StatusUpdateOutcome;
 import org.secassess.core.enums.TemplateStatus;
 import org.secassess.core.exception.BusinessValidationException;
 import org.secassess.core.mapper.AssessmentMapper;
 import org.secassess.core.model.Assessment;
-import org.secassess.core.model.AssessmentItem;
+import org.secassess.core.model.AssessmentStats;
 import org.secassess.core.model.AssessmentTemplate;
 import org.secassess.core.model.TemplateCriterion;
-import org.secassess.core.repository.AssessmentItemRepository;
+import org.secassess.core.repository.AssessmentBulkRepository;
+import org.secassess.core.repository.AssessmentCursor;
+import org.secassess.core.repository.AssessmentItemBulkRepository;
 import org.secassess.core.repository.AssessmentRepository;
+import org.secassess.core.repository.AssessmentStatsRepository;
+import org.secassess.core.repository.AssessmentSummaryRepository;
+import org.secassess.core.repository.AssessmentSummaryRepository.SummaryRow;
 import org.secassess.core.repository.AssessmentTemplateRepository;
 import org.secassess.core.service.AssessmentServiceImpl;
 import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @Slf4j
@@ -43,8 +66,15 @@ class AssessmentServiceImplTest {
 
     @Mock private AssessmentRepository assessmentRepository;
     @Mock private AssessmentTemplateRepository templateRepository;
-    @Mock private AssessmentItemRepository itemRepository;
+    @Mock private AssessmentItemBulkRepository itemBulkRepository;
+    @Mock private AssessmentStatsRepository statsRepository;
+    @Mock private AssessmentSummaryRepository summaryRepository;
+    @Mock private AssessmentBulkRepository assessmentBulkRepository;
     @Mock private AssessmentMapper assessmentMapper;
+    @Mock private TemplateSnapshotCache snapshotCache;
+    @Mock private AssessmentListCache listCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ItemAutosaveBuffer autosaveBuffer;
 
     @InjectMocks private AssessmentServiceImpl assessmentService;
 
@@ -106,6 +136,8 @@ class AssessmentServiceImplTest {
 
         when(assessmentRepository.findById(assessmentId)).thenReturn(Optional.of(assessment));
         when(templateRepository.findById(templateId)).thenReturn(Optional.of(template));
+        when(snapshotCache.get(template)).thenReturn(TemplateSnapshot.of(templateId, null, List.of(criterion)));
+        when(itemBulkRepository.upsertItems(eq(assessmentId), anyList(), eq(false))).thenReturn(1);
         when(assessmentMapper.toCopyStatsDto(1, 0, 0, 1)).thenReturn(new CopyStatsResponseDto(1, 0, 0, 1));
 
         CopyCriteriaRequestDto request = new CopyCriteriaRequestDto();
@@ -114,9 +146,60 @@ class AssessmentServiceImplTest {
         log.info("STEP 2: Acting - Running copy process");
         CopyStatsResponseDto stats = assessmentService.copyCriteriaFromTemplate(assessmentId, request);
 
-        log.info("STEP 3: Asserting - Verifying saveAll and stats returned: {}", stats.getCopied());
+        log.info("STEP 3: Asserting - Verifying bulk upsert and stats returned: {}", stats.getCopied());
         assertEquals(1, stats.getCopied());
-        verify(itemRepository, times(1)).saveAll(anyList());
+        verify(itemBulkRepository, times(1)).upsertItems(eq(assessmentId), anyList(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Copy: IN_DATABASE mode should derive stats from statement row counts")
+    void copy_InDatabaseMode_ShouldUseRowCounts() {
+        log.info("STEP 1: Arranging published template and in-database copy counts");
+        AssessmentTemplate template = new AssessmentTemplate();
+        template.setStatus(TemplateStatus.PUBLISHED);
+
+        when(assessmentRepository.findById(assessmentId)).thenReturn(Optional.of(new Assessment()));
+        when(templateRepository.findById(templateId)).thenReturn(Optional.of(template));
+        when(itemBulkRepository.copyFromTemplate(assessmentId, templateId, List.of("Access Control"), false))
+                .thenReturn(new AssessmentItemBulkRepository.TemplateCopyCounts(10, 4, 3));
+        when(assessmentMapper.toCopyStatsDto(3, 1, 6, 10)).thenReturn(new CopyStatsResponseDto(3, 1, 6, 10));
+
+        CopyCriteriaRequestDto request = CopyCriteriaRequestDto.builder()
+                .templateId(templateId)
+                .includeSections(List.of("Access Control"))
+                .mode(CopyMode.IN_DATABASE)
+                .build();
+
+        log.info("STEP 2: Acting - Running in-database copy");
+        CopyStatsResponseDto stats = assessmentService.copyCriteriaFromTemplate(assessmentId, request);
+
+        log.info("STEP 3: Asserting - Criteria never loaded, stats mapped from counts");
+        assertEquals(3, stats.getCopied());
+        assertEquals(1, stats.getSkippedDuplicates());
+        verify(itemBulkRepository, never()).upsertItems(any(), anyList(), anyBoolean());
+    }
+
+    // ========================================================================
+    // TESTS: copyCriteriaToAssessments
+    // ========================================================================
+
+    @Test
+    @DisplayName("Bulk Copy: Should reject a project with more assessments than one request may target")
+    void bulkCopy_ShouldReject_WhenProjectExceedsTargetCap() {
+        log.info("STEP 1: Mocking a project resolving to one assessment past the cap");
+        List<UUID> projectTargets = new ArrayList<>();
+        for (int i = 0; i <= BulkCopyCriteriaRequestDto.MAX_TARGETS; i++) projectTargets.add(UUID.randomUUID());
+        when(assessmentRepository.findIdsByProjectId(7L, PageRequest.of(0, BulkCopyCriteriaRequestDto.MAX_TARGETS + 1)))
+                .thenReturn(projectTargets);
+
+        BulkCopyCriteriaRequestDto request = BulkCopyCriteriaRequestDto.builder()
+                .copy(CopyCriteriaRequestDto.builder().templateId(templateId).build())
+                .projectId(7L)
+                .build();
+
+        log.info("STEP 2: Executing and asserting rejection before the template is read");
+        assertThrows(BusinessValidationException.class, () -> assessmentService.copyCriteriaToAssessments(request));
+        verifyNoInteractions(templateRepository, itemBulkRepository);
     }
 
     // ========================================================================
@@ -126,13 +209,12 @@ class AssessmentServiceImplTest {
     @Test
     @DisplayName("Status Update: Should fail if COMPLETED but items are unscored")
     void updateStatus_ShouldFail_WhenUnscoredItems() {
-        log.info("STEP 1: Arranging assessment with null score items");
+        log.info("STEP 1: Arranging assessment whose counters report an unscored item");
         Assessment assessment = new Assessment();
-        AssessmentItem item = new AssessmentItem();
-        item.setScore(null);
-        assessment.setItems(List.of(item));
+        AssessmentStats stats = AssessmentStats.builder().assessmentId(assessmentId).totalItems(2).scoredItems(1).build();
 
-        when(assessmentRepository.findById(assessmentId)).thenReturn(Optional.of(assessment));
+        when(assessmentRepository.findWithItemsById(assessmentId)).thenReturn(Optional.of(assessment));
+        when(statsRepository.findById(assessmentId)).thenReturn(Optional.of(stats));
 
         UpdateStatusRequestDto request = new UpdateStatusRequestDto();
         request.setStatus(AssessmentStatus.COMPLETED);
@@ -140,6 +222,29 @@ class AssessmentServiceImplTest {
         log.info("STEP 2: Asserting BusinessValidationException for unscored items");
         assertThrows(BusinessValidationException.class, () ->
                 assessmentService.updateStatus(assessmentId, request));
+        verify(assessmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Status Update: Should complete from counters without loading items")
+    void updateStatus_ShouldComplete_WhenAllItemsScored() {
+        log.info("STEP 1: Arranging fully scored counters and an assessment whose items must not be read");
+        Assessment assessment = mock(Assessment.class);
+        AssessmentStats stats = AssessmentStats.builder().assessmentId(assessmentId).totalItems(3).scoredItems(3).build();
+
+        when(assessmentRepository.findWithItemsById(assessmentId)).thenReturn(Optional.of(assessment));
+        when(statsRepository.findById(assessmentId)).thenReturn(Optional.of(stats));
+        when(assessmentRepository.save(assessment)).thenReturn(assessment);
+
+        UpdateStatusRequestDto request = new UpdateStatusRequestDto();
+        request.setStatus(AssessmentStatus.COMPLETED);
+
+        log.info("STEP 2: Acting - Completing the assessment");
+        assessmentService.updateStatus(assessmentId, request);
+
+        log.info("STEP 3: Asserting status set and item collection untouched");
+        verify(assessment).setStatus(AssessmentStatus.COMPLETED);
+        verify(assessment, never()).getItems();
     }
 
     @Test
@@ -149,7 +254,7 @@ class AssessmentServiceImplTest {
         Assessment assessment = new Assessment();
         assessment.setItems(new ArrayList<>());
 
-        when(assessmentRepository.findById(assessmentId)).thenReturn(Optional.of(assessment));
+        when(assessmentRepository.findWithItemsById(assessmentId)).thenReturn(Optional.of(assessment));
         when(assessmentRepository.save(any(Assessment.class))).thenReturn(assessment);
 
         UpdateStatusRequestDto request = new UpdateStatusRequestDto();
@@ -163,6 +268,238 @@ class AssessmentServiceImplTest {
         verify(assessmentRepository).save(assessment);
     }
 
+    // ========================================================================
+    // TESTS: bulkUpdateStatus
+    // ========================================================================
+
+    @Test
+    @DisplayName("Bulk Status: ALL_OR_NOTHING should write nothing when any target has unscored items")
+    void bulkUpdateStatus_AllOrNothing_ShouldRejectWholeRequest() {
+        log.info("STEP 1: Arranging one scored and one unscored assessment");
+        UUID scored = UUID.randomUUID();
+        UUID unscored = UUID.randomUUID();
+        when(assessmentBulkRepository.findStatusChecks(List.of(scored, unscored))).thenReturn(List.of(
+                new AssessmentBulkRepository.StatusCheck(scored, AssessmentStatus.IN_PROGRESS, 0),
+                new AssessmentBulkRepository.StatusCheck(unscored, AssessmentStatus.IN_PROGRESS, 2)));
+
+        BulkStatusUpdateRequestDto request = BulkStatusUpdateRequestDto.builder()
+                .assessmentIds(List.of(scored, unscored))
+                .status(AssessmentStatus.COMPLETED)
+                .build();
+
+        log.info("STEP 2: Acting - Running bulk update");
+        assessmentService.bulkUpdateStatus(request);
+
+        log.info("STEP 3: Asserting no UPDATE was issued and the rejection was reported");
+        verify(assessmentBulkRepository, never()).updateStatuses(anyCollection(), any());
+        verify(assessmentMapper).toStatusUpdateResultDto(unscored, StatusUpdateOutcome.UNSCORED_ITEMS, 2);
+        verify(assessmentMapper).toStatusUpdateResultDto(scored, StatusUpdateOutcome.SKIPPED, null);
+    }
+
+    @Test
+    @DisplayName("Bulk Status: PARTIAL should update only eligible targets in one statement")
+    void bulkUpdateStatus_Partial_ShouldUpdateEligibleOnly() {
+        log.info("STEP 1: Arranging eligible, unchanged and missing assessments");
+        UUID eligible = UUID.randomUUID();
+        UUID alreadyCompleted = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(assessmentBulkRepository.findStatusChecks(List.of(eligible, alreadyCompleted, missing))).thenReturn(List.of(
+                new AssessmentBulkRepository.StatusCheck(eligible, AssessmentStatus.IN_PROGRESS, 0),
+                new AssessmentBulkRepository.StatusCheck(alreadyCompleted, AssessmentStatus.COMPLETED, 0)));
+        when(assessmentBulkRepository.updateStatuses(List.of(eligible), AssessmentStatus.COMPLETED)).thenReturn(List.of(eligible));
+
+        BulkStatusUpdateRequestDto request = BulkStatusUpdateRequestDto.builder()
+                .assessmentIds(List.of(eligible, alreadyCompleted, missing, eligible))
+                .status(AssessmentStatus.COMPLETED)
+                .mode(BulkUpdateMode.PARTIAL)
+                .build();
+
+        log.info("STEP 2: Acting - Running bulk update");
+        assessmentService.bulkUpdateStatus(request);
+
+        log.info("STEP 3: Asserting per-ID outcomes");
+        verify(assessmentBulkRepository, times(1)).updateStatuses(List.of(eligible), AssessmentStatus.COMPLETED);
+        verify(assessmentMapper).toStatusUpdateResultDto(eligible, StatusUpdateOutcome.UPDATED, null);
+        verify(assessmentMapper).toStatusUpdateResultDto(alreadyCompleted, StatusUpdateOutcome.UNCHANGED, null);
+        verify(assessmentMapper).toStatusUpdateResultDto(missing, StatusUpdateOutcome.NOT_FOUND, null);
+    }
+
+    @Test
+    @DisplayName("Bulk Status: ALL_OR_NOTHING should roll back when a target fails the UPDATE's re-check")
+    void bulkUpdateStatus_AllOrNothing_ShouldRollBackOnLateRejection() {
+        log.info("STEP 1: Arranging two valid targets, one of which gains an unscored item before the UPDATE");
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(assessmentBulkRepository.findStatusChecks(List.of(first, second))).thenReturn(List.of(
+                new AssessmentBulkRepository.StatusCheck(first, AssessmentStatus.IN_PROGRESS, 0),
+                new AssessmentBulkRepository.StatusCheck(second, AssessmentStatus.IN_PROGRESS, 0)));
+        when(assessmentBulkRepository.updateStatuses(List.of(first, second), AssessmentStatus.COMPLETED)).thenReturn(List.of(first));
+
+        BulkStatusUpdateRequestDto request = BulkStatusUpdateRequestDto.builder()
+                .assessmentIds(List.of(first, second))
+                .status(AssessmentStatus.COMPLETED)
+                .build();
+        TransactionStatus transaction = mock(TransactionStatus.class);
+
+        log.info("STEP 2: Acting - Running bulk update");
+        try (MockedStatic<TransactionAspectSupport> transactions = mockStatic(TransactionAspectSupport.class)) {
+            transactions.when(TransactionAspectSupport::currentTransactionStatus).thenReturn(transaction);
+            assessmentService.bulkUpdateStatus(request);
+        }
+
+        log.info("STEP 3: Asserting the written row is rolled back and reported as skipped");
+        verify(transaction).setRollbackOnly();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(assessmentMapper).toStatusUpdateResultDto(first, StatusUpdateOutcome.SKIPPED, null);
+        verify(assessmentMapper).toStatusUpdateResultDto(second, StatusUpdateOutcome.UNSCORED_ITEMS, null);
+        verify(assessmentMapper).toBulkStatusUpdateResponseDto(eq(request), eq(false), anyList(), anyMap(), eq(1));
+    }
+
+    // ========================================================================
+    // TESTS: bulkScoreItems
+    // ========================================================================
+
+    @Test
+    @DisplayName("Bulk Scoring: ALL_OR_NOTHING should write nothing when any update is invalid")
+    void bulkScoreItems_AllOrNothing_ShouldRejectWholeRequest() {
+        log.info("STEP 1: Arranging a valid update, an out-of-range score and a duplicate");
+        UUID valid = UUID.randomUUID();
+        UUID outOfRange = UUID.randomUUID();
+        when(assessmentRepository.existsById(assessmentId)).thenReturn(true);
+        when(itemBulkRepository.findItemIds(assessmentId, List.of(valid, outOfRange))).thenReturn(List.of(valid, outOfRange));
+
+        BulkItemScoreRequestDto request = BulkItemScoreRequestDto.builder()
+                .updates(List.of(
+                        ItemScoreUpdateDto.builder().itemId(valid).score(80).build(),
+                        ItemScoreUpdateDto.builder().itemId(outOfRange).score(101).build(),
+                        ItemScoreUpdateDto.builder().itemId(valid).notes("again").build()))
+                .build();
+
+        log.info("STEP 2: Acting - Running bulk scoring");
+        assessmentService.bulkScoreItems(assessmentId, request);
+
+        log.info("STEP 3: Asserting no UPDATE was issued and each update got its outcome");
+        verify(itemBulkRepository, never()).updateScores(any(), anyList());
+        ArgumentCaptor<ItemScoreOutcome[]> outcomes = ArgumentCaptor.forClass(ItemScoreOutcome[].class);
+        verify(assessmentMapper).toBulkItemScoreResponseDto(eq(assessmentId), eq(request), eq(false), outcomes.capture(), eq(2));
+        assertArrayEquals(new ItemScoreOutcome[]{
+                ItemScoreOutcome.SKIPPED, ItemScoreOutcome.INVALID_SCORE, ItemScoreOutcome.DUPLICATE}, outcomes.getValue());
+    }
+
+    @Test
+    @DisplayName("Bulk Scoring: PARTIAL should write the valid updates in one call and report missing items")
+    void bulkScoreItems_Partial_ShouldUpdateValidOnly() {
+        log.info("STEP 1: Arranging a valid update, an empty update and an item of another assessment");
+        UUID valid = UUID.randomUUID();
+        UUID empty = UUID.randomUUID();
+        UUID foreign = UUID.randomUUID();
+        ItemScoreUpdateDto validUpdate = ItemScoreUpdateDto.builder().itemId(valid).score(0).notes("Reviewed").build();
+        when(assessmentRepository.existsById(assessmentId)).thenReturn(true);
+        when(itemBulkRepository.findItemIds(assessmentId, List.of(valid, empty, foreign))).thenReturn(List.of(valid, empty));
+        when(itemBulkRepository.updateScores(assessmentId, List.of(validUpdate))).thenReturn(List.of(valid));
+
+        BulkItemScoreRequestDto request = BulkItemScoreRequestDto.builder()
+                .updates(List.of(
+                        validUpdate,
+                        ItemScoreUpdateDto.builder().itemId(empty).build(),
+                        ItemScoreUpdateDto.builder().itemId(foreign).score(50).build()))
+                .mode(BulkUpdateMode.PARTIAL)
+                .build();
+
+        log.info("STEP 2: Acting - Running bulk scoring");
+        assessmentService.bulkScoreItems(assessmentId, request);
+
+        log.info("STEP 3: Asserting one UPDATE for the valid item and per-item outcomes");
+        verify(itemBulkRepository, times(1)).updateScores(assessmentId, List.of(validUpdate));
+        verify(eventPublisher).publishEvent(any(Object.class));
+        ArgumentCaptor<ItemScoreOutcome[]> outcomes = ArgumentCaptor.forClass(ItemScoreOutcome[].class);
+        verify(assessmentMapper).toBulkItemScoreResponseDto(eq(assessmentId), eq(request), eq(true), outcomes.capture(), eq(2));
+        assertArrayEquals(new ItemScoreOutcome[]{
+                ItemScoreOutcome.UPDATED, ItemScoreOutcome.EMPTY_UPDATE, ItemScoreOutcome.NOT_FOUND}, outcomes.getValue());
+    }
+
+    @Test
+    @DisplayName("Bulk Scoring: ALL_OR_NOTHING should roll back when an item disappears before the UPDATE")
+    void bulkScoreItems_AllOrNothing_ShouldRollBackOnLateRejection() {
+        log.info("STEP 1: Arranging two valid updates, one of whose items is deleted before the UPDATE");
+        UUID kept = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        List<ItemScoreUpdateDto> updates = List.of(
+                ItemScoreUpdateDto.builder().itemId(kept).score(70).build(),
+                ItemScoreUpdateDto.builder().itemId(deleted).score(30).build());
+        when(assessmentRepository.existsById(assessmentId)).thenReturn(true);
+        when(itemBulkRepository.findItemIds(assessmentId, List.of(kept, deleted))).thenReturn(List.of(kept, deleted));
+        when(itemBulkRepository.updateScores(assessmentId, updates)).thenReturn(List.of(kept));
+
+        BulkItemScoreRequestDto request = BulkItemScoreRequestDto.builder().updates(updates).build();
+        TransactionStatus transaction = mock(TransactionStatus.class);
+
+        log.info("STEP 2: Acting - Running bulk scoring");
+        try (MockedStatic<TransactionAspectSupport> transactions = mockStatic(TransactionAspectSupport.class)) {
+            transactions.when(TransactionAspectSupport::currentTransactionStatus).thenReturn(transaction);
+            assessmentService.bulkScoreItems(assessmentId, request);
+        }
+
+        log.info("STEP 3: Asserting the written item is rolled back and reported as skipped");
+        verify(transaction).setRollbackOnly();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        ArgumentCaptor<ItemScoreOutcome[]> outcomes = ArgumentCaptor.forClass(ItemScoreOutcome[].class);
+        verify(assessmentMapper).toBulkItemScoreResponseDto(eq(assessmentId), eq(request), eq(false), outcomes.capture(), eq(1));
+        assertArrayEquals(new ItemScoreOutcome[]{ItemScoreOutcome.SKIPPED, ItemScoreOutcome.NOT_FOUND}, outcomes.getValue());
+    }
+
+    // ========================================================================
+    // TESTS: autosaveItem
+    // ========================================================================
+
+    @Test
+    @DisplayName("Autosave: Should hand a valid edit to the write-behind buffer without writing it")
+    void autosaveItem_ShouldQueueWhenBufferAccepts() {
+        log.info("STEP 1: Arranging an existing item and a buffer that accepts the edit");
+        UUID itemId = UUID.randomUUID();
+        when(itemBulkRepository.findItemIds(assessmentId, List.of(itemId))).thenReturn(List.of(itemId));
+        when(autosaveBuffer.offer(eq(assessmentId), any(ItemScoreUpdateDto.class))).thenReturn(true);
+
+        log.info("STEP 2: Acting - Autosaving the item");
+        ItemScoreResultDto result = assessmentService.autosaveItem(assessmentId, itemId,
+                ItemAutosaveDto.builder().score(70).build());
+
+        log.info("STEP 3: Asserting the edit was queued and nothing was written");
+        assertEquals(ItemScoreOutcome.QUEUED, result.getOutcome());
+        verify(itemBulkRepository, never()).updateScores(any(), anyList());
+        verify(autosaveBuffer, never()).writeThrough(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Autosave: Should write a rejected edit through the buffer so it is ordered after its flushes")
+    void autosaveItem_ShouldWriteThroughWhenBufferRejects() {
+        log.info("STEP 1: Arranging an existing item and a full buffer");
+        UUID itemId = UUID.randomUUID();
+        when(itemBulkRepository.findItemIds(assessmentId, List.of(itemId))).thenReturn(List.of(itemId));
+        when(autosaveBuffer.offer(eq(assessmentId), any(ItemScoreUpdateDto.class))).thenReturn(false);
+        when(autosaveBuffer.writeThrough(eq(assessmentId), any(ItemScoreUpdateDto.class))).thenReturn(List.of(itemId));
+
+        log.info("STEP 2: Acting - Autosaving the item");
+        ItemScoreResultDto result = assessmentService.autosaveItem(assessmentId, itemId,
+                ItemAutosaveDto.builder().score(70).build());
+
+        log.info("STEP 3: Asserting the edit was written through the buffer, not around it");
+        assertEquals(ItemScoreOutcome.UPDATED, result.getOutcome());
+        verify(itemBulkRepository, never()).updateScores(any(), anyList());
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Autosave: Should reject an out-of-range score before touching the buffer")
+    void autosaveItem_ShouldRejectInvalidScore() {
+        ItemAutosaveDto request = ItemAutosaveDto.builder().score(150).build();
+
+        assertThrows(BusinessValidationException.class,
+                () -> assessmentService.autosaveItem(assessmentId, UUID.randomUUID(), request));
+        verifyNoInteractions(autosaveBuffer);
+    }
+
     // ========================================================================
     // TESTS: findAll
     // ========================================================================
@@ -174,14 +511,74 @@ class AssessmentServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Assessment> page = new PageImpl<>(List.of(new Assessment()));
 
-        when(assessmentRepository.findAll(pageable)).thenReturn(page);
+        AssessmentFilterDto filter = AssessmentFilterDto.builder().status(AssessmentStatus.OPEN).build();
+
+        when(listCache.get(eq(filter), eq(pageable), any())).thenAnswer(inv -> inv.getArgument(2, Supplier.class).get());
+        when(assessmentRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
         when(assessmentMapper.toDtoPage(page)).thenReturn(new PageImpl<>(List.of(new AssessmentDto())));
 
-        log.info("STEP 2: Acting - Fetching page 0");
-        Page<AssessmentDto> result = assessmentService.findAll(pageable);
+        log.info("STEP 2: Acting - Fetching page 0 through the list cache");
+        Page<AssessmentDto> result = assessmentService.findAll(filter, pageable);
 
         log.info("STEP 3: Asserting page is not empty");
         assertFalse(result.isEmpty());
         assertEquals(1, result.getTotalElements());
     }
+
+    @Test
+    @DisplayName("Scroll: Should fetch one extra row and continue after the last returned assessment")
+    void scroll_ShouldReturnCursorOfLastAssessment() {
+        log.info("STEP 1: Arranging 3 rows for a page size of 2");
+        List<Assessment> window = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Assessment assessment = new Assessment();
+            assessment.setId(new UUID(0L, i));
+            assessment.setCreatedAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i));
+            window.add(assessment);
+        }
+        when(assessmentRepository.findBy(any(Specification.class), any())).thenReturn(window);
+        when(assessmentMapper.toDto(any(Assessment.class))).thenReturn(new AssessmentDto());
+        when(assessmentMapper.toCursorPageDto(anyList(), any())).thenReturn(new CursorPageDto<>());
+
+        log.info("STEP 2: Acting - Scrolling the first page");
+        assessmentService.scroll(new AssessmentFilterDto(), null, 2);
+
+        log.info("STEP 3: Asserting 2 DTOs and a cursor pointing at the second row");
+        String expectedCursor = new AssessmentCursor(window.get(1).getCreatedAt(), window.get(1).getId()).encode();
+        verify(assessmentMapper, times(2)).toDto(any(Assessment.class));
+        verify(assessmentMapper).toCursorPageDto(anyList(), eq(expectedCursor));
+        assertEquals(new AssessmentCursor(window.get(1).getCreatedAt(), window.get(1).getId()),
+                AssessmentCursor.decode(expectedCursor));
+    }
+
+    @Test
+    @DisplayName("Summaries: Should list from one query without loading any items")
+    void findSummaries_ShouldNotTouchItems() {
+        log.info("STEP 1: Arranging a single summary row with scoring progress");
+        UUID assessmentId = UUID.randomUUID();
+        SummaryRow row = new SummaryRow(assessmentId, 1L, "Audit", AssessmentStatus.IN_PROGRESS,
+                Instant.parse("2024-01-01T00:00:00Z"), null, 4, 1, null, null);
+        AssessmentSummaryDto summary = AssessmentSummaryDto.builder().id(assessmentId).totalItems(4).scoredItems(1).build();
+        when(summaryRepository.findSummaries(any(), isNull(), eq(21))).thenReturn(List.of(row));
+        when(assessmentMapper.toSummaryDto(row)).thenReturn(summary);
+        when(assessmentMapper.toCursorPageDto(List.of(summary), null))
+                .thenReturn(CursorPageDto.<AssessmentSummaryDto>builder().content(List.of(summary)).size(1).build());
+
+        log.info("STEP 2: Acting - Fetching the first page of summaries");
+        CursorPageDto<AssessmentSummaryDto> result = assessmentService.findSummaries(new AssessmentFilterDto(), null, 20);
+
+        log.info("STEP 3: Asserting last page and no entity loading");
+        assertFalse(result.isHasNext());
+        assertEquals(1, result.getContent().size());
+        verifyNoInteractions(assessmentRepository);
+    }
+
+    @Test
+    @DisplayName("Scroll: Should reject a tampered cursor")
+    void scroll_ShouldFail_WhenCursorIsInvalid() {
+        log.info("STEP 1: Asserting BusinessValidationException and no query");
+        assertThrows(BusinessValidationException.class,
+                () -> assessmentService.scroll(new AssessmentFilterDto(), "not-a-cursor", 20));
+        verifyNoInteractions(assessmentRepository);
+    }
 }
\ No newline at end of file
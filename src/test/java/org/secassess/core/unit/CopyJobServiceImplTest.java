@@ -0,0 +1,158 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.secassess.core.dto.CopyCriteriaRequestDto;
+import org.secassess.core.enums.CopyJobStatus;
+import org.secassess.core.enums.CopyMode;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.exception.BusinessValidationException;
+import org.secassess.core.mapper.AssessmentMapper;
+import org.secassess.core.model.AssessmentItem;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.model.CopyJob;
+import org.secassess.core.model.TemplateCriterion;
+import org.secassess.core.repository.*;
+import org.secassess.core.service.CopyJobServiceImpl;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class CopyJobServiceImplTest {
+
+    @Mock private CopyJobRepository copyJobRepository;
+    @Mock private AssessmentRepository assessmentRepository;
+    @Mock private AssessmentTemplateRepository templateRepository;
+    @Mock private TemplateCriterionRepository criterionRepository;
+    @Mock private AssessmentItemBulkRepository itemBulkRepository;
+    @Mock private AssessmentMapper assessmentMapper;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TaskExecutor copyJobExecutor;
+
+    @InjectMocks private CopyJobServiceImpl copyJobService;
+
+    private UUID assessmentId;
+    private UUID templateId;
+    private AssessmentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+
+        ReflectionTestUtils.setField(copyJobService, "chunkSize", 2);
+        assessmentId = UUID.randomUUID();
+        templateId = UUID.randomUUID();
+        template = new AssessmentTemplate();
+        template.setId(templateId);
+        template.setStatus(TemplateStatus.PUBLISHED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Submit: Should reject non-PUBLISHED templates before creating a job")
+    void submit_ShouldFail_WhenTemplateNotPublished() {
+        log.info("STEP 1: Arranging DRAFT template");
+        template.setStatus(TemplateStatus.DRAFT);
+        when(assessmentRepository.existsById(assessmentId)).thenReturn(true);
+        when(templateRepository.findById(templateId)).thenReturn(Optional.of(template));
+
+        CopyCriteriaRequestDto request = CopyCriteriaRequestDto.builder().templateId(templateId).build();
+
+        log.info("STEP 2: Asserting BusinessValidationException and no job persisted");
+        assertThrows(BusinessValidationException.class, () -> copyJobService.submit(assessmentId, request));
+        verify(copyJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Submit: Should reject IN_DATABASE copies, which cannot run chunk by chunk")
+    void submit_ShouldFail_WhenModeIsInDatabase() {
+        log.info("STEP 1: Arranging an IN_DATABASE copy request");
+        CopyCriteriaRequestDto request = CopyCriteriaRequestDto.builder()
+                .templateId(templateId)
+                .mode(CopyMode.IN_DATABASE)
+                .build();
+
+        log.info("STEP 2: Asserting BusinessValidationException and no job persisted or dispatched");
+        assertThrows(BusinessValidationException.class, () -> copyJobService.submit(assessmentId, request));
+        verify(copyJobRepository, never()).save(any());
+        verifyNoInteractions(copyJobExecutor);
+    }
+
+    @Test
+    @DisplayName("Run: Should copy chunk by chunk and record progress until COMPLETED")
+    void submit_ShouldProcessChunksAndComplete() {
+        log.info("STEP 1: Arranging a template with 2 criteria, one outside the requested section");
+        TemplateCriterion included = TemplateCriterion.builder().id(UUID.randomUUID()).section("Network").build();
+        TemplateCriterion excluded = TemplateCriterion.builder().id(UUID.randomUUID()).section("Logging").build();
+
+        CopyCriteriaRequestDto request = CopyCriteriaRequestDto.builder()
+                .templateId(templateId)
+                .includeSections(List.of("Network"))
+                .build();
+        CopyJob job = CopyJob.builder()
+                .id(UUID.randomUUID())
+                .assessmentId(assessmentId)
+                .templateId(templateId)
+                .status(CopyJobStatus.QUEUED)
+                .request(request)
+                .totalSource(2)
+                .build();
+
+        when(assessmentRepository.existsById(assessmentId)).thenReturn(true);
+        when(templateRepository.findById(templateId)).thenReturn(Optional.of(template));
+        when(criterionRepository.countByTemplateId(templateId)).thenReturn(2L);
+        when(copyJobRepository.save(any(CopyJob.class))).thenReturn(job);
+        when(copyJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(criterionRepository.findChunkAfter(eq(templateId), any(UUID.class), eq(2)))
+                .thenReturn(List.of(included, excluded))
+                .thenReturn(List.of());
+        when(assessmentMapper.newItemFromCriterion(included)).thenReturn(new AssessmentItem());
+        when(itemBulkRepository.upsertItems(eq(assessmentId), anyList(), eq(false))).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        doAnswer(inv -> {
+            inv.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(copyJobExecutor).execute(any(Runnable.class));
+
+        log.info("STEP 2: Acting - Submitting and running the job inline");
+        copyJobService.submit(assessmentId, request);
+
+        log.info("STEP 3: Asserting final progress and status");
+        assertEquals(CopyJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getProcessed());
+        assertEquals(1, job.getCopied());
+        assertEquals(1, job.getFilteredOut());
+        assertEquals(0, job.getSkippedDuplicates());
+        assertEquals(excluded.getId(), job.getLastCriterionId());
+        assertEquals(1, job.getAttempts());
+    }
+}
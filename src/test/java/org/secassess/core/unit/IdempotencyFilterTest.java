@@ -0,0 +1,193 @@
+package org.secassess.core.unit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.filters.IdempotencyFilter;
+import org.secassess.core.idempotency.FallbackIdempotencyStore;
+import org.secassess.core.idempotency.IdempotencyStore;
+import org.secassess.core.idempotency.InMemoryIdempotencyStore;
+import org.slf4j.MDC;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+class IdempotencyFilterTest {
+
+    private static final String COPY_PATH = "/api/v1/assessments/" + UUID.randomUUID() + "/copy-from-template";
+    private static final String STATS_BODY = "{\"copied\":3,\"skippedDuplicates\":0,\"filteredOut\":1,\"totalSource\":4}";
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+
+        filter = new IdempotencyFilter(new InMemoryIdempotencyStore(),
+                Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofSeconds(5));
+        executions = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Idempotency: A retry with the same key should replay the stored response without re-executing")
+    void retry_ShouldReplayStoredResponse() throws Exception {
+        log.info("STEP 1: Acting - Sending the same copy request twice");
+        MockHttpServletResponse first = send("key-1", countingChain(HttpServletResponse.SC_OK, null));
+        MockHttpServletResponse second = send("key-1", countingChain(HttpServletResponse.SC_OK, null));
+
+        log.info("STEP 2: Asserting - One execution, identical bodies, replay header on the retry");
+        assertEquals(1, executions.get());
+        assertEquals(STATS_BODY, first.getContentAsString());
+        assertEquals(STATS_BODY, second.getContentAsString());
+        assertEquals(HttpServletResponse.SC_OK, second.getStatus());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Idempotency: Server errors should release the key so a retry executes again")
+    void serverError_ShouldReleaseKey() throws Exception {
+        log.info("STEP 1: Acting - First attempt fails with 500, retry succeeds");
+        send("key-2", countingChain(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, null));
+        MockHttpServletResponse retry = send("key-2", countingChain(HttpServletResponse.SC_OK, null));
+
+        log.info("STEP 2: Asserting - Both attempts executed");
+        assertEquals(2, executions.get());
+        assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Idempotency: A concurrent duplicate should wait for the in-flight execution")
+    void concurrentDuplicate_ShouldWaitForInFlightResult() throws Exception {
+        log.info("STEP 1: Arranging a first request that blocks inside the chain");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = countingChain(HttpServletResponse.SC_OK, () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        });
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> sendUnchecked("key-3", blockingChain));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        log.info("STEP 2: Acting - Sending the duplicate while the first is in flight, then unblocking");
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> sendUnchecked("key-3", countingChain(HttpServletResponse.SC_OK, null)));
+        Thread.sleep(100);
+        release.countDown();
+
+        log.info("STEP 3: Asserting - The duplicate replayed the first result");
+        assertEquals(STATS_BODY, first.get(5, TimeUnit.SECONDS).getContentAsString());
+        MockHttpServletResponse replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertEquals(STATS_BODY, replayed.getContentAsString());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Idempotency: A key reused with a different body should be rejected instead of replayed")
+    void reusedKeyWithDifferentBody_ShouldBeRejected() throws Exception {
+        log.info("STEP 1: Acting - Sending two different copy requests under one key");
+        MockHttpServletResponse first = send("key-5", "{\"overwriteExisting\":false}", countingChain(HttpServletResponse.SC_OK, null));
+        MockHttpServletResponse second = send("key-5", "{\"overwriteExisting\":true}", countingChain(HttpServletResponse.SC_OK, null));
+        MockHttpServletResponse retry = send("key-5", "{\"overwriteExisting\":false}", countingChain(HttpServletResponse.SC_OK, null));
+
+        log.info("STEP 2: Asserting - The mismatch got 422, the true retry was replayed");
+        assertEquals(HttpServletResponse.SC_OK, first.getStatus());
+        assertEquals(422, second.getStatus());
+        assertNull(second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Idempotency: An unreachable shared store should fall back to node-local keys")
+    void unreachableStore_ShouldFallBackToNodeLocalKeys() throws Exception {
+        log.info("STEP 1: Arranging a shared store that fails every call");
+        IdempotencyStore unreachable = mock(IdempotencyStore.class);
+        DataAccessResourceFailureException outage = new DataAccessResourceFailureException("Connection refused");
+        when(unreachable.tryAcquire(anyString(), any())).thenThrow(outage);
+        when(unreachable.awaitResult(anyString(), any())).thenThrow(outage);
+        doThrow(outage).when(unreachable).complete(anyString(), any(), any());
+        filter = new IdempotencyFilter(new FallbackIdempotencyStore(unreachable, new InMemoryIdempotencyStore()),
+                Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        log.info("STEP 2: Acting - Sending the same copy request twice");
+        MockHttpServletResponse first = send("key-4", countingChain(HttpServletResponse.SC_OK, null));
+        MockHttpServletResponse second = send("key-4", countingChain(HttpServletResponse.SC_OK, null));
+
+        log.info("STEP 3: Asserting - No server error, and the retry was replayed from the node-local store");
+        assertEquals(HttpServletResponse.SC_OK, first.getStatus());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    private MockHttpServletResponse send(String key, FilterChain chain) throws Exception {
+        return send(key, "{}", chain);
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", COPY_PATH);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse sendUnchecked(String key, FilterChain chain) {
+        try {
+            return send(key, chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private FilterChain countingChain(int status, BlockingStep step) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            if (step != null) {
+                try {
+                    step.run();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.getWriter().write(STATS_BODY);
+        };
+    }
+
+    @FunctionalInterface
+    private interface BlockingStep {
+        void run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,207 @@
+package org.secassess.core.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.autosave.ItemAutosaveBuffer;
+import org.secassess.core.dto.ItemScoreUpdateDto;
+import org.secassess.core.repository.AssessmentItemBulkRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+class ItemAutosaveBufferTest {
+
+    private AssessmentItemBulkRepository itemBulkRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private UUID assessmentId;
+    private UUID itemId;
+
+    @BeforeEach
+    void setUp() {
+        itemBulkRepository = mock(AssessmentItemBulkRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        assessmentId = UUID.randomUUID();
+        itemId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Autosave: Repeated saves of an item should be written once with the latest fields")
+    void offer_ShouldCoalesceEditsOfTheSameItem() {
+        ItemAutosaveBuffer buffer = buffer(Duration.ofHours(1), 100);
+        when(itemBulkRepository.updateScores(eq(assessmentId), anyList())).thenReturn(List.of(itemId));
+
+        assertTrue(buffer.offer(assessmentId, edit(itemId, 40, "Draft")));
+        assertTrue(buffer.offer(assessmentId, edit(itemId, 75, null)));
+        assertTrue(buffer.offer(assessmentId, edit(itemId, null, "Reviewed")));
+        assertEquals(1, buffer.backlog());
+
+        buffer.flushDue();
+        verify(itemBulkRepository, never()).updateScores(any(), anyList());
+
+        buffer.flushAssessment(assessmentId);
+        verify(itemBulkRepository).updateScores(assessmentId, List.of(edit(itemId, 75, "Reviewed")));
+        verify(eventPublisher).publishEvent(any(Object.class));
+        assertEquals(0, buffer.backlog());
+        assertEquals(2.0, meterRegistry.get("secassess.item.autosave.edits").tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("Autosave: Due edits should be flushed in one batch per assessment")
+    void flushDue_ShouldBatchPerAssessment() {
+        ItemAutosaveBuffer buffer = buffer(Duration.ZERO, 100);
+        UUID otherAssessment = UUID.randomUUID();
+        UUID secondItem = UUID.randomUUID();
+        UUID otherItem = UUID.randomUUID();
+        when(itemBulkRepository.updateScores(any(), anyList())).thenAnswer(invocation -> List.of());
+
+        buffer.offer(assessmentId, edit(itemId, 10, null));
+        buffer.offer(assessmentId, edit(secondItem, 20, null));
+        buffer.offer(otherAssessment, edit(otherItem, 30, null));
+        buffer.flushDue();
+
+        verify(itemBulkRepository).updateScores(assessmentId, List.of(edit(itemId, 10, null), edit(secondItem, 20, null)));
+        verify(itemBulkRepository).updateScores(otherAssessment, List.of(edit(otherItem, 30, null)));
+        assertEquals(0, buffer.backlog());
+    }
+
+    @Test
+    @DisplayName("Autosave: A failed flush should requeue its edits beneath newer ones")
+    void flush_ShouldRequeueOnFailure() {
+        ItemAutosaveBuffer buffer = buffer(Duration.ofHours(1), 100);
+        when(itemBulkRepository.updateScores(eq(assessmentId), anyList()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of(itemId));
+
+        buffer.offer(assessmentId, edit(itemId, 60, "Checked"));
+        buffer.flushAssessment(assessmentId);
+        assertEquals(1, buffer.backlog());
+        assertEquals(1.0, meterRegistry.get("secassess.item.autosave.flush.failures").counter().count());
+
+        buffer.offer(assessmentId, edit(itemId, 90, null));
+        buffer.flushAll();
+        verify(itemBulkRepository).updateScores(assessmentId, List.of(edit(itemId, 90, "Checked")));
+        assertEquals(0, buffer.backlog());
+    }
+
+    @Test
+    @DisplayName("Autosave: A full or disabled buffer should hand new items back to the caller")
+    void offer_ShouldRefuseWhenFullOrDisabled() {
+        ItemAutosaveBuffer full = buffer(Duration.ofHours(1), 1);
+        assertTrue(full.offer(assessmentId, edit(itemId, 10, null)));
+        assertFalse(full.offer(assessmentId, edit(UUID.randomUUID(), 20, null)));
+        assertTrue(full.offer(assessmentId, edit(itemId, 30, null)), "Pending items should still coalesce");
+
+        ItemAutosaveBuffer disabled = new ItemAutosaveBuffer(itemBulkRepository, eventPublisher,
+                mock(PlatformTransactionManager.class), meterRegistry, false, Duration.ZERO, 100, 4);
+        assertFalse(disabled.offer(assessmentId, edit(itemId, 10, null)));
+    }
+
+    @Test
+    @DisplayName("Autosave: Flushing for a read should be refused inside a transaction")
+    void flushAssessment_ShouldRefuseInsideTransaction() {
+        ItemAutosaveBuffer buffer = buffer(Duration.ofHours(1), 100);
+        buffer.offer(assessmentId, edit(itemId, 10, null));
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(IllegalStateException.class, () -> buffer.flushAssessment(assessmentId));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(itemBulkRepository, never()).updateScores(any(), anyList());
+        assertEquals(1, buffer.backlog());
+    }
+
+    @Test
+    @DisplayName("Autosave: A write-through of a rejected edit should wait for a flush of the same item under way")
+    void writeThrough_ShouldWaitForFlushInProgress() throws Exception {
+        ItemAutosaveBuffer buffer = buffer(Duration.ofHours(1), 1);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        List<ItemScoreUpdateDto> written = new CopyOnWriteArrayList<>();
+        when(itemBulkRepository.updateScores(eq(assessmentId), anyList())).thenAnswer(invocation -> {
+            if (flushStarted.getCount() > 0) {
+                flushStarted.countDown();
+                assertTrue(releaseFlush.await(5, TimeUnit.SECONDS));
+            }
+            written.addAll(invocation.getArgument(1));
+            return List.of(itemId);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            log.info("STEP 1: Holding a flush of the item's first edit inside its write");
+            buffer.offer(assessmentId, edit(itemId, 10, null));
+            Future<?> flush = executor.submit(() -> buffer.flushAssessment(assessmentId));
+            assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+
+            log.info("STEP 2: Filling the buffer so the next edit of the item is rejected and written through");
+            assertTrue(buffer.offer(UUID.randomUUID(), edit(UUID.randomUUID(), 5, null)));
+            assertFalse(buffer.offer(assessmentId, edit(itemId, 20, null)));
+            Future<List<UUID>> writeThrough = executor.submit(() -> buffer.writeThrough(assessmentId, edit(itemId, 20, null)));
+            assertThrows(TimeoutException.class, () -> writeThrough.get(200, TimeUnit.MILLISECONDS));
+
+            log.info("STEP 3: Asserting the write-through lands after the older edit");
+            releaseFlush.countDown();
+            flush.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of(itemId), writeThrough.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(edit(itemId, 10, null), edit(itemId, 20, null)), written);
+        } finally {
+            releaseFlush.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Autosave: A write-through should fold in a pending edit of the item and requeue it on rollback")
+    void writeThrough_ShouldFoldInPendingEdit() {
+        ItemAutosaveBuffer buffer = buffer(Duration.ofHours(1), 100);
+        when(itemBulkRepository.updateScores(eq(assessmentId), anyList())).thenReturn(List.of(itemId));
+        buffer.offer(assessmentId, edit(itemId, 60, "Checked"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.writeThrough(assessmentId, edit(itemId, 90, null));
+            verify(itemBulkRepository).updateScores(assessmentId, List.of(edit(itemId, 90, "Checked")));
+            assertEquals(0, buffer.backlog());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, buffer.backlog(), "The pending edit should survive a rolled back write-through");
+    }
+
+    private ItemAutosaveBuffer buffer(Duration window, int maxPending) {
+        return new ItemAutosaveBuffer(itemBulkRepository, eventPublisher, mock(PlatformTransactionManager.class),
+                meterRegistry, true, window, maxPending, 4);
+    }
+
+    private static ItemScoreUpdateDto edit(UUID itemId, Integer score, String notes) {
+        return ItemScoreUpdateDto.builder().itemId(itemId).score(score).notes(notes).build();
+    }
+}
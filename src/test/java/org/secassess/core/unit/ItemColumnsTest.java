@@ -0,0 +1,169 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.analytics.ItemColumns;
+import org.secassess.core.analytics.ItemHistogram;
+import org.secassess.core.analytics.ItemHistogramTask;
+import org.secassess.core.analytics.ItemSelection;
+import org.secassess.core.analytics.PortfolioRollup;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.ItemColumnRepository.ItemRow;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class ItemColumnsTest {
+
+    private static final List<String> SECTIONS = List.of("Auth", "Crypto", "Logging", "Network");
+
+    private ForkJoinPool pool;
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID otherOrganizationId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Columns: Parallel segment scans match a row-by-row recount for every filter")
+    void histogram_ShouldMatchRowByRowRecount() {
+        log.info("STEP 1: Building columns from 50000 generated items");
+        List<ItemRow> rows = generateRows(new Random(7), 500, 100);
+        ItemColumns.Builder builder = new ItemColumns.Builder();
+        rows.forEach(builder::add);
+        ItemColumns columns = builder.build();
+        log.info("Columns hold {} rows in {} bytes", columns.rows(), columns.footprintBytes());
+        assertEquals(50_000, columns.rows());
+
+        log.info("STEP 2: Comparing unfiltered and filtered histograms with a recount over the rows");
+        assertMatches(columns, rows, null, null, List.of(), List.of());
+        assertMatches(columns, rows, organizationId, null, List.of("Auth", "Network"), List.of(Severity.HIGH));
+        assertMatches(columns, rows, null, 3L, List.of(), List.of(Severity.LOW, Severity.MEDIUM));
+    }
+
+    @Test
+    @DisplayName("Columns: Replacing an assessment drops its old rows and keeps every other row")
+    void replaceAssessments_ShouldSwapOnlyChangedAssessments() {
+        log.info("STEP 1: Building columns for 20 assessments");
+        Random random = new Random(11);
+        List<ItemRow> rows = generateRows(random, 20, 10);
+        ItemColumns.Builder builder = new ItemColumns.Builder();
+        rows.forEach(builder::add);
+        ItemColumns columns = builder.build();
+
+        log.info("STEP 2: Replacing the first assessment's 10 items with 3 items in a new section");
+        UUID changed = rows.get(0).assessmentId();
+        List<ItemRow> reloaded = List.of(
+                new ItemRow(changed, 1L, organizationId, "Physical", Severity.HIGH, 100, 80),
+                new ItemRow(changed, 1L, organizationId, "Physical", Severity.HIGH, 50, null),
+                new ItemRow(changed, 1L, organizationId, "Auth", Severity.LOW, 100, 100));
+        ItemColumns replaced = columns.replaceAssessments(Set.of(changed), reloaded);
+
+        List<ItemRow> expected = new ArrayList<>(rows.stream().filter(row -> !row.assessmentId().equals(changed)).toList());
+        expected.addAll(reloaded);
+        assertEquals(expected.size(), replaced.rows());
+        assertMatches(replaced, expected, null, null, List.of(), List.of());
+        assertMatches(replaced, expected, null, null, List.of("Physical"), List.of());
+        assertEquals(200, columns.rows());
+    }
+
+    @Test
+    @DisplayName("Columns: Dictionaries should be compacted once deleted assessments leave enough dead codes")
+    void replaceAssessments_ShouldCompactSparseDictionaries() {
+        log.info("STEP 1: Building columns for 20 assessments plus two with sections of their own");
+        List<ItemRow> rows = generateRows(new Random(13), 20, 10);
+        UUID physical = UUID.randomUUID();
+        UUID legacy = UUID.randomUUID();
+        rows.add(new ItemRow(physical, 9L, otherOrganizationId, "Physical", Severity.HIGH, 100, 70));
+        rows.add(new ItemRow(legacy, 9L, otherOrganizationId, "Legacy", Severity.LOW, 100, null));
+        ItemColumns.Builder builder = new ItemColumns.Builder();
+        rows.forEach(builder::add);
+        ItemColumns columns = builder.build();
+        assertEquals(6, columns.sectionCount());
+
+        log.info("STEP 2: Deleting one of them leaves a dead section code below the threshold");
+        ItemColumns oneDeleted = columns.replaceAssessments(Set.of(physical), List.of());
+        assertEquals(6, oneDeleted.sectionCount());
+
+        log.info("STEP 3: Deleting the other passes the threshold and drops both dead sections");
+        ItemColumns compacted = oneDeleted.replaceAssessments(Set.of(legacy), List.of());
+        assertEquals(4, compacted.sectionCount());
+        assertTrue(compacted.footprintBytes() < oneDeleted.footprintBytes());
+
+        List<ItemRow> expected = rows.stream()
+                .filter(row -> !row.assessmentId().equals(physical) && !row.assessmentId().equals(legacy))
+                .toList();
+        assertEquals(expected.size(), compacted.rows());
+        assertMatches(compacted, expected, null, null, List.of(), List.of());
+        assertMatches(compacted, expected, organizationId, 2L, List.of("Crypto"), List.of(Severity.LOW));
+    }
+
+    private void assertMatches(ItemColumns columns, List<ItemRow> rows, UUID organization, Long project,
+                               List<String> sections, List<Severity> severities) {
+        ItemHistogram histogram = pool.invoke(new ItemHistogramTask(columns,
+                ItemSelection.resolve(columns, organization, project, sections, severities), 1000));
+
+        for (int group = 0; group < histogram.groups(); group++) {
+            String section = columns.sectionName(group / ItemColumns.SEVERITIES);
+            Severity severity = Severity.values()[group % ItemColumns.SEVERITIES];
+            List<ItemRow> matching = rows.stream()
+                    .filter(row -> row.section().equals(section) && row.severity() == severity)
+                    .filter(row -> organization == null || row.organizationId().equals(organization))
+                    .filter(row -> project == null || row.projectId() == project)
+                    .filter(row -> sections.isEmpty() || sections.contains(row.section()))
+                    .filter(row -> severities.isEmpty() || severities.contains(row.severity()))
+                    .toList();
+
+            long scored = matching.stream().filter(row -> row.score() != null).count();
+            long weightSum = matching.stream().filter(row -> row.score() != null).mapToLong(ItemRow::weightHundredths).sum();
+            long scoreSum = matching.stream().filter(row -> row.score() != null)
+                    .mapToLong(row -> (long) row.weightHundredths() * row.score()).sum();
+            long topBand = matching.stream().filter(row -> row.score() != null && row.score() >= 90).count();
+
+            assertEquals(matching.size(), histogram.items(group), section + "/" + severity);
+            assertEquals(scored, histogram.scored(group));
+            assertEquals(weightSum, histogram.scoredWeightSum(group));
+            assertEquals(scoreSum, histogram.weightedScoreSum(group));
+            assertEquals(topBand, histogram.band(group, PortfolioRollup.SCORE_BANDS - 1));
+        }
+    }
+
+    private List<ItemRow> generateRows(Random random, int assessments, int itemsPerAssessment) {
+        List<ItemRow> rows = new ArrayList<>();
+        for (int a = 0; a < assessments; a++) {
+            UUID assessmentId = UUID.randomUUID();
+            long projectId = 1 + a % 5;
+            UUID organization = projectId <= 3 ? organizationId : otherOrganizationId;
+            for (int i = 0; i < itemsPerAssessment; i++) {
+                rows.add(new ItemRow(assessmentId, projectId, organization,
+                        SECTIONS.get(random.nextInt(SECTIONS.size())),
+                        Severity.values()[random.nextInt(3)],
+                        random.nextInt(101),
+                        random.nextInt(4) == 0 ? null : random.nextInt(101)));
+            }
+        }
+        return rows;
+    }
+}
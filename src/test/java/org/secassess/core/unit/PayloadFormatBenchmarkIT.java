@@ -0,0 +1,54 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.dto.AssessmentDto;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Logs payload size and serialization time of each format for comparison between runs. Runs under failsafe with
+ * {@code mvn verify}, not in the unit suite; nothing about timing is asserted.
+ */
+@Slf4j
+class PayloadFormatBenchmarkIT {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    private final List<HttpMessageConverter<?>> converters = PayloadFormatTest.converters();
+
+    @Test
+    @DisplayName("Benchmark: Serialization time per format for an assessment and a page of assessments")
+    void measureFormats() throws Exception {
+        List<AssessmentDto> page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) page.add(PayloadFormatTest.assessment(50));
+
+        log.info("STEP 1: Measuring a single assessment with 300 items");
+        measureAll("AssessmentDto", PayloadFormatTest.assessment(300));
+
+        log.info("STEP 2: Measuring a page of 20 assessments with 50 items each");
+        measureAll("Page of 20", page);
+    }
+
+    private void measureAll(String payload, Object value) throws Exception {
+        long baselineBytes = -1;
+        for (MediaType format : PayloadFormatTest.FORMATS) {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) PayloadFormatTest.write(converters, value, format);
+
+            long bytes = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) bytes = PayloadFormatTest.write(converters, value, format).length;
+            double micros = (System.nanoTime() - start) / 1_000.0 / MEASURED_ROUNDS;
+
+            String ratio = baselineBytes > 0 ? String.format("%.0f%% of JSON", 100.0 * bytes / baselineBytes) : "baseline";
+            if (baselineBytes < 0) baselineBytes = bytes;
+            log.info("{} as {}: {} bytes ({}), {} us per serialization", payload, format, bytes, ratio,
+                    String.format("%.1f", micros));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.config.BinaryFormatConfig;
+import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentItemDto;
+import org.secassess.core.dto.CopyStatsResponseDto;
+import org.secassess.core.enums.AssessmentStatus;
+import org.secassess.core.enums.Severity;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the JSON, CBOR and Smile representations produced by the converters {@link BinaryFormatConfig} registers:
+ * every format round-trips the payload unchanged and the binary ones are smaller. Serialization times are measured
+ * separately by {@link PayloadFormatBenchmarkIT}, outside the unit suite.
+ */
+@Slf4j
+class PayloadFormatTest {
+
+    static final MediaType[] FORMATS = {
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, BinaryFormatConfig.APPLICATION_SMILE};
+
+    private static List<HttpMessageConverter<?>> converters;
+
+    @BeforeAll
+    static void setUpConverters() {
+        converters = converters();
+    }
+
+    @Test
+    @DisplayName("Payload formats: Binary formats should shrink a 300-item assessment and round-trip it unchanged")
+    void assessment_BinaryFormatsShouldBeSmallerAndLossless() throws Exception {
+        AssessmentDto assessment = assessment(300);
+
+        log.info("STEP 1: Writing a single assessment with 300 items in every format");
+        byte[] json = write(converters, assessment, MediaType.APPLICATION_JSON);
+        byte[] cbor = write(converters, assessment, MediaType.APPLICATION_CBOR);
+        byte[] smile = write(converters, assessment, BinaryFormatConfig.APPLICATION_SMILE);
+        log.info("AssessmentDto: JSON {} bytes, CBOR {} bytes, Smile {} bytes", json.length, cbor.length, smile.length);
+
+        log.info("STEP 2: Asserting size ordering and lossless round trips");
+        assertTrue(cbor.length < json.length);
+        assertTrue(smile.length < cbor.length, "Shared string values should make Smile the most compact");
+        assertEquals(assessment, read(json, AssessmentDto.class, MediaType.APPLICATION_JSON));
+        assertEquals(assessment, read(cbor, AssessmentDto.class, MediaType.APPLICATION_CBOR));
+        assertEquals(assessment, read(smile, AssessmentDto.class, BinaryFormatConfig.APPLICATION_SMILE));
+    }
+
+    @Test
+    @DisplayName("Payload formats: Binary formats should shrink a page of assessments and copy stats")
+    void pageAndStats_BinaryFormatsShouldBeSmaller() throws Exception {
+        List<AssessmentDto> page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) page.add(assessment(50));
+        CopyStatsResponseDto stats = CopyStatsResponseDto.builder()
+                .copied(240).skippedDuplicates(12).filteredOut(48).totalSource(300).build();
+
+        log.info("STEP 1: Comparing a page of 20 assessments with 50 items each");
+        int jsonPage = write(converters, page, MediaType.APPLICATION_JSON).length;
+        assertTrue(write(converters, page, MediaType.APPLICATION_CBOR).length < jsonPage);
+        assertTrue(write(converters, page, BinaryFormatConfig.APPLICATION_SMILE).length < jsonPage);
+
+        log.info("STEP 2: Comparing and round-tripping copy stats");
+        int jsonStats = write(converters, stats, MediaType.APPLICATION_JSON).length;
+        for (MediaType format : FORMATS) {
+            byte[] body = write(converters, stats, format);
+            if (!format.equals(MediaType.APPLICATION_JSON)) assertTrue(body.length < jsonStats);
+            assertEquals(stats, read(body, CopyStatsResponseDto.class, format));
+        }
+    }
+
+    /**
+     * The JSON converter followed by the ones {@link BinaryFormatConfig} appends, in the order Spring MVC sees them.
+     */
+    @SuppressWarnings("unchecked")
+    static List<HttpMessageConverter<?>> converters() {
+        ObjectProvider<Jackson2ObjectMapperBuilder> builders = mock(ObjectProvider.class);
+        when(builders.getObject()).thenAnswer(invocation -> Jackson2ObjectMapperBuilder.json());
+
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+        new BinaryFormatConfig(builders).extendMessageConverters(converters);
+        return converters;
+    }
+
+    /**
+     * Writes the value with the first converter that accepts the media type, as content negotiation would.
+     */
+    @SuppressWarnings("unchecked")
+    static byte[] write(List<HttpMessageConverter<?>> converters, Object value, MediaType mediaType) throws IOException {
+        HttpMessageConverter<Object> converter = (HttpMessageConverter<Object>) converters.stream()
+                .filter(candidate -> candidate.canWrite(value.getClass(), mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No converter writes " + mediaType));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(value, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T read(byte[] body, Class<T> type, MediaType mediaType) throws IOException {
+        HttpMessageConverter<T> converter = (HttpMessageConverter<T>) converters.stream()
+                .filter(candidate -> candidate.canRead(type, mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No converter reads " + mediaType));
+        MockHttpInputMessage input = new MockHttpInputMessage(body);
+        input.getHeaders().setContentType(mediaType);
+        return converter.read(type, input);
+    }
+
+    static AssessmentDto assessment(int items) {
+        String[] sections = {"Authentication", "Access Control", "Logging", "Encryption", "Network Security"};
+        List<AssessmentItemDto> itemDtos = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            itemDtos.add(AssessmentItemDto.builder()
+                    .id(UUID.randomUUID())
+                    .criterionRef(UUID.randomUUID())
+                    .section(sections[i % sections.length])
+                    .text("Criterion " + i + ": verify that the control is documented, implemented and reviewed "
+                            + "at least annually by the responsible owner")
+                    .severity(Severity.values()[i % Severity.values().length])
+                    .weight(new BigDecimal("0.50"))
+                    .score(i % 3 == 0 ? null : i % 5)
+                    .notes(i % 4 == 0 ? "Evidence pending" : null)
+                    .build());
+        }
+        return AssessmentDto.builder()
+                .id(UUID.randomUUID())
+                .projectId(1L)
+                .title("Annual Security Review")
+                .status(AssessmentStatus.IN_PROGRESS)
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .updatedAt(Instant.parse("2024-02-01T00:00:00Z"))
+                .version(42L)
+                .items(itemDtos)
+                .build();
+    }
+}
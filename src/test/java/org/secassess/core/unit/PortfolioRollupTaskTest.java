@@ -0,0 +1,105 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.analytics.PortfolioRollup;
+import org.secassess.core.analytics.PortfolioRollupTask;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.secassess.core.repository.PortfolioRollupRepository.AssessmentBuckets;
+import org.secassess.core.scoring.ScoreCalculator;
+import org.slf4j.MDC;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class PortfolioRollupTaskTest {
+
+    private ScoreCalculator calculator;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+        calculator = new ScoreCalculator(new BigDecimal("1"), new BigDecimal("2"), new BigDecimal("3"));
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Rollup: Fork/join partitions merge to the same totals as a sequential pass")
+    void compute_ShouldMatchSequentialRollup() {
+        log.info("STEP 1: Generating 2000 assessments over 7 projects");
+        Random random = new Random(42);
+        List<AssessmentBuckets> assessments = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            List<ScoreBucket> buckets = new ArrayList<>();
+            for (String section : List.of("Auth", "Crypto", "Logging")) {
+                Severity severity = Severity.values()[random.nextInt(3)];
+                int total = 1 + random.nextInt(5);
+                int scored = random.nextInt(total + 1);
+                buckets.add(new ScoreBucket(section, severity, total, scored,
+                        BigDecimal.valueOf(scored), BigDecimal.valueOf(scored * (long) random.nextInt(101))));
+            }
+            assessments.add(new AssessmentBuckets(UUID.randomUUID(), 1 + random.nextInt(7), buckets));
+        }
+
+        log.info("STEP 2: Rolling up with partitions of 16 and in one pass");
+        Map<Long, PortfolioRollup> parallel = pool.invoke(new PortfolioRollupTask(assessments, calculator, 16));
+        Map<Long, PortfolioRollup> sequential = new PortfolioRollupTask(assessments, calculator, assessments.size()).invoke();
+
+        log.info("STEP 3: Comparing every project's totals");
+        assertEquals(sequential.keySet(), parallel.keySet());
+        sequential.forEach((projectId, expected) -> {
+            PortfolioRollup actual = parallel.get(projectId);
+            assertEquals(expected.getAssessments(), actual.getAssessments());
+            assertEquals(expected.getScoredAssessments(), actual.getScoredAssessments());
+            assertEquals(expected.getTotalItems(), actual.getTotalItems());
+            assertEquals(expected.getScoredItems(), actual.getScoredItems());
+            assertEquals(expected.getUnscoredHighItems(), actual.getUnscoredHighItems());
+            assertEquals(0, expected.getWeightedScoreSum().compareTo(actual.getWeightedScoreSum()));
+            assertEquals(0, expected.getWeightSum().compareTo(actual.getWeightSum()));
+            assertArrayEquals(expected.getScoreHistogram(), actual.getScoreHistogram());
+            assertEquals(expected.getSections().keySet(), actual.getSections().keySet());
+        });
+        assertEquals(2000, parallel.values().stream().mapToInt(PortfolioRollup::getAssessments).sum());
+    }
+
+    @Test
+    @DisplayName("Rollup: Assessments land in their score band and unscored HIGH items are counted")
+    void addAssessment_ShouldBandScoresAndCountUnscoredHighItems() {
+        log.info("STEP 1: Adding an assessment scored 100, one scored 35 with 2 unscored HIGH items, and an unscored one");
+        PortfolioRollup rollup = new PortfolioRollup();
+        rollup.addAssessment(List.of(new ScoreBucket("Auth", Severity.LOW, 1, 1, BigDecimal.ONE, new BigDecimal("100"))),
+                calculator);
+        rollup.addAssessment(List.of(new ScoreBucket("Auth", Severity.HIGH, 3, 1, BigDecimal.ONE, new BigDecimal("35"))),
+                calculator);
+        rollup.addAssessment(List.of(), calculator);
+
+        log.info("STEP 2: Verifying bands and counters");
+        assertEquals(3, rollup.getAssessments());
+        assertEquals(2, rollup.getScoredAssessments());
+        assertEquals(2, rollup.getUnscoredHighItems());
+        assertEquals(1, rollup.getScoreHistogram()[3]);
+        assertEquals(1, rollup.getScoreHistogram()[PortfolioRollup.SCORE_BANDS - 1]);
+        assertEquals(0, new BigDecimal("4").compareTo(rollup.getSections().get("Auth").getWeightSum()));
+    }
+}
@@ -0,0 +1,244 @@
+package org.secassess.core.unit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.cache.InMemoryCacheInvalidationBus;
+import org.secassess.core.cache.ResponseBytesCache;
+import org.secassess.core.cache.ResponseBytesCacheAdvice;
+import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.dto.AssessmentItemDto;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the cache the way the controller and the response body advice do, on mock servlet requests.
+ */
+@Slf4j
+class ResponseBytesCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private final MappingJackson2HttpMessageConverter jsonConverter =
+            new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+
+    private AssessmentListCache listCache;
+    private MeterRegistry registry;
+    private ResponseBytesCache responseCache;
+    private ResponseBytesCacheAdvice advice;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+
+        listCache = new AssessmentListCache(new ConcurrentMapCacheManager(), new InMemoryCacheInvalidationBus(), 100);
+        loads = new AtomicInteger();
+        createCache(DataSize.ofMegabytes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("ResponseCache: A hit replays the stored gzip body without loading or serializing")
+    void writeCached_ShouldReplayGzipBody() throws Exception {
+        String group = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 7);
+
+        log.info("STEP 1: First request misses, is serialized and stored gzip-compressed");
+        MockHttpServletResponse first = serve(group, () -> assessment(40), "gzip, deflate");
+        assertEquals(1, loads.get());
+        assertEquals("gzip", first.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gunzip(first.getContentAsByteArray()).contains("\"title\":\"Cached Assessment\""));
+
+        log.info("STEP 2: Second request is written from the cache");
+        MockHttpServletResponse second = serve(group, () -> assessment(40), "gzip");
+        assertEquals(1, loads.get(), "A hit must not load the assessment");
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals("gzip", second.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ETAG, second.getHeader(HttpHeaders.ETAG));
+        assertEquals(ResponseBytesCache.VARY, second.getHeader(HttpHeaders.VARY));
+
+        log.info("STEP 3: A client without gzip gets its own identity-encoded entry");
+        MockHttpServletResponse plain = serve(group, () -> assessment(40), "gzip;q=0, identity");
+        assertEquals(2, loads.get());
+        assertNull(plain.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(1.0, registry.get("secassess.response.cache.requests").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("ResponseCache: A list body is dropped together with its list cache page")
+    void listGroup_ShouldFollowListCacheEvictions() throws Exception {
+        UUID assessmentId = UUID.randomUUID();
+        AssessmentFilterDto filter = new AssessmentFilterDto();
+        PageRequest pageable = PageRequest.of(0, 10);
+        String group = ResponseBytesCache.listGroup(filter, pageable);
+        Supplier<Object> pageLoader = () -> listCache.get(filter, pageable, () -> new PageImpl<>(List.of(
+                AssessmentDto.builder().id(assessmentId).title("Listed").build())));
+
+        log.info("STEP 1: The page is loaded through the list cache and its body stored");
+        serve(group, pageLoader, null);
+        serve(group, pageLoader, null);
+        assertEquals(1, loads.get());
+
+        log.info("STEP 2: A committed write to an assessment on the page evicts it");
+        listCache.onAssessmentsChanged(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
+
+        log.info("STEP 3: The next request renders the page again");
+        serve(group, pageLoader, null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("ResponseCache: The byte budget evicts the least recently used body")
+    void put_ShouldEvictLeastRecentlyUsedWithinBudget() throws Exception {
+        long bodySize = jsonConverter.getObjectMapper().writeValueAsBytes(assessment(10)).length;
+        DataSize budget = DataSize.ofBytes(2 * bodySize + bodySize / 2);
+        createCache(budget);
+        String a = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+        String b = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+        String c = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+
+        log.info("STEP 1: Storing A and B, then reading A so B becomes the eldest");
+        serve(a, () -> assessment(10), null);
+        serve(b, () -> assessment(10), null);
+        serve(a, () -> assessment(10), null);
+        assertEquals(2, loads.get());
+
+        log.info("STEP 2: Storing C must evict B to stay within {} bytes", budget.toBytes());
+        serve(c, () -> assessment(10), null);
+        assertTrue(responseCache.usedBytes() <= budget.toBytes());
+        assertEquals(1.0, registry.get("secassess.response.cache.evictions").tag("cause", "size").counter().count());
+
+        log.info("STEP 3: A is still cached, B has to be rendered again");
+        serve(a, () -> assessment(10), null);
+        assertEquals(3, loads.get());
+        serve(b, () -> assessment(10), null);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("ResponseCache: Only an eviction of the same group while loading keeps the body out")
+    void put_ShouldOnlySkipBodiesOfGroupsEvictedWhileLoading() throws Exception {
+        String group = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+        String otherGroup = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+
+        log.info("STEP 1: An eviction of another group during the load does not affect this one");
+        serve(group, () -> {
+            responseCache.evictGroup(otherGroup);
+            return assessment(10);
+        }, null);
+        serve(group, () -> assessment(10), null);
+        assertEquals(1, loads.get());
+
+        log.info("STEP 2: An eviction of the group itself during the load keeps the rendered body out");
+        String evictedGroup = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+        serve(evictedGroup, () -> {
+            responseCache.evictGroup(evictedGroup);
+            return assessment(10);
+        }, null);
+        serve(evictedGroup, () -> assessment(10), null);
+        assertEquals(3, loads.get());
+
+        log.info("STEP 3: A full clear during the load keeps any body out");
+        String clearedGroup = ResponseBytesCache.assessmentGroup(UUID.randomUUID(), 1);
+        serve(clearedGroup, () -> {
+            responseCache.clear();
+            return assessment(10);
+        }, null);
+        serve(clearedGroup, () -> assessment(10), null);
+        assertEquals(5, loads.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void createCache(DataSize maxSize) {
+        registry = new SimpleMeterRegistry();
+        responseCache = new ResponseBytesCache(listCache, registry, maxSize, DataSize.ofMegabytes(1),
+                DataSize.ofBytes(512), Duration.ofMinutes(5));
+
+        RequestMappingHandlerAdapter handlerAdapter = new RequestMappingHandlerAdapter();
+        handlerAdapter.setMessageConverters(List.of(jsonConverter));
+        ObjectProvider<RequestMappingHandlerAdapter> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(handlerAdapter);
+        advice = new ResponseBytesCacheAdvice(responseCache, provider);
+    }
+
+    /**
+     * One GET as the controller handles it: a cache lookup, then on a miss the loader and the advice.
+     */
+    private MockHttpServletResponse serve(String group, Supplier<Object> loader, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/assessments");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        if (acceptEncoding != null) request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        if (!responseCache.writeCached(group, new ServletWebRequest(request, response))) {
+            loads.incrementAndGet();
+            ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+            outputMessage.getHeaders().setETag(ETAG);
+            Object remaining = advice.beforeBodyWrite(loader.get(), null, MediaType.APPLICATION_JSON,
+                    MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(request), outputMessage);
+            assertNull(remaining, "The advice should write the body itself");
+            outputMessage.flush();
+        }
+        return response;
+    }
+
+    private static AssessmentDto assessment(int items) {
+        List<AssessmentItemDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            itemDtos.add(AssessmentItemDto.builder()
+                    .section("Section " + (i % 3)).text("Criterion " + i)
+                    .severity(Severity.MEDIUM).weight(BigDecimal.ONE).build());
+        }
+        return AssessmentDto.builder().title("Cached Assessment").items(itemDtos).build();
+    }
+
+    private static String gunzip(byte[] bytes) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.dto.AssessmentScoreDto;
+import org.secassess.core.dto.ScoreBreakdownDto;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.repository.AssessmentScoreBucketRepository.ScoreBucket;
+import org.secassess.core.scoring.ScoreCalculator;
+import org.slf4j.MDC;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class ScoreCalculatorTest {
+
+    private ScoreCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+        calculator = new ScoreCalculator(new BigDecimal("1"), new BigDecimal("2"), new BigDecimal("3"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Score: Severity multipliers weight the overall, section and severity scores")
+    void score_ShouldApplySeverityMultipliers() {
+        log.info("STEP 1: Auth has a HIGH item scored 100 and a LOW item scored 40, Logging a MEDIUM item scored 70");
+        List<ScoreBucket> buckets = List.of(
+                bucket("Auth", Severity.HIGH, 1, 1, "1.00", "100.00"),
+                bucket("Auth", Severity.LOW, 2, 1, "0.50", "20.00"),
+                bucket("Logging", Severity.MEDIUM, 1, 1, "1.00", "70.00"));
+
+        log.info("STEP 2: Scoring");
+        AssessmentScoreDto score = calculator.score(UUID.randomUUID(), buckets);
+
+        log.info("STEP 3: Overall = (3*100 + 1*20 + 2*70) / (3*1 + 1*0.5 + 2*1) = 460 / 5.5");
+        assertEquals(new BigDecimal("83.64"), score.getWeightedScore());
+        assertEquals(4, score.getTotalItems());
+        assertEquals(1, score.getUnscoredItems());
+
+        log.info("STEP 4: Auth = (300 + 20) / 3.5, Logging keeps its own score");
+        assertEquals(List.of("Auth", "Logging"), score.getSections().stream().map(ScoreBreakdownDto::getKey).toList());
+        assertEquals(new BigDecimal("91.43"), score.getSections().get(0).getWeightedScore());
+        assertEquals(new BigDecimal("70.00"), score.getSections().get(1).getWeightedScore());
+        assertEquals(new BigDecimal("40.00"), score.getSeverities().get(0).getWeightedScore());
+    }
+
+    @Test
+    @DisplayName("Score: An assessment without scored items has no score")
+    void score_ShouldBeNullWithoutScoredItems() {
+        log.info("STEP 1: Scoring an unscored bucket and an empty assessment");
+        AssessmentScoreDto unscored = calculator.score(UUID.randomUUID(),
+                List.of(bucket("Auth", Severity.HIGH, 3, 0, "0.00", "0.00")));
+        AssessmentScoreDto empty = calculator.score(UUID.randomUUID(), List.of());
+
+        log.info("STEP 2: Asserting null scores and item counts");
+        assertNull(unscored.getWeightedScore());
+        assertEquals(3, unscored.getUnscoredItems());
+        assertNull(unscored.getSections().get(0).getWeightedScore());
+        assertNull(empty.getWeightedScore());
+        assertTrue(empty.getSections().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Score: Non-positive multipliers are rejected at startup")
+    void constructor_ShouldRejectNonPositiveMultiplier() {
+        log.info("STEP 1: Configuring a zero multiplier for MEDIUM");
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScoreCalculator(BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ONE));
+    }
+
+    private static ScoreBucket bucket(String section, Severity severity, int total, int scored,
+                                      String scoredWeightSum, String weightedScoreSum) {
+        return new ScoreBucket(section, severity, total, scored,
+                new BigDecimal(scoredWeightSum), new BigDecimal(weightedScoreSum));
+    }
+}
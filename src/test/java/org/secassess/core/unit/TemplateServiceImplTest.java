@@ -0,0 +1,120 @@
+package org.secassess.core.unit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.secassess.core.cache.TemplateSnapshotCache;
+import org.secassess.core.dto.TemplateSyncDto;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.enums.TemplateSyncStatus;
+import org.secassess.core.exception.BusinessValidationException;
+import org.secassess.core.mapper.AssessmentMapper;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.repository.AssessmentTemplateRepository;
+import org.secassess.core.repository.TemplateSyncRepository;
+import org.secassess.core.repository.TemplateSyncRepository.SyncCounts;
+import org.secassess.core.service.TemplateServiceImpl;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class TemplateServiceImplTest {
+
+    @Mock private AssessmentTemplateRepository templateRepository;
+    @Mock private TemplateSyncRepository syncRepository;
+    @Mock private TemplateSnapshotCache snapshotCache;
+    @Mock private AssessmentMapper assessmentMapper;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TaskExecutor copyJobExecutor;
+
+    @InjectMocks private TemplateServiceImpl templateService;
+
+    private UUID templateId;
+    private AssessmentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+
+        ReflectionTestUtils.setField(templateService, "batchSize", 2);
+        templateId = UUID.randomUUID();
+        template = new AssessmentTemplate();
+        template.setId(templateId);
+        template.setStatus(TemplateStatus.PUBLISHED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Sync: Should reject non-PUBLISHED templates")
+    void sync_ShouldFail_WhenTemplateNotPublished() {
+        log.info("STEP 1: Arranging DRAFT template");
+        template.setStatus(TemplateStatus.DRAFT);
+        when(templateRepository.findById(templateId)).thenReturn(Optional.of(template));
+
+        log.info("STEP 2: Asserting BusinessValidationException and no background work");
+        assertThrows(BusinessValidationException.class, () -> templateService.syncToLatest(templateId));
+        verifyNoInteractions(copyJobExecutor);
+    }
+
+    @Test
+    @DisplayName("Sync: Should apply the delta batch by batch until no assessment lags behind")
+    void sync_ShouldProcessBatchesUpToLatestChange() {
+        log.info("STEP 1: Arranging 3 lagging assessments split into 2 batches");
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+
+        when(templateRepository.findById(templateId)).thenReturn(Optional.of(template));
+        when(syncRepository.findLatestChangeId(templateId)).thenReturn(42L);
+        when(syncRepository.findAssessmentsBehind(eq(templateId), eq(42L), any(UUID.class), eq(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third))
+                .thenReturn(List.of());
+        when(syncRepository.applyDelta(eq(templateId), anyList(), eq(42L))).thenReturn(new SyncCounts(1, 0, 0, 1));
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        doAnswer(inv -> {
+            inv.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(copyJobExecutor).execute(any(Runnable.class));
+        when(assessmentMapper.toTemplateSyncDto(template, 42L, TemplateSyncStatus.QUEUED))
+                .thenReturn(TemplateSyncDto.builder().targetChangeId(42L).status(TemplateSyncStatus.QUEUED).build());
+
+        log.info("STEP 2: Acting - Running the sync inline");
+        TemplateSyncDto sync = templateService.syncToLatest(templateId);
+
+        log.info("STEP 3: Asserting keyset batches and target watermark");
+        assertEquals(TemplateSyncStatus.QUEUED, sync.getStatus());
+        verify(syncRepository).applyDelta(templateId, List.of(first, second), 42L);
+        verify(syncRepository).applyDelta(templateId, List.of(third), 42L);
+        verify(syncRepository).findAssessmentsBehind(templateId, 42L, second, 2);
+        verify(syncRepository).findAssessmentsBehind(templateId, 42L, third, 2);
+    }
+}
@@ -0,0 +1,174 @@
+package org.secassess.core.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.InMemoryCacheInvalidationBus;
+import org.secassess.core.cache.TemplateSnapshot;
+import org.secassess.core.cache.TemplateSnapshotCache;
+import org.secassess.core.enums.Severity;
+import org.secassess.core.enums.TemplateStatus;
+import org.secassess.core.events.TemplateChangedEvent;
+import org.secassess.core.model.AssessmentTemplate;
+import org.secassess.core.model.TemplateCriterion;
+import org.secassess.core.repository.TemplateSyncRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+class TemplateSnapshotCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TemplateSyncRepository templateSyncRepository;
+    private InMemoryCacheInvalidationBus bus;
+    private TemplateSnapshotCache cache;
+    private AssessmentTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        templateSyncRepository = mock(TemplateSyncRepository.class);
+        bus = new InMemoryCacheInvalidationBus();
+        cache = newCache();
+
+        template = new AssessmentTemplate();
+        template.setId(UUID.randomUUID());
+        template.setVersion("1.0");
+        template.setStatus(TemplateStatus.PUBLISHED);
+        template.setCriteria(new ArrayList<>(List.of(
+                criterion("Access Control", Severity.HIGH, "1.00"),
+                criterion("Access Control", Severity.MEDIUM, "0.35"),
+                criterion("Logging", Severity.LOW, "0.50"))));
+    }
+
+    @Test
+    @DisplayName("Snapshot: Should round-trip criteria through the compact arrays")
+    void snapshot_ShouldPreserveCriterionFields() {
+        TemplateSnapshot snapshot = cache.get(template);
+
+        assertEquals(3, snapshot.size());
+        TemplateCriterion second = template.getCriteria().get(1);
+        assertEquals(second.getId(), snapshot.criterionId(1));
+        assertEquals(Severity.MEDIUM, snapshot.severity(1));
+        assertEquals(new BigDecimal("0.35"), snapshot.weight(1));
+        assertSame(snapshot.section(0), snapshot.section(1), "Sections should share one dictionary entry");
+        assertEquals(snapshot.sectionCode(0), snapshot.sectionCode(1));
+        assertTrue(snapshot.getEstimatedBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("Snapshot: Section mask should select criteria by dictionary code and count them without scanning")
+    void sectionMask_ShouldCountSelectedCriteria() {
+        TemplateSnapshot snapshot = cache.get(template);
+
+        BitSet mask = snapshot.sectionMask(List.of("Access Control", "Unknown Section"));
+
+        assertEquals(2, snapshot.sectionCount());
+        assertEquals(1, mask.cardinality(), "Sections absent from the template should be ignored");
+        assertEquals(2, snapshot.criterionCountInMask(mask));
+        assertTrue(mask.get(snapshot.sectionCode(0)));
+        assertFalse(mask.get(snapshot.sectionCode(2)));
+        assertNull(snapshot.sectionMask(List.of()), "An empty filter should include every section");
+        assertEquals(3, snapshot.criterionCountInMask(null));
+    }
+
+    @Test
+    @DisplayName("Cache: Second lookup of a PUBLISHED template should be a hit")
+    void get_ShouldHitOnSecondLookup() {
+        TemplateSnapshot first = cache.get(template);
+        TemplateSnapshot second = cache.get(template);
+
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("secassess.template.snapshot.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("secassess.template.snapshot.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Cache: A template change should invalidate its snapshot")
+    void templateChange_ShouldEvictSnapshot() {
+        TemplateSnapshot first = cache.get(template);
+
+        template.getCriteria().add(criterion("Encryption", Severity.HIGH, "1.00"));
+        cache.onTemplateChanged(new TemplateChangedEvent(template.getId()));
+        TemplateSnapshot rebuilt = cache.get(template);
+
+        assertNotSame(first, rebuilt);
+        assertEquals(4, rebuilt.size());
+        assertEquals(0L, cache.estimatedBytes() - rebuilt.getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("Cache: A template change committed on another node should invalidate the local snapshot")
+    void remoteTemplateChange_ShouldEvictSnapshot() {
+        TemplateSnapshotCache otherNode = newCache();
+        TemplateSnapshot first = cache.get(template);
+
+        log.info("STEP 1: Committing a template change on the other node");
+        otherNode.onTemplateChanged(new TemplateChangedEvent(template.getId()));
+
+        log.info("STEP 2: Asserting the local snapshot is rebuilt");
+        assertNotSame(first, cache.get(template));
+    }
+
+    @Test
+    @DisplayName("Cache: Criteria changed outside the application should be evicted from the change log")
+    void changeLogPoll_ShouldEvictChangedTemplates() {
+        when(templateSyncRepository.findLogHead()).thenReturn(10L);
+        cache.pollChangeLog();
+        TemplateSnapshot first = cache.get(template);
+
+        log.info("STEP 1: Polling a log without new entries keeps the snapshot");
+        when(templateSyncRepository.findTemplatesChangedAfter(10L)).thenReturn(Map.of());
+        cache.pollChangeLog();
+        assertSame(first, cache.get(template));
+
+        log.info("STEP 2: A change logged by the trigger evicts the snapshot");
+        when(templateSyncRepository.findTemplatesChangedAfter(10L)).thenReturn(Map.of(template.getId(), 12L));
+        cache.pollChangeLog();
+        TemplateSnapshot rebuilt = cache.get(template);
+        assertNotSame(first, rebuilt);
+
+        log.info("STEP 3: The next poll rereads the previous window, then moves past it");
+        when(templateSyncRepository.findTemplatesChangedAfter(10L)).thenReturn(Map.of());
+        cache.pollChangeLog();
+        assertSame(rebuilt, cache.get(template));
+        when(templateSyncRepository.findTemplatesChangedAfter(12L)).thenReturn(Map.of(template.getId(), 13L));
+        cache.pollChangeLog();
+        assertNotSame(rebuilt, cache.get(template));
+    }
+
+    @Test
+    @DisplayName("Cache: DRAFT templates should never be cached")
+    void get_ShouldNotCacheDraftTemplates() {
+        template.setStatus(TemplateStatus.DRAFT);
+
+        assertNotSame(cache.get(template), cache.get(template));
+        assertEquals(0L, cache.estimatedBytes());
+    }
+
+    private TemplateSnapshotCache newCache() {
+        return new TemplateSnapshotCache(templateSyncRepository, bus, meterRegistry, 16, Duration.ofMinutes(30));
+    }
+
+    private TemplateCriterion criterion(String section, Severity severity, String weight) {
+        return TemplateCriterion.builder()
+                .id(UUID.randomUUID())
+                .section(new String(section))
+                .text("Criterion in " + section)
+                .severity(severity)
+                .weight(new BigDecimal(weight))
+                .build();
+    }
+}
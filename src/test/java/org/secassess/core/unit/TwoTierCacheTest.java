@@ -0,0 +1,131 @@
+package org.secassess.core.unit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.secassess.core.cache.AssessmentListCache;
+import org.secassess.core.cache.CacheInvalidationBus;
+import org.secassess.core.cache.InMemoryCacheInvalidationBus;
+import org.secassess.core.cache.TwoTierCacheManager;
+import org.secassess.core.dto.AssessmentDto;
+import org.secassess.core.dto.AssessmentFilterDto;
+import org.secassess.core.events.AssessmentsChangedEvent;
+import org.slf4j.MDC;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two nodes sharing a map-backed L2 and an in-memory bus stand in for replicas sharing Redis and its pub/sub channel.
+ */
+@Slf4j
+class TwoTierCacheTest {
+
+    private ConcurrentMapCacheManager sharedL2;
+    private CacheInvalidationBus bus;
+    private MeterRegistry registryA;
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("correlationId", "UNIT-" + UUID.randomUUID().toString().substring(0, 8));
+        log.info("--- Starting New Test Case ---");
+
+        sharedL2 = new ConcurrentMapCacheManager();
+        bus = new InMemoryCacheInvalidationBus();
+        registryA = new SimpleMeterRegistry();
+        nodeA = new TwoTierCacheManager(sharedL2, bus, registryA, 1_000_000, Duration.ofMinutes(5));
+        nodeB = new TwoTierCacheManager(sharedL2, bus, new SimpleMeterRegistry(), 1_000_000, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.info("--- Finished Test Case ---");
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("TwoTier: A write on one node drops the other node's L1 copy")
+    void put_ShouldInvalidateOtherNodesL1() {
+        log.info("STEP 1: Node A writes, node B reads through to L2 and keeps an L1 copy");
+        Cache cacheA = nodeA.getCache("assessments");
+        Cache cacheB = nodeB.getCache("assessments");
+        cacheA.put("k", "v1");
+        assertEquals("v1", cacheB.get("k", String.class));
+
+        log.info("STEP 2: Node A overwrites the key");
+        cacheA.put("k", "v2");
+
+        log.info("STEP 3: Node B must not serve its stale L1 copy");
+        assertEquals("v2", cacheB.get("k", String.class));
+
+        log.info("STEP 4: An eviction on node B reaches node A's L1");
+        cacheB.evict("k");
+        assertNull(cacheA.get("k"));
+    }
+
+    @Test
+    @DisplayName("TwoTier: Repeated reads are served by L1 and reported per tier")
+    void get_ShouldCountHitsPerTier() {
+        log.info("STEP 1: Seeding L2 directly, as another node would");
+        sharedL2.getCache("assessments").put("k", "v");
+        Cache cacheA = nodeA.getCache("assessments");
+
+        log.info("STEP 2: First read misses L1 and hits L2, the next two hit L1");
+        cacheA.get("k");
+        cacheA.get("k");
+        cacheA.get("k");
+
+        log.info("STEP 3: Asserting per-tier request counters and hit ratio");
+        assertEquals(2.0, registryA.get("secassess.cache.requests")
+                .tags("cache", "assessments", "tier", "l1", "result", "hit").functionCounter().count());
+        assertEquals(1.0, registryA.get("secassess.cache.requests")
+                .tags("cache", "assessments", "tier", "l2", "result", "hit").functionCounter().count());
+        assertEquals(2.0 / 3.0, registryA.get("secassess.cache.hit.ratio")
+                .tags("cache", "assessments", "tier", "l1").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("TwoTier: Tag evictions on one node evict list pages another node indexed")
+    void listCache_ShouldEvictPagesIndexedByOtherNode() {
+        log.info("STEP 1: Node B caches a page containing one assessment");
+        AssessmentListCache listA = new AssessmentListCache(nodeA, bus, 100);
+        AssessmentListCache listB = new AssessmentListCache(nodeB, bus, 100);
+        UUID assessmentId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        PageRequest pageable = PageRequest.of(0, 10);
+        AssessmentFilterDto filter = new AssessmentFilterDto();
+
+        listB.get(filter, pageable, () -> page(assessmentId, loads));
+        listA.get(filter, pageable, () -> page(assessmentId, loads));
+        assertEquals(1, loads.get(), "Node A should adopt the page node B put into the shared tier");
+
+        log.info("STEP 2: A write to the assessment commits on node A");
+        listA.onAssessmentsChanged(AssessmentsChangedEvent.itemsChanged(List.of(assessmentId)));
+
+        log.info("STEP 3: Both nodes must reload the page");
+        listB.get(filter, pageable, () -> page(assessmentId, loads));
+        assertEquals(2, loads.get());
+        listA.get(filter, pageable, () -> page(assessmentId, loads));
+        assertEquals(2, loads.get());
+    }
+
+    private static Page<AssessmentDto> page(UUID assessmentId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of(AssessmentDto.builder().id(assessmentId).title("Audit").build()));
+    }
+}